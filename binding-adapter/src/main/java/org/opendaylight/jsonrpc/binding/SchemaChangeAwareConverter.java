@@ -7,7 +7,10 @@
  */
 package org.opendaylight.jsonrpc.binding;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.eclipse.jdt.annotation.NonNull;
@@ -15,17 +18,26 @@ import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@link Supplier} of {@link JsonRpcCodecFactory} that is up-to-date with changes in global
- * {@link EffectiveModelContext}.
+ * {@link EffectiveModelContext}. Codecs of modules not affected by change, which were in use, are created again within
+ * new context when factory is replaced, codecs of all RPCs are then created in background.
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since Aug 25, 2018
  */
 public final class SchemaChangeAwareConverter
         implements Supplier<JsonRpcCodecFactory>, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaChangeAwareConverter.class);
     private final AtomicReference<JsonRpcCodecFactory> converter = new AtomicReference<>(null);
+    private final ExecutorService warmupExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("jsonrpc-codec-warmup-%d")
+            .setDaemon(true)
+            .build());
     private Registration registration;
 
     public SchemaChangeAwareConverter(@NonNull DOMSchemaService domSchemaService) {
@@ -34,13 +46,36 @@ public final class SchemaChangeAwareConverter
         refresh(domSchemaService.getGlobalContext());
     }
 
-    private void refresh(EffectiveModelContext schemaContext) {
-        converter.set(new JsonRpcCodecFactory(schemaContext));
+    private synchronized void refresh(EffectiveModelContext schemaContext) {
+        final JsonRpcCodecFactory previous = converter.get();
+        final JsonRpcCodecFactory factory = previous == null ? new JsonRpcCodecFactory(schemaContext)
+                : previous.withContext(schemaContext);
+        converter.set(factory);
+        warmupExecutor.execute(() -> warmUp(factory, schemaContext));
+    }
+
+    /*
+     * Create codecs of all RPCs ahead of their first use, unless factory is replaced in the meantime.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void warmUp(JsonRpcCodecFactory factory, EffectiveModelContext schemaContext) {
+        for (final RpcDefinition rpc : schemaContext.getOperations()) {
+            if (converter.get() != factory) {
+                return;
+            }
+            try {
+                factory.rpcInputCodec(rpc);
+                factory.rpcOutputCodec(rpc);
+            } catch (RuntimeException e) {
+                LOG.debug("Unable to create codec of RPC {}", rpc.getQName(), e);
+            }
+        }
     }
 
     @Override
     public void close() throws Exception {
         registration.close();
+        warmupExecutor.shutdownNow();
     }
 
     @Override
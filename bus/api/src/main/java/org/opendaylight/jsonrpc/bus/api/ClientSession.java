@@ -26,4 +26,14 @@ public interface ClientSession extends BusSession {
      * @return true if connection is read, false otherwise
      */
     boolean isReady();
+
+    /**
+     * Number of times connection of this session was established so far. Change of this value means that connection
+     * was lost and re-established, so anything sent by remote peer in between was missed.
+     *
+     * @return number of established connections, 0 if session does not track them
+     */
+    default long connectionCount() {
+        return 0;
+    }
 }
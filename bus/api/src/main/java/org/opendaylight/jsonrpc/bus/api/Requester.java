@@ -25,4 +25,14 @@ public interface Requester extends ClientSession {
      * @throws RecoverableTransportException when underlying transport is not ready
      */
     Future<String> send(String message);
+
+    /**
+     * Flag to indicate that this requester is able to handle multiple outstanding requests at same time. Callers of
+     * such requester should wait for {@link Future} returned from {@link #send(String)} rather than serialize requests.
+     *
+     * @return true if concurrent requests are supported, false otherwise
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
 }
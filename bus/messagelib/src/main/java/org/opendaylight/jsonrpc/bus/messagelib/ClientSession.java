@@ -20,4 +20,14 @@ public interface ClientSession extends BaseSession {
      * Block caller until this session is ready to talk to remote endpoint.
      */
     void await();
+
+    /**
+     * Number of times connection of this session was established so far.
+     *
+     * @return number of established connections, 0 if session does not track them
+     * @see org.opendaylight.jsonrpc.bus.api.ClientSession#connectionCount()
+     */
+    default long connectionCount() {
+        return 0;
+    }
 }
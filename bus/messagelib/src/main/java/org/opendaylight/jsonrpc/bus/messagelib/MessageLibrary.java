@@ -94,7 +94,8 @@ public class MessageLibrary implements AutoCloseable, Consumer<AutoCloseable> {
 
             case SUB:
                 session = new SubscriberSessionImpl(MessageLibrary.this, factory,
-                        (NotificationMessageHandler) key.handler(), "", key.uri());
+                        (NotificationMessageHandler) key.handler(),
+                        Util.queryParamValue(key.uri(), MessageLibraryConstants.PARAM_TOPIC, ""), key.uri());
                 break;
 
             default:
@@ -119,7 +120,8 @@ public class MessageLibrary implements AutoCloseable, Consumer<AutoCloseable> {
      * previous attempt to obtain subscriber on same endpoint, cached instance is
      * returned instead (unless it was closed already or skipCahce is set to true).
      *
-     * @param uri URI of remote endpoint where publisher is listening
+     * @param uri URI of remote endpoint where publisher is listening, optionally with topic to subscribe to in
+     *            {@value MessageLibraryConstants#PARAM_TOPIC} query parameter
      * @param handler instance of {@link NotificationMessageHandler} which will
      *            be invoked for every published message
      * @param skipCache flag to indicate that new session will be created regardless
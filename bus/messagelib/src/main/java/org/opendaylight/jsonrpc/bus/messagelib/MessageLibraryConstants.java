@@ -49,6 +49,11 @@ public final class MessageLibraryConstants {
      */
     public static final String PARAM_PROXY_RETRY_DELAY = "proxyRetryDelay";
 
+    /**
+     * Name of query parameter used to specify topic which subscriber subscribes to.
+     */
+    public static final String PARAM_TOPIC = "topic";
+
     private MessageLibraryConstants() {
         // prevent instantiation of this class
     }
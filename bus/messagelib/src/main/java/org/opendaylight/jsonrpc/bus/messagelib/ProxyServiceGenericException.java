@@ -16,16 +16,29 @@ package org.opendaylight.jsonrpc.bus.messagelib;
  */
 public class ProxyServiceGenericException extends RuntimeException {
     private static final long serialVersionUID = 7955465706793696600L;
+    private final int code;
 
     public ProxyServiceGenericException(String message) {
         super(message);
+        this.code = 0;
     }
 
     public ProxyServiceGenericException(String message, int code) {
         super("[code=" + code + "] " + message);
+        this.code = code;
     }
 
     public ProxyServiceGenericException(Throwable throwable) {
         super(throwable);
+        this.code = 0;
+    }
+
+    /**
+     * Error code sent by server, 0 if error did not originate from server response.
+     *
+     * @return error code
+     */
+    public int getCode() {
+        return code;
     }
 }
@@ -35,4 +35,14 @@ public interface PublisherSession extends BaseSession {
      * @param metadata additional metadata
      */
     void publish(String method, JsonElement params, JsonObject metadata);
+
+    /**
+     * Publish notification to subscribers of specific topic. Transports which do not support topics deliver
+     * notification to all subscribers.
+     *
+     * @param topic topic of notification
+     * @param method notification method
+     * @param params notification parameters
+     */
+    void publish(String topic, String method, Object params);
 }
@@ -53,4 +53,13 @@ public class PublisherSessionImpl extends AbstractSession implements PublisherSe
                 .build();
         publisher.publish(JsonRpcSerializer.toJson(msg));
     }
+
+    @Override
+    public void publish(String topic, String method, Object params) {
+        final JsonRpcNotificationMessage msg = JsonRpcNotificationMessage.builder()
+                .paramsFromObject(params)
+                .method(method)
+                .build();
+        publisher.publish(JsonRpcSerializer.toJson(msg), topic);
+    }
 }
@@ -8,6 +8,7 @@
  */
 package org.opendaylight.jsonrpc.bus.messagelib;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcBaseMessage;
 import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcReplyMessage;
@@ -62,6 +63,23 @@ public interface RequesterSession extends ClientSession {
      */
     JsonRpcReplyMessage sendRequestAndReadReply(String name, Object object, JsonObject metadata);
 
+    /**
+     * Send request without blocking caller. Returned future completes once reply is received, or fails when reply is
+     * not received within timeout of this session. Request which can't be sent because transport is not ready is
+     * retried according to {@link #retryCount()} and {@link #retryDelay()}. Reply is decoded and returned future is
+     * completed by thread of shared executor, never by transport thread, so it is safe to attach listeners using
+     * direct executor.
+     *
+     * <p>On transports which can't handle multiple outstanding requests, asynchronous requests are sent one at a
+     * time, in order of invocation. Such session should not be used for synchronous requests at same time.
+     *
+     * @param name The method to which this request is directed at.
+     * @param object Optional parameter.
+     * @param metadata Optional metadata.
+     * @return future of {@link JsonRpcReplyMessage}
+     */
+    ListenableFuture<JsonRpcReplyMessage> sendRequestAsync(String name, Object object, JsonObject metadata);
+
     /**
      * Get number of retry attempts after request is considered failed.
      *
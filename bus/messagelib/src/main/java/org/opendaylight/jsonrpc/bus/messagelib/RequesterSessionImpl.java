@@ -13,14 +13,27 @@ import static org.opendaylight.jsonrpc.bus.messagelib.MessageLibraryConstants.PA
 import static org.opendaylight.jsonrpc.bus.messagelib.MessageLibraryConstants.PARAM_PROXY_RETRY_DELAY;
 
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.gson.JsonObject;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.opendaylight.jsonrpc.bus.api.BusSessionFactory;
@@ -28,6 +41,7 @@ import org.opendaylight.jsonrpc.bus.api.MessageListener;
 import org.opendaylight.jsonrpc.bus.api.PeerContext;
 import org.opendaylight.jsonrpc.bus.api.RecoverableTransportException;
 import org.opendaylight.jsonrpc.bus.api.Requester;
+import org.opendaylight.jsonrpc.bus.api.UnrecoverableTransportException;
 import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcBaseMessage;
 import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcBaseMessage.JsonRpcMessageType;
 import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcReplyMessage;
@@ -44,13 +58,32 @@ import org.slf4j.LoggerFactory;
  */
 public final class RequesterSessionImpl extends AbstractSession implements MessageListener, RequesterSession {
     private static final Logger LOG = LoggerFactory.getLogger(RequesterSessionImpl.class);
+    // timeouts and retries of asynchronous requests of all sessions
+    private static final Timer TIMER = new HashedWheelTimer(new DefaultThreadFactory("jsonrpc-requester-timer", true));
+    // replies of asynchronous requests are decoded and their futures completed here rather than on transport threads,
+    // so that continuations of callers can't stall I/O of other sessions
+    private static final int COMPLETION_THREADS = 8;
+    private static final ThreadPoolExecutor COMPLETION_EXECUTOR = new ThreadPoolExecutor(COMPLETION_THREADS,
+            COMPLETION_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new DefaultThreadFactory("jsonrpc-requester-completion", true));
+    // how long asynchronous request waits for transport to become ready before first attempt, same as proxy does
+    private static final long TRANSPORT_WAIT = 2000L;
+    private static final long TRANSPORT_POLL = 100L;
     private final Requester requester;
     private final ReplyMessageHandler handler;
     private final BlockingQueue<String> responseQueue = new LinkedBlockingDeque<>();
     private final AtomicReference<Future<?>> lastRequest = new AtomicReference<>(null);
+    // serializes request/reply exchanges on non-concurrent transports, so that session can be shared by threads
+    private final Object exchangeLock = new Object();
+    // last asynchronous exchange on non-concurrent transport, next one is sent once it completes
+    private ListenableFuture<?> lastExchange = Futures.immediateVoidFuture();
     private final int retryCount;
     private final long retryDelay;
 
+    static {
+        COMPLETION_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     public RequesterSessionImpl(Consumer<AutoCloseable> closeCallback, BusSessionFactory factory, String uri,
             ReplyMessageHandler handler) {
         super(closeCallback, uri);
@@ -133,18 +166,131 @@ public final class RequesterSessionImpl extends AbstractSession implements Messa
 
     @Override
     public JsonRpcReplyMessage sendRequestAndReadReply(String name, Object object, JsonObject metadata) {
-        sendRequest(name, object, metadata);
-        return readReply(read());
+        if (requester.isConcurrent()) {
+            // wait for reply to this particular request, so that concurrent callers don't need to take turns
+            return readReply(sendAndAwait(JsonRpcSerializer.toJson(createRequest(name, object, metadata))));
+        }
+        synchronized (exchangeLock) {
+            sendRequest(name, object, metadata);
+            return readReply(read());
+        }
+    }
+
+    private String sendAndAwait(String message) {
+        LOG.debug("Sending request : {}", message);
+        final Future<String> future = requester.send(message);
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MessageLibraryException(e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new MessageLibraryTimeoutException(
+                    String.format("Message was not received within %d milliseconds", timeout));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RecoverableTransportException) {
+                throw (RecoverableTransportException) e.getCause();
+            }
+            throw new MessageLibraryException(e.getCause());
+        }
+    }
+
+    @Override
+    public ListenableFuture<JsonRpcReplyMessage> sendRequestAsync(String name, Object object, JsonObject metadata) {
+        final String message = JsonRpcSerializer.toJson(createRequest(name, object, metadata));
+        if (requester.isConcurrent()) {
+            return exchange(message);
+        }
+        synchronized (exchangeLock) {
+            final ListenableFuture<JsonRpcReplyMessage> result = Futures.whenAllComplete(lastExchange)
+                    .callAsync(() -> exchange(message), MoreExecutors.directExecutor());
+            lastExchange = result;
+            return result;
+        }
+    }
+
+    private ListenableFuture<JsonRpcReplyMessage> exchange(String message) {
+        final SettableFuture<String> result = SettableFuture.create();
+        exchangeWhenReady(message, result, System.currentTimeMillis() + TRANSPORT_WAIT);
+        return Futures.whenAllComplete(result).callAsync(() -> decodeReply(result), COMPLETION_EXECUTOR);
+    }
+
+    /*
+     * Failure of request is propagated as is, getDone() wraps it in ExecutionException, which callAsync() unwraps.
+     */
+    private ListenableFuture<JsonRpcReplyMessage> decodeReply(ListenableFuture<String> result)
+            throws ExecutionException {
+        return Futures.immediateFuture(readReply(Futures.getDone(result)));
+    }
+
+    private void exchangeWhenReady(String message, SettableFuture<String> result, long deadline) {
+        if (requester.isReady() || System.currentTimeMillis() >= deadline) {
+            exchange(message, result, retryCount);
+        } else {
+            TIMER.newTimeout(t -> exchangeWhenReady(message, result, deadline), TRANSPORT_POLL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void exchange(String message, SettableFuture<String> result, int retries) {
+        LOG.debug("Sending request : {}", message);
+        final Future<String> future;
+        try {
+            future = requester.send(message);
+        } catch (RecoverableTransportException e) {
+            retryOrFail(message, result, retries, e);
+            return;
+        } catch (RuntimeException e) {
+            result.setException(e);
+            return;
+        }
+        final Timeout timer = TIMER.newTimeout(t -> {
+            if (result.setException(new MessageLibraryTimeoutException(
+                    String.format("Message was not received within %d milliseconds", timeout)))) {
+                future.cancel(true);
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        future.addListener((GenericFutureListener<Future<String>>) f -> {
+            timer.cancel();
+            if (result.isDone()) {
+                return;
+            }
+            if (f.isSuccess()) {
+                result.set(f.getNow());
+            } else if (f.cause() instanceof RecoverableTransportException) {
+                retryOrFail(message, result, retries, (RecoverableTransportException) f.cause());
+            } else {
+                result.setException(new MessageLibraryException(f.cause()));
+            }
+        });
+    }
+
+    private void retryOrFail(String message, SettableFuture<String> result, int retries,
+            RecoverableTransportException cause) {
+        if (retries > 0) {
+            LOG.debug("Request to {} failed, will retry ({}/{})", requester, retryCount - retries + 1, retryCount,
+                    cause);
+            TIMER.newTimeout(t -> exchange(message, result, retries - 1), retryDelay, TimeUnit.MILLISECONDS);
+        } else {
+            result.setException(new UnrecoverableTransportException(
+                    "Request failed after " + retryCount + " tries", cause));
+        }
     }
 
     @Override
     public void sendRequest(String method, Object params, JsonObject metadata) {
-        sendMessage(JsonRpcRequestMessage.builder()
+        sendMessage(createRequest(method, params, metadata));
+    }
+
+    private JsonRpcRequestMessage createRequest(String method, Object params, JsonObject metadata) {
+        return JsonRpcRequestMessage.builder()
                 .idFromIntValue(nextId())
                 .method(method)
                 .paramsFromObject(params)
                 .metadata(metadata)
-                .build());
+                .build();
     }
 
     @Override
@@ -36,4 +36,9 @@ public class SubscriberSessionImpl extends AbstractSession implements Subscriber
     public boolean isConnectionReady() {
         return subscriber.isReady();
     }
+
+    @Override
+    public long connectionCount() {
+        return subscriber.connectionCount();
+    }
 }
@@ -198,6 +198,23 @@ public final class Util {
         }
     }
 
+    /**
+     * Get value of query parameter from URI.
+     *
+     * @param uri URI to get parameter value from
+     * @param queryParamName query parameter name
+     * @param defaultValue value to return if parameter is not present in URI
+     * @return value of query parameter or default value
+     */
+    public static String queryParamValue(String uri, String queryParamName, String defaultValue) {
+        try {
+            final String value = tokenizeQuery(new URI(uri).getQuery()).get(queryParamName);
+            return value != null ? value : defaultValue;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
     /**
      * Inject query parameter with value into URI, if it not exists. Multi-valued query parameters are not supported.
      *
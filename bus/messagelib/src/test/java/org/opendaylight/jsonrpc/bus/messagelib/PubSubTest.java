@@ -7,11 +7,15 @@
  */
 package org.opendaylight.jsonrpc.bus.messagelib;
 
+import static org.junit.Assert.assertEquals;
+
 import com.google.gson.JsonObject;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -75,4 +79,20 @@ public class PubSubTest {
         latch.await();
         pub.close();
     }
+
+    @Test(timeout = 15_000)
+    public void testTopic() throws Exception {
+        final int port = TestHelper.getFreeTcpPort();
+        final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        final PublisherSession pub = ml.publisher(TestHelper.getBindUri(transport, port), true);
+        final SubscriberSession sub = ml.subscriber(TestHelper.getConnectUri(transport, port) + "?topic=topic1",
+            notification -> received.add(notification.getMethod()), true);
+        sub.await();
+        pub.publish("topic1", "first", new JsonObject());
+        // not delivered, subscriber is subscribed to other topic
+        pub.publish("topic2", "second", new JsonObject());
+        assertEquals("first", received.take());
+        sub.close();
+        pub.close();
+    }
 }
@@ -7,15 +7,24 @@
  */
 package org.opendaylight.jsonrpc.bus.messagelib;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcReplyMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,4 +88,59 @@ public class ReqRepTest {
         req.close();
         rep.close();
     }
+
+    @Test
+    public void testAsync() throws Exception {
+        final int count = 50;
+        final int port = TestHelper.getFreeTcpPort();
+        final RequesterSession req = ml.requester(TestHelper.getConnectUri(transport, port),
+                NoopReplyMessageHandler.INSTANCE, true);
+        final ResponderSession rep = ml.responder(TestHelper.getBindUri(transport, port),
+            (request, replyBuilder) -> replyBuilder.result(request.getParams()), true);
+        req.await();
+        // all requests are issued before any reply is awaited
+        final List<ListenableFuture<JsonRpcReplyMessage>> replies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            replies.add(req.sendRequestAsync("test", i, null));
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, replies.get(i).get(10, TimeUnit.SECONDS).getResult().getAsInt());
+        }
+
+        req.close();
+        rep.close();
+    }
+
+    @Test
+    public void testAsyncCompletedOffTransportThread() throws Exception {
+        final int port = TestHelper.getFreeTcpPort();
+        // reply is held back until listener is attached, so that listener is not invoked by caller
+        final CountDownLatch attached = new CountDownLatch(1);
+        final RequesterSession req = ml.requester(TestHelper.getConnectUri(transport, port),
+                NoopReplyMessageHandler.INSTANCE, true);
+        final ResponderSession rep = ml.responder(TestHelper.getBindUri(transport, port),
+            (request, replyBuilder) -> {
+                try {
+                    attached.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                replyBuilder.result(request.getParams());
+            }, true);
+        req.await();
+        final AtomicReference<String> thread = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ListenableFuture<JsonRpcReplyMessage> reply = req.sendRequestAsync("test", 1, null);
+        reply.addListener(() -> {
+            thread.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, MoreExecutors.directExecutor());
+        attached.countDown();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, reply.get().getResult().getAsInt());
+        assertTrue(thread.get(), thread.get().startsWith("jsonrpc-requester-completion"));
+
+        req.close();
+        rep.close();
+    }
 }
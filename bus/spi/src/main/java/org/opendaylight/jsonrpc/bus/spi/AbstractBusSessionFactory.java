@@ -10,8 +10,6 @@ package org.opendaylight.jsonrpc.bus.spi;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.lang.ref.WeakReference;
 import java.net.URI;
@@ -49,9 +47,10 @@ public abstract class AbstractBusSessionFactory implements BusSessionFactory {
     public AbstractBusSessionFactory(final String name, final EventLoopConfiguration config,
             final SecurityService securityService) {
         this.name = name;
-        serverBootstrap = new ServerBootstrap().channel(NioServerSocketChannel.class).group(config.bossGroup(),
-                config.workerGroup());
-        clientBootstrap = new Bootstrap().channel(NioSocketChannel.class).group(config.workerGroup());
+        serverBootstrap = new ServerBootstrap().channel(NativeTransport.serverChannelClass(config.bossGroup()))
+                .group(config.bossGroup(), config.workerGroup());
+        clientBootstrap = new Bootstrap().channel(NativeTransport.channelClass(config.workerGroup()))
+                .group(config.workerGroup());
         this.handlerExecutor = config.handlerGroup();
         this.securityService = securityService;
     }
@@ -11,6 +11,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.util.Objects;
 import org.opendaylight.jsonrpc.bus.api.SessionType;
@@ -35,6 +36,36 @@ public abstract class AbstractChannelInitializer extends ChannelInitializer<Sock
     protected void initChannel(SocketChannel ch) throws Exception {
         ch.attr(CommonConstants.ATTR_SOCKET_TYPE).set(socketType);
         ch.attr(CommonConstants.ATTR_HANDSHAKE_DONE).set(false);
+        if (!deferFlushConsolidation()) {
+            configureFlushConsolidation(ch);
+        }
+    }
+
+    /**
+     * Whether flush consolidation should not be configured when channel is initialized. Transports which rely on
+     * framing of handshake messages should return true and call {@link #configureFlushConsolidation(Channel)} once
+     * handshake is done.
+     *
+     * @return true to defer flush consolidation
+     */
+    protected boolean deferFlushConsolidation() {
+        return false;
+    }
+
+    /**
+     * Add handlers to consolidate flushes when enabled by {@link CommonConstants#FLUSH_CONSOLIDATION_LIMIT}. Handlers
+     * are placed at head of pipeline, so they operate on encoded data.
+     *
+     * @param channel {@link Channel} to configure
+     */
+    public static void configureFlushConsolidation(Channel channel) {
+        if (CommonConstants.FLUSH_CONSOLIDATION_LIMIT > 0) {
+            channel.pipeline()
+                    .addFirst(CommonConstants.HANDLER_FLUSH_CONSOLIDATION,
+                            new FlushConsolidationHandler(CommonConstants.FLUSH_CONSOLIDATION_LIMIT, true))
+                    .addFirst(CommonConstants.HANDLER_FLUSH_THRESHOLD,
+                            new FlushThresholdHandler(CommonConstants.FLUSH_CONSOLIDATION_THRESHOLD));
+        }
     }
 
     protected static void configureLogging(Channel channel) {
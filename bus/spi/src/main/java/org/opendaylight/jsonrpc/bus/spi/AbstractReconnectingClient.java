@@ -20,6 +20,7 @@ import io.netty.util.concurrent.ScheduledFuture;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.opendaylight.jsonrpc.bus.api.ClientSession;
 import org.opendaylight.jsonrpc.bus.api.SessionType;
@@ -42,6 +43,7 @@ public abstract class AbstractReconnectingClient extends AbstractSession impleme
     protected final AbstractChannelInitializer channelInitializer;
     private ReconnectStrategy reconnectStrategy;
     private final AtomicReference<Boolean> isFirstConnectionAttempt = new AtomicReference<>(true);
+    private final AtomicLong connectionCount = new AtomicLong();
     private static final Set<ConnectionState> RECONNECT_STATES = ImmutableSet.<ConnectionState>builder()
             .add(ConnectionState.DONE)
             .build();
@@ -113,6 +115,7 @@ public abstract class AbstractReconnectingClient extends AbstractSession impleme
             if (future.isSuccess()) {
                 // Connection established
                 channelFuture = future;
+                connectionCount.incrementAndGet();
                 changeConnectionState(ConnectionState.CONNECTED);
                 reconnectStrategy.reset();
                 future.channel().closeFuture().addListener(closeListener);
@@ -164,6 +167,11 @@ public abstract class AbstractReconnectingClient extends AbstractSession impleme
         return state == ConnectionState.CONNECTED && handshakeFinished();
     }
 
+    @Override
+    public long connectionCount() {
+        return connectionCount.get();
+    }
+
     protected boolean handshakeFinished() {
         return channelFuture.channel().attr(CommonConstants.ATTR_HANDSHAKE_DONE).get();
     }
@@ -7,10 +7,19 @@
  */
 package org.opendaylight.jsonrpc.bus.spi;
 
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.group.ChannelGroup;
+import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.opendaylight.jsonrpc.bus.api.ServerSession;
 import org.opendaylight.jsonrpc.bus.api.SessionType;
+import org.opendaylight.jsonrpc.bus.api.UriParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Server-based session type (publisher, responder).
@@ -19,13 +28,53 @@ import org.opendaylight.jsonrpc.bus.api.SessionType;
  * @since Mar 7, 2018
  */
 public abstract class AbstractServerSession extends AbstractSession implements ServerSession {
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractServerSession.class);
     protected final ChannelGroup channelGroup;
+    // listening channels other than one in channelFuture
+    private final List<Channel> extraAcceptors = new CopyOnWriteArrayList<>();
 
     public AbstractServerSession(String uri, int defaultPort, ChannelGroup channelGroup, SessionType sessionType) {
         super(uri, defaultPort, sessionType);
         this.channelGroup = Objects.requireNonNull(channelGroup);
     }
 
+    /**
+     * Bind listening socket(s) to address of this session. When URI option {@link CommonConstants#OPT_ACCEPTORS} is
+     * greater than 1 and transport supports SO_REUSEPORT (native transport, or NIO transport on platforms where JDK
+     * supports it), that many listening sockets are bound to same port with SO_REUSEPORT, so that kernel spreads
+     * incoming connections among them (and their event loops). Otherwise single socket is bound.
+     *
+     * @param bootstrap configured {@link ServerBootstrap}
+     * @return {@link ChannelFuture} of first bound channel
+     */
+    protected ChannelFuture bind(ServerBootstrap bootstrap) {
+        final String value = UriParser.parse(uri.toString()).get(CommonConstants.OPT_ACCEPTORS);
+        int acceptors = value == null ? 1 : Math.max(1, Integer.parseInt(value));
+        if (acceptors > 1 && !NativeTransport.supportsReusePort(bootstrap.config().group())) {
+            LOG.warn("Multiple acceptors requested for {}, but transport does not support SO_REUSEPORT, binding single "
+                    + "socket", uri);
+            acceptors = 1;
+        }
+        if (acceptors == 1) {
+            return bootstrap.bind(address).syncUninterruptibly();
+        }
+        final ServerBootstrap reusePort = NativeTransport.reusePort(bootstrap.clone());
+        final ChannelFuture first = reusePort.bind(address).syncUninterruptibly();
+        // port could be assigned by OS, others must use the same
+        final InetSocketAddress bound = (InetSocketAddress) first.channel().localAddress();
+        try {
+            for (int i = 1; i < acceptors; i++) {
+                extraAcceptors.add(reusePort.bind(bound).syncUninterruptibly().channel());
+            }
+        } catch (RuntimeException e) {
+            closeAcceptors();
+            first.channel().close();
+            throw e;
+        }
+        LOG.debug("Bound {} acceptors to {}", acceptors, bound);
+        return first;
+    }
+
     @Override
     public void disconnectAll() {
         channelGroup.close();
@@ -34,6 +83,12 @@ public abstract class AbstractServerSession extends AbstractSession implements S
     @Override
     public void close() {
         disconnectAll();
+        closeAcceptors();
         super.close();
     }
+
+    private void closeAcceptors() {
+        extraAcceptors.forEach(ch -> ch.close().syncUninterruptibly());
+        extraAcceptors.clear();
+    }
 }
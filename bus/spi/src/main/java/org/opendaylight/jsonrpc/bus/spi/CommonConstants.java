@@ -26,6 +26,17 @@ import org.opendaylight.jsonrpc.bus.api.SessionType;
  */
 public final class CommonConstants {
     public static final boolean DEBUG_MODE;
+
+    /**
+     * Maximum number of flushes consolidated into single one, 0 (default) turns consolidation off. Within single
+     * event loop tick, flushes are consolidated regardless of this value.
+     */
+    public static final int FLUSH_CONSOLIDATION_LIMIT;
+
+    /**
+     * Number of bytes written since last flush, which will trigger flush regardless of consolidation.
+     */
+    public static final int FLUSH_CONSOLIDATION_THRESHOLD;
     /**
      * {@link LoggingHandler} is {@link Sharable}, so it is possible to reuse single instance.
      */
@@ -33,6 +44,10 @@ public final class CommonConstants {
 
     static {
         DEBUG_MODE = SystemPropertyUtil.getBoolean("org.opendaylight.jsonrpc.bus.debug", false);
+        FLUSH_CONSOLIDATION_LIMIT = Math.max(0,
+                SystemPropertyUtil.getInt("org.opendaylight.jsonrpc.bus.flushConsolidation", 0));
+        FLUSH_CONSOLIDATION_THRESHOLD = Math.max(1,
+                SystemPropertyUtil.getInt("org.opendaylight.jsonrpc.bus.flushThreshold", 64 * 1024));
         LOG_HANDLER = new LoggingHandler(LogLevel.INFO);
     }
 
@@ -69,9 +84,23 @@ public final class CommonConstants {
      */
     public static final AttributeKey<ChannelAuthentication> ATTR_AUTH_INFO = AttributeKey.valueOf(CommonConstants.class,
             "AUTH_INFO");
+    /**
+     * Topic which subscriber connected over publisher's {@link Channel} subscribed to. Not set until subscription is
+     * received, see {@link TopicChannelMatcher}.
+     */
+    public static final AttributeKey<String> ATTR_PUBSUB_TOPIC = AttributeKey.valueOf(CommonConstants.class,
+            "PUBSUB_TOPIC");
+    /**
+     * URI option of server sessions to set number of listening sockets bound to same port. Requires transport
+     * with SO_REUSEPORT support, see {@link NativeTransport#supportsReusePort(io.netty.channel.EventLoopGroup)}.
+     */
+    public static final String OPT_ACCEPTORS = "acceptors";
+
     public static final String HANDLER_CONN_TRACKER = "conn-tracker";
     public static final String HANDLER_LOGGING = "logging";
     public static final String HANDLER_LISTENER = "listener-adapter";
     public static final String HANDLER_CODEC = "codec";
     public static final String HANDLER_SSL_INFO = "ssl-info";
+    public static final String HANDLER_FLUSH_CONSOLIDATION = "flush-consolidation";
+    public static final String HANDLER_FLUSH_THRESHOLD = "flush-threshold";
 }
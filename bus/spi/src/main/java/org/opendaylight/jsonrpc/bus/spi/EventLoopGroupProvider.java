@@ -10,7 +10,6 @@ package org.opendaylight.jsonrpc.bus.spi;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
-import io.netty.channel.nio.NioIoHandler;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.SystemPropertyUtil;
@@ -29,7 +28,7 @@ public final class EventLoopGroupProvider {
 
     static {
         SHARED_GROUP = new MultiThreadIoEventLoopGroup(SystemPropertyUtil.getInt("jsonrpc.eventloop.size", 12),
-            NioIoHandler.newFactory());
+            NativeTransport.ioHandlerFactory(SystemPropertyUtil.getBoolean("jsonrpc.eventloop.native", false)));
         HANDLER_GROUP = new DefaultEventExecutorGroup(SystemPropertyUtil.getInt("jsonrpc.eventloop.size", 12));
         CONFIG = new DefaultEventLoopConfiguration(SHARED_GROUP, SHARED_GROUP, HANDLER_GROUP);
     }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.spi;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+/**
+ * Companion of {@link FlushConsolidationHandler}, which must be placed in front of it (closer to head of pipeline).
+ * Counts bytes written since last flush and flushes immediately once given threshold is reached, so that amount of
+ * data held back by consolidation stays bounded.
+ */
+final class FlushThresholdHandler extends ChannelDuplexHandler {
+    private final int threshold;
+    private long pending;
+
+    FlushThresholdHandler(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        final long size = size(msg);
+        ctx.write(msg, promise);
+        pending += size;
+        if (pending >= threshold) {
+            flush(ctx);
+        }
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        pending = 0;
+        ctx.flush();
+    }
+
+    private static long size(Object msg) {
+        if (msg instanceof ByteBuf buf) {
+            return buf.readableBytes();
+        }
+        if (msg instanceof ByteBufHolder holder) {
+            return holder.content().readableBytes();
+        }
+        return 0;
+    }
+}
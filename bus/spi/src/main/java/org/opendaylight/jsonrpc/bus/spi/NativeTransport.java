@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.spi;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoEventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioChannelOption;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.UnixChannelOption;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selection of channel implementation. Native epoll transport is used when requested and available on current
+ * platform, otherwise NIO transport is used. Channel classes are selected based on type of {@link EventLoopGroup}, as
+ * channels can only be registered with event loops of matching type.
+ */
+public final class NativeTransport {
+    private static final Logger LOG = LoggerFactory.getLogger(NativeTransport.class);
+    private static final boolean NIO_REUSE_PORT = nioSupportsReusePort();
+
+    private NativeTransport() {
+        // utility class
+    }
+
+    /**
+     * Check if native epoll transport is available on current platform.
+     *
+     * @return true if native transport can be used
+     */
+    public static boolean isAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    /**
+     * Get {@link IoHandlerFactory} to create event loop group with.
+     *
+     * @param preferNative whether to use native transport, if available
+     * @return {@link IoHandlerFactory}
+     */
+    public static IoHandlerFactory ioHandlerFactory(boolean preferNative) {
+        if (preferNative) {
+            if (isAvailable()) {
+                return EpollIoHandler.newFactory();
+            }
+            LOG.warn("Native transport is not available, falling back to NIO", Epoll.unavailabilityCause());
+        }
+        return NioIoHandler.newFactory();
+    }
+
+    /**
+     * Check if given {@link EventLoopGroup} serves native channels.
+     *
+     * @param group {@link EventLoopGroup} to check
+     * @return true if group is backed by native transport
+     */
+    public static boolean isNative(EventLoopGroup group) {
+        return group instanceof IoEventLoopGroup ioGroup && ioGroup.isIoType(EpollIoHandler.class);
+    }
+
+    /**
+     * Get class of server channel compatible with given {@link EventLoopGroup}.
+     *
+     * @param group {@link EventLoopGroup} which will accept connections
+     * @return server channel class
+     */
+    public static Class<? extends ServerChannel> serverChannelClass(EventLoopGroup group) {
+        return isNative(group) ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    /**
+     * Get class of client channel compatible with given {@link EventLoopGroup}.
+     *
+     * @param group {@link EventLoopGroup} which will serve connections
+     * @return channel class
+     */
+    public static Class<? extends SocketChannel> channelClass(EventLoopGroup group) {
+        return isNative(group) ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    /**
+     * Check if server channels of given {@link EventLoopGroup} can bind same port multiple times using SO_REUSEPORT.
+     * Native transport always supports it, NIO transport when JDK supports it on current platform.
+     *
+     * @param group {@link EventLoopGroup} which will accept connections
+     * @return true if SO_REUSEPORT can be set
+     */
+    public static boolean supportsReusePort(EventLoopGroup group) {
+        return isNative(group) || NIO_REUSE_PORT;
+    }
+
+    /**
+     * Enable SO_REUSEPORT on server channels created by given {@link ServerBootstrap}. Caller must check
+     * {@link #supportsReusePort(EventLoopGroup)} first.
+     *
+     * @param bootstrap {@link ServerBootstrap} to enable SO_REUSEPORT on
+     * @return same {@link ServerBootstrap}
+     */
+    public static ServerBootstrap reusePort(ServerBootstrap bootstrap) {
+        return isNative(bootstrap.config().group()) ? bootstrap.option(UnixChannelOption.SO_REUSEPORT, true)
+                : bootstrap.option(NioChannelOption.of(StandardSocketOptions.SO_REUSEPORT), true);
+    }
+
+    private static boolean nioSupportsReusePort() {
+        try (ServerSocketChannel channel = ServerSocketChannel.open()) {
+            return channel.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+        } catch (IOException e) {
+            LOG.debug("Unable to determine SO_REUSEPORT support of NIO transport", e);
+            return false;
+        }
+    }
+}
@@ -8,7 +8,7 @@
 package org.opendaylight.jsonrpc.bus.spi;
 
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
 import java.util.Map;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -18,12 +18,13 @@ import org.osgi.service.component.annotations.Deactivate;
  * Source of {@link EventLoopGroup}s for {@link SCRIntegration}.
  */
 @Component(factory = SCREventLoopGroup.FACTORY_NAME, service = EventLoopGroup.class)
-public final class SCREventLoopGroup extends NioEventLoopGroup {
+public final class SCREventLoopGroup extends MultiThreadIoEventLoopGroup {
     static final String FACTORY_NAME = "org.opendaylight.jsonrpc.bus.spi.SCREventLoopGroup";
 
     @Activate
     public SCREventLoopGroup(Map<String, ?> properties) {
-        super(SCRIntegration.size(properties), SCRIntegration.threadFactory(properties));
+        super(SCRIntegration.size(properties), SCRIntegration.threadFactory(properties),
+            NativeTransport.ioHandlerFactory(SCRIntegration.nativeTransport(properties)));
     }
 
     @Deactivate
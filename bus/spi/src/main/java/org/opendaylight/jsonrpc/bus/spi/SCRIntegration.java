@@ -37,10 +37,13 @@ public final class SCRIntegration {
         int worker$_$group$_$size() default 4;
         @AttributeDefinition(min = "1")
         int handler$_$group$_$size() default 4;
+        @AttributeDefinition(description = "Use native epoll transport for boss and worker groups, if available")
+        boolean native$_$transport() default false;
     }
 
     private static final String PROP_SIZE = ".size";
     private static final String PROP_THREAD_FACTORY = ".threadFactory";
+    private static final String PROP_NATIVE = ".native";
 
     private final ThreadFactory bossThreadFactory = ThreadFactoryProvider.create("boss");
     private final ThreadFactory workerThreadFactory = ThreadFactoryProvider.create("worker");
@@ -54,6 +57,7 @@ public final class SCRIntegration {
     private int bossSize;
     private int workerSize;
     private int handlerSize;
+    private boolean nativeTransport;
 
     @Activate
     public SCRIntegration(
@@ -68,6 +72,7 @@ public final class SCRIntegration {
         bossSize = configuration.boss$_$group$_$size();
         workerSize = configuration.worker$_$group$_$size();
         handlerSize = configuration.handler$_$group$_$size();
+        nativeTransport = configuration.native$_$transport();
 
         startBoss();
         startWorker();
@@ -77,18 +82,20 @@ public final class SCRIntegration {
     @Modified
     public void modified(Configuration configuration) {
         // Dispose old instances first so we do not expose partial view
+        boolean newNativeTransport = configuration.native$_$transport();
         int newBossSize = configuration.boss$_$group$_$size();
-        if (bossSize != newBossSize) {
+        if (bossSize != newBossSize || nativeTransport != newNativeTransport) {
             boss.dispose();
             boss = null;
             bossSize = newBossSize;
         }
         int newWorkerSize = configuration.worker$_$group$_$size();
-        if (workerSize != newWorkerSize) {
+        if (workerSize != newWorkerSize || nativeTransport != newNativeTransport) {
             worker.dispose();
             worker = null;
             workerSize = newWorkerSize;
         }
+        nativeTransport = newNativeTransport;
         int newHandlerSize = configuration.handler$_$group$_$size();
         if (handlerSize != newHandlerSize) {
             handler.dispose();
@@ -137,12 +144,17 @@ public final class SCRIntegration {
         return prop(properties, PROP_THREAD_FACTORY, ThreadFactory.class);
     }
 
-    private static Dictionary<String, ?> loopProps(String type, int size, ThreadFactory threadFactory) {
+    static boolean nativeTransport(Map<String, ?> properties) {
+        return Boolean.TRUE.equals(properties.get(PROP_NATIVE));
+    }
+
+    private Dictionary<String, ?> loopProps(String type, int size, ThreadFactory threadFactory) {
         return FrameworkUtil.asDictionary(Map.of(
             "name", "jsonrpc",
             "type", type,
             PROP_SIZE, size,
-            PROP_THREAD_FACTORY, threadFactory));
+            PROP_THREAD_FACTORY, threadFactory,
+            PROP_NATIVE, nativeTransport));
     }
 
     private static <T> T prop(Map<String, ?> properties, String name, Class<T> type) {
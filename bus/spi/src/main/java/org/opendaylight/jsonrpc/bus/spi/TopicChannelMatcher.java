@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2018 Lumina Networks, Inc. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.spi;
+
+import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelMatcher;
+import java.util.Objects;
+
+/**
+ * {@link ChannelMatcher} to match PUB/SUB topic. Message is delivered to subscriber if its topic starts with topic
+ * subscriber subscribed to, so subscription to empty topic matches every message. Channel over which no subscription
+ * was received (yet) matches nothing.
+ *
+ * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
+ * @since Mar 7, 2018
+ */
+public class TopicChannelMatcher implements ChannelMatcher {
+    private final String topic;
+
+    public TopicChannelMatcher(final String topic) {
+        this.topic = Objects.requireNonNull(topic);
+    }
+
+    @Override
+    public boolean matches(Channel channel) {
+        final String channelTopic = channel.attr(CommonConstants.ATTR_PUBSUB_TOPIC).get();
+        return channelTopic != null && topic.startsWith(channelTopic);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class FlushThresholdHandlerTest {
+    @Test
+    public void testFlushOnThreshold() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new FlushThresholdHandler(8),
+                new ChannelOutboundHandlerAdapter() {
+                    @Override
+                    public void flush(ChannelHandlerContext ctx) {
+                        // hold back all flushes, as consolidation would do
+                    }
+                });
+        channel.writeAndFlush(buffer("abc"));
+        channel.writeAndFlush(buffer("def"));
+        assertNull(channel.readOutbound());
+
+        // threshold reached, everything written so far is flushed in order
+        channel.writeAndFlush(buffer("ghi"));
+        assertEquals("abc", read(channel));
+        assertEquals("def", read(channel));
+        assertEquals("ghi", read(channel));
+
+        // counter starts over after flush
+        channel.writeAndFlush(buffer("jkl"));
+        assertNull(channel.readOutbound());
+        channel.writeAndFlush(buffer("mnopq"));
+        assertEquals("jkl", read(channel));
+        assertEquals("mnopq", read(channel));
+        channel.finishAndReleaseAll();
+    }
+
+    private static ByteBuf buffer(String str) {
+        return Unpooled.copiedBuffer(str, StandardCharsets.US_ASCII);
+    }
+
+    private static String read(EmbeddedChannel channel) {
+        final ByteBuf buf = channel.readOutbound();
+        try {
+            return buf.toString(StandardCharsets.US_ASCII);
+        } finally {
+            buf.release();
+        }
+    }
+}
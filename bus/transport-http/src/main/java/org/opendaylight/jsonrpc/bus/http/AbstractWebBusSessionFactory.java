@@ -77,15 +77,19 @@ abstract class AbstractWebBusSessionFactory extends AbstractBusSessionFactory {
             throwUnsupported(SessionType.SUB);
         }
         final Subscriber session = new SubscriberImpl(uri, defaultPort, clientBootstrap,
-                createClientInitializer(SessionType.SUB, handlerExecutor, uri, listener));
+                createClientInitializer(SessionType.SUB, handlerExecutor, uri, listener, topic));
         addSession(session);
         return session;
     }
 
     @Override
     public Requester requester(String uri, MessageListener listener) {
-        final Requester session = new RequesterImpl(uri, defaultPort, clientBootstrap,
-                createClientInitializer(SessionType.REQ, handlerExecutor, uri, listener), isWebsocket);
+        final AbstractChannelInitializer initializer = createClientInitializer(SessionType.REQ, handlerExecutor, uri,
+                listener, null);
+        // plain HTTP requests are independent of each other, so they can be spread across pool of connections
+        final Requester session = isWebsocket
+                ? new RequesterImpl(uri, defaultPort, clientBootstrap, initializer, true)
+                : new PooledRequesterImpl(uri, defaultPort, clientBootstrap, initializer, getOptions(uri));
         addSession(session);
         return session;
     }
@@ -110,9 +114,9 @@ abstract class AbstractWebBusSessionFactory extends AbstractBusSessionFactory {
     }
 
     private AbstractChannelInitializer createClientInitializer(SessionType socketType,
-            EventExecutorGroup handlerExecutor, String uri, MessageListener listener) {
+            EventExecutorGroup handlerExecutor, String uri, MessageListener listener, String topic) {
         return new ClientInitializer(socketType, handlerExecutor, useSsl, isWebsocket, createUriUnchecked(uri),
-                getOptions(uri), listener);
+                getOptions(uri), listener, topic);
     }
 
     private void throwUnsupported(SessionType sessionType) {
@@ -44,10 +44,12 @@ class ClientInitializer extends AbstractChannelInitializer {
     private final URI baseUri;
     private final MessageListener listener;
     private final Map<String, String> opts;
+    private final String topic;
 
     ClientInitializer(SessionType socketType, EventExecutorGroup handlerExecutor, boolean useSsl, boolean isWebsocket,
-            URI baseUri, Map<String, String> opts, MessageListener listener) {
+            URI baseUri, Map<String, String> opts, MessageListener listener, String topic) {
         super(socketType, handlerExecutor);
+        this.topic = topic;
         this.opts = opts;
         this.useSsl = useSsl;
         this.isWebsocket = isWebsocket;
@@ -97,6 +99,9 @@ class ClientInitializer extends AbstractChannelInitializer {
         if (opts.containsKey(SecurityConstants.OPT_REQ_AUTH)) {
             headers.add(HttpHeaderNames.AUTHORIZATION, HttpUtil.createAuthHeader(opts));
         }
+        if (topic != null && !topic.isEmpty()) {
+            headers.add(Constants.HEADER_TOPIC, topic);
+        }
         return headers;
     }
 }
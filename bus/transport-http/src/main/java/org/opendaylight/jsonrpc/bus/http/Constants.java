@@ -11,6 +11,7 @@ import io.netty.channel.Channel;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Various transport specific constants.
@@ -31,6 +32,33 @@ public final class Constants {
     public static final String HANDLER_AGGREGATOR = "http-aggregator";
     public static final String HANDLER_AUTH = "auth-handler";
     public static final String HANDLER_CLIENT = "client-handler";
+    public static final String HANDLER_SUBSCRIPTION = "subscription-handler";
+
+    /**
+     * Header of websocket handshake request, which carries topic subscriber subscribes to. Subscriber which does not
+     * send it is subscribed to all topics.
+     */
+    public static final String HEADER_TOPIC = "X-JsonRpc-Topic";
+
+    /**
+     * URI option to specify maximum number of pooled connections to single endpoint.
+     */
+    public static final String OPT_MAX_CONNECTIONS = "max-connections";
+
+    /**
+     * URI option to specify maximum number of outstanding (pipelined) requests on single pooled connection. Value of 1
+     * disables HTTP/1.1 pipelining.
+     */
+    public static final String OPT_PIPELINE_DEPTH = "pipeline-depth";
+
+    /**
+     * URI option to specify time in milliseconds after which unused pooled connection is closed.
+     */
+    public static final String OPT_IDLE_TIMEOUT = "idle-timeout";
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 4;
+    public static final int DEFAULT_PIPELINE_DEPTH = 1;
+    public static final long DEFAULT_IDLE_TIMEOUT = 60_000L;
 
     /**
      * {@link Attribute} which holds parsed URI parameters used to bootstrap
@@ -39,6 +67,13 @@ public final class Constants {
     public static final AttributeKey<Map<String, String>> ATTR_URI_OPTIONS = AttributeKey.valueOf(Constants.class,
             "URI_OPTIONS");
 
+    /**
+     * {@link Attribute} which holds consumer of responses received on pooled {@link Channel}. Consumer matches
+     * responses to requests in order in which they were written.
+     */
+    public static final AttributeKey<Consumer<String>> ATTR_RESPONSE_CONSUMER = AttributeKey
+            .valueOf(Constants.class, "RESPONSE_CONSUMER");
+
     private Constants() {
         // no instantiation
     }
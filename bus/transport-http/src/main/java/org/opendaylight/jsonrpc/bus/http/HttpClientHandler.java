@@ -10,6 +10,7 @@ package org.opendaylight.jsonrpc.bus.http;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 import org.opendaylight.jsonrpc.bus.api.MessageListener;
 import org.opendaylight.jsonrpc.bus.spi.AbstractMessageListenerAdapter;
 import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
@@ -35,6 +36,13 @@ public class HttpClientHandler extends AbstractMessageListenerAdapter<FullHttpRe
         if (CommonConstants.DEBUG_MODE) {
             LOG.debug("Received HTTP response {} with content {}", msg.status().code(), bufferContent);
         }
-        processResponse(ctx, bufferContent);
+        final Consumer<String> consumer = ctx.channel().attr(Constants.ATTR_RESPONSE_CONSUMER).get();
+        if (consumer == null) {
+            processResponse(ctx, bufferContent);
+            return;
+        }
+        // pooled connection, response is matched to request by pool
+        consumer.accept(bufferContent);
+        messageListener.onMessage(ctx.channel().attr(CommonConstants.ATTR_PEER_CONTEXT).get(), bufferContent);
     }
 }
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.http;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.concurrent.DefaultProgressivePromise;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ProgressivePromise;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.jsonrpc.bus.api.RecoverableTransportException;
+import org.opendaylight.jsonrpc.bus.spi.AbstractChannelInitializer;
+import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
+import org.opendaylight.jsonrpc.bus.spi.ReconnectStrategies;
+import org.opendaylight.jsonrpc.bus.spi.ReconnectStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of keep-alive HTTP connections to single endpoint. Requests are dispatched to least loaded connection, new
+ * connection is opened when all existing connections are busy and limit is not reached yet. When pipelining is enabled,
+ * up to configured number of requests can be outstanding on single connection, their responses are matched in FIFO
+ * order. Request occupies its connection until response arrives or connection is closed. When request completes
+ * without response (it is cancelled, times out or can't be written), its response might still arrive later, so such
+ * connection is retired: it does not accept requests anymore and it is closed once it has no outstanding requests left.
+ * Connections which are not used for configured time are closed, except last one. When last connection is lost, pool
+ * attempts to reconnect.
+ */
+final class HttpConnectionPool implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpConnectionPool.class);
+    private final Bootstrap bootstrap;
+    private final InetSocketAddress address;
+    private final int maxConnections;
+    private final int pipelineDepth;
+    private final long idleTimeoutNanos;
+    private final ReconnectStrategy reconnectStrategy = ReconnectStrategies.fixedStartegy(1000);
+    private final ScheduledFuture<?> evictionFuture;
+    // all fields below are guarded by this
+    private final Set<Connection> connections = new LinkedHashSet<>();
+    private final Deque<PendingRequest> waiters = new ArrayDeque<>();
+    private ScheduledFuture<?> reconnectFuture;
+    private int connecting;
+    // replacement of last (retired) connection is being opened
+    private boolean replacing;
+    private boolean firstAttempt = true;
+    private boolean closed;
+
+    HttpConnectionPool(InetSocketAddress address, Bootstrap clientBootstrap,
+            AbstractChannelInitializer channelInitializer, int maxConnections, int pipelineDepth, long idleTimeout) {
+        this.address = Objects.requireNonNull(address);
+        this.bootstrap = Objects.requireNonNull(clientBootstrap).clone().handler(channelInitializer);
+        this.maxConnections = maxConnections;
+        this.pipelineDepth = pipelineDepth;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+        evictionFuture = bootstrap.config()
+                .group()
+                .scheduleWithFixedDelay(this::evictIdle, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            openConnection();
+        }
+    }
+
+    /**
+     * Send request using one of pooled connections. If there is no connection available at the moment, request is
+     * queued until some connection becomes available.
+     *
+     * @param message request message
+     * @return {@link Future} which is completed once response is received
+     */
+    Future<String> send(String message) {
+        final ProgressivePromise<String> promise = new DefaultProgressivePromise<>(GlobalEventExecutor.INSTANCE);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Connection pool closed already : " + address);
+            }
+            final Connection conn = selectConnection(true);
+            if (conn != null) {
+                dispatch(conn, message, promise);
+            } else {
+                waiters.add(new PendingRequest(message, promise));
+                if (connections.size() + connecting < maxConnections) {
+                    openConnection();
+                }
+            }
+        }
+        return promise;
+    }
+
+    synchronized boolean isReady() {
+        return replacing || connections.stream().anyMatch(conn -> conn.channel.isActive());
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized int size() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() {
+        final List<Channel> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            evictionFuture.cancel(false);
+            if (reconnectFuture != null) {
+                reconnectFuture.cancel(false);
+                reconnectFuture = null;
+            }
+            connections.forEach(conn -> toClose.add(conn.channel));
+            failWaiters();
+        }
+        toClose.forEach(ch -> ch.close().syncUninterruptibly());
+    }
+
+    /*
+     * Pick least loaded connection which can accept another request. When preferNew is set and there is no idle
+     * connection, null is returned if limit allows to open new connection, so that new connection is preferred over
+     * pipelining.
+     */
+    private Connection selectConnection(boolean preferNew) {
+        Connection best = null;
+        for (Connection conn : connections) {
+            if (conn.channel.isActive() && !conn.retired && conn.inflight.size() < pipelineDepth
+                    && (best == null || conn.inflight.size() < best.inflight.size())) {
+                best = conn;
+            }
+        }
+        if (preferNew && best != null && !best.inflight.isEmpty() && connections.size() + connecting < maxConnections) {
+            return null;
+        }
+        return best;
+    }
+
+    private void dispatch(Connection conn, String message, ProgressivePromise<String> promise) {
+        conn.lastUsed = System.nanoTime();
+        // enqueue before write, so that order of queue matches order of requests on the wire
+        conn.inflight.add(promise);
+        promise.addListener((GenericFutureListener<Future<String>>) future -> onDone(conn, promise));
+        conn.channel.writeAndFlush(HttpUtil.createPayload(conn.channel.attr(CommonConstants.ATTR_AUTH_INFO).get(),
+                false, message)).addListener((ChannelFutureListener) future -> {
+                    if (!future.isSuccess()) {
+                        promise.tryFailure(future.cause());
+                    }
+                });
+    }
+
+    /*
+     * Response was received on given connection. HTTP/1.1 guarantees that responses arrive in same order as requests
+     * were sent, so it belongs to oldest outstanding request.
+     */
+    private void onResponse(Connection conn, String response) {
+        final ProgressivePromise<String> promise;
+        final boolean close;
+        synchronized (this) {
+            promise = conn.inflight.poll();
+            conn.lastUsed = System.nanoTime();
+            close = retireIfAbandoned(conn);
+            drainWaiters();
+        }
+        if (promise == null) {
+            LOG.warn("Received unsolicited response on {}", conn.channel);
+        } else {
+            // no-op if request was completed already
+            promise.trySuccess(response);
+        }
+        if (close) {
+            conn.channel.close();
+        }
+    }
+
+    /*
+     * Request completed. If it is still outstanding, it completed without response, so connection is retired.
+     */
+    private void onDone(Connection conn, ProgressivePromise<String> promise) {
+        final boolean close;
+        synchronized (this) {
+            if (!conn.retired && conn.inflight.contains(promise)) {
+                LOG.debug("Request on {} completed without response, retiring connection", conn.channel);
+                conn.retired = true;
+            }
+            close = retireIfAbandoned(conn);
+        }
+        if (close) {
+            conn.channel.close();
+        }
+    }
+
+    /*
+     * Remove retired connection from pool once nobody waits for response on it. Returns true if connection should be
+     * closed, which must be done outside of lock.
+     */
+    private boolean retireIfAbandoned(Connection conn) {
+        if (!conn.retired || !conn.inflight.stream().allMatch(Future::isDone) || !connections.remove(conn)) {
+            return false;
+        }
+        // replace retired connection right away, so that waiting requests don't fail and pool stays ready
+        if ((!waiters.isEmpty() || connections.isEmpty()) && connections.size() + connecting < maxConnections) {
+            replacing |= connections.isEmpty();
+            openConnection();
+        }
+        return true;
+    }
+
+    private void drainWaiters() {
+        while (!waiters.isEmpty()) {
+            final PendingRequest request = waiters.peek();
+            if (request.promise.isDone()) {
+                // cancelled or timed out by caller while waiting
+                waiters.poll();
+                continue;
+            }
+            final Connection conn = selectConnection(false);
+            if (conn == null) {
+                return;
+            }
+            waiters.poll();
+            dispatch(conn, request.message, request.promise);
+        }
+    }
+
+    private void failWaiters() {
+        PendingRequest request;
+        while ((request = waiters.poll()) != null) {
+            request.promise.tryFailure(new RecoverableTransportException("Connection to " + address + " not ready"));
+        }
+    }
+
+    private void openConnection() {
+        connecting++;
+        LOG.debug("Opening connection #{} to {}", connections.size() + connecting, address);
+        bootstrap.connect(address).addListener((ChannelFutureListener) this::onConnect);
+    }
+
+    private synchronized void onConnect(ChannelFuture future) {
+        connecting--;
+        replacing = false;
+        if (!future.isSuccess()) {
+            // log warning only for first connection failure
+            if (firstAttempt) {
+                LOG.warn("Connection attempt to '{}' failed", address, future.cause());
+            } else {
+                LOG.trace("Connection attempt to '{}' failed", address, future.cause());
+            }
+            firstAttempt = false;
+            if (connections.isEmpty()) {
+                failWaiters();
+                scheduleReconnect();
+            }
+            return;
+        }
+        firstAttempt = false;
+        final Channel channel = future.channel();
+        if (closed) {
+            channel.close();
+            return;
+        }
+        final Connection conn = new Connection(channel);
+        channel.attr(Constants.ATTR_RESPONSE_CONSUMER).set(response -> onResponse(conn, response));
+        connections.add(conn);
+        reconnectStrategy.reset();
+        channel.closeFuture().addListener((ChannelFutureListener) closeFuture -> onDisconnect(conn));
+        LOG.debug("Connection {} added to pool, pool size is {}", channel, connections.size());
+        drainWaiters();
+    }
+
+    private synchronized void onDisconnect(Connection conn) {
+        connections.remove(conn);
+        LOG.debug("Connection {} removed from pool, pool size is {}", conn.channel, connections.size());
+        ProgressivePromise<String> promise;
+        while ((promise = conn.inflight.poll()) != null) {
+            promise.tryFailure(new RecoverableTransportException("Connection to " + address + " lost"));
+        }
+        if (closed) {
+            return;
+        }
+        if (connections.isEmpty() && connecting == 0) {
+            failWaiters();
+            scheduleReconnect();
+        } else {
+            drainWaiters();
+        }
+    }
+
+    private void scheduleReconnect() {
+        if (!closed && reconnectFuture == null) {
+            reconnectFuture = bootstrap.config().group().schedule(() -> {
+                synchronized (this) {
+                    reconnectFuture = null;
+                    if (!closed && connections.isEmpty() && connecting == 0) {
+                        openConnection();
+                    }
+                }
+            }, reconnectStrategy.timeout(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /*
+     * Close connections which were not used for configured time, but always keep at least one.
+     */
+    private void evictIdle() {
+        final List<Channel> toClose = new ArrayList<>();
+        synchronized (this) {
+            final long now = System.nanoTime();
+            int remaining = connections.size();
+            for (Connection conn : connections) {
+                if (remaining > 1 && conn.inflight.isEmpty() && now - conn.lastUsed > idleTimeoutNanos) {
+                    toClose.add(conn.channel);
+                    remaining--;
+                }
+            }
+        }
+        // closing triggers removal from pool, so it must not happen while iterating
+        toClose.forEach(ch -> {
+            LOG.debug("Closing idle connection {}", ch);
+            ch.close();
+        });
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "HttpConnectionPool [address=" + address + ", connections=" + connections.size() + ", connecting="
+                + connecting + ", waiters=" + waiters.size() + "]";
+    }
+
+    private static final class Connection {
+        private final Channel channel;
+        // requests awaiting response in order in which they were written, guarded by pool
+        private final Queue<ProgressivePromise<String>> inflight = new ArrayDeque<>();
+        // guarded by pool
+        private boolean retired;
+        private long lastUsed = System.nanoTime();
+
+        Connection(Channel channel) {
+            this.channel = channel;
+        }
+    }
+
+    private static final class PendingRequest {
+        private final String message;
+        private final ProgressivePromise<String> promise;
+
+        PendingRequest(String message, ProgressivePromise<String> promise) {
+            this.message = message;
+            this.promise = promise;
+        }
+    }
+}
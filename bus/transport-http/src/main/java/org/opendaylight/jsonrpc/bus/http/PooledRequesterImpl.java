@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.http;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.util.concurrent.Future;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.jsonrpc.bus.api.RecoverableTransportException;
+import org.opendaylight.jsonrpc.bus.api.Requester;
+import org.opendaylight.jsonrpc.bus.api.SessionType;
+import org.opendaylight.jsonrpc.bus.spi.AbstractChannelInitializer;
+import org.opendaylight.jsonrpc.bus.spi.AbstractSession;
+
+/**
+ * Implementation of {@link Requester} session for plain HTTP(S) transport, which is backed by
+ * {@link HttpConnectionPool}. Unlike {@link RequesterImpl}, multiple requests can be outstanding at same time.
+ * Pool is configured using URI options {@link Constants#OPT_MAX_CONNECTIONS}, {@link Constants#OPT_PIPELINE_DEPTH}
+ * and {@link Constants#OPT_IDLE_TIMEOUT}.
+ */
+final class PooledRequesterImpl extends AbstractSession implements Requester {
+    private final HttpConnectionPool pool;
+
+    PooledRequesterImpl(String uri, int defaultPort, Bootstrap clientBootstrap,
+            AbstractChannelInitializer channelInitializer, Map<String, String> options) {
+        super(uri, defaultPort, SessionType.REQ);
+        pool = new HttpConnectionPool(address, clientBootstrap, channelInitializer,
+                intOption(options, Constants.OPT_MAX_CONNECTIONS, Constants.DEFAULT_MAX_CONNECTIONS),
+                intOption(options, Constants.OPT_PIPELINE_DEPTH, Constants.DEFAULT_PIPELINE_DEPTH),
+                longOption(options, Constants.OPT_IDLE_TIMEOUT, Constants.DEFAULT_IDLE_TIMEOUT));
+    }
+
+    @Override
+    public Future<String> send(String message) {
+        if (!isReady()) {
+            throw new RecoverableTransportException(sessionType, uri.toString());
+        }
+        return pool.send(message);
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return pool.isReady();
+    }
+
+    @Override
+    public void awaitConnection() {
+        while (!isReady()) {
+            if (pool.isClosed()) {
+                throw new IllegalStateException("Client connection is done");
+            }
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    @Override
+    public String toString() {
+        return "PooledRequesterImpl [uri=" + uri + ", pool=" + pool + "]";
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : Math.max(1, Integer.parseInt(value));
+    }
+
+    private static long longOption(Map<String, String> options, String name, long defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : Math.max(1, Long.parseLong(value));
+    }
+}
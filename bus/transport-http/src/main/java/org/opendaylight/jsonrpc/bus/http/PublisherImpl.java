@@ -16,6 +16,7 @@ import org.opendaylight.jsonrpc.bus.api.Publisher;
 import org.opendaylight.jsonrpc.bus.api.SessionType;
 import org.opendaylight.jsonrpc.bus.spi.AbstractServerSession;
 import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
+import org.opendaylight.jsonrpc.bus.spi.TopicChannelMatcher;
 
 /**
  * Implementation of {@link Publisher} session.
@@ -37,6 +38,6 @@ class PublisherImpl extends AbstractServerSession implements Publisher {
     @Override
     public void publish(String message, String topic) {
         channelGroup.writeAndFlush(HttpUtil.createPayload(channelFuture.channel()
-                .attr(CommonConstants.ATTR_AUTH_INFO).get(), true, message));
+                .attr(CommonConstants.ATTR_AUTH_INFO).get(), true, message), new TopicChannelMatcher(topic));
     }
 }
@@ -20,10 +20,8 @@ class ResponderImpl extends AbstractServerSession implements Responder {
     ResponderImpl(String uri, int defaultPort, ServerBootstrap serverBootstrap,
             ChannelInitializer<SocketChannel> channelInitializer, ChannelGroup channelGroup) {
         super(uri, defaultPort, channelGroup, SessionType.REP);
-        channelFuture = serverBootstrap.childHandler(channelInitializer)
-                .childOption(ChannelOption.SO_KEEPALIVE, true)
-                .bind(address)
-                .syncUninterruptibly();
+        channelFuture = bind(serverBootstrap.childHandler(channelInitializer)
+                .childOption(ChannelOption.SO_KEEPALIVE, true));
 
     }
 }
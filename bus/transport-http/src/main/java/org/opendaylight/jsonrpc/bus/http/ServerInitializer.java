@@ -74,6 +74,9 @@ class ServerInitializer extends AbstractServerChannelInitializer {
                     new ServerAuthHandler(authenticationProvider));
         }
         if (isWebSocket) {
+            if (socketType == SessionType.PUB) {
+                ch.pipeline().addLast(Constants.HANDLER_SUBSCRIPTION, new SubscriptionHandler());
+            }
             ch.pipeline().addLast(new WebSocketServerProtocolHandler("/", true));
             ch.pipeline().addLast(handlerExecutor, CommonConstants.HANDLER_LISTENER,
                     new WebSocketServerHandler(messageListener));
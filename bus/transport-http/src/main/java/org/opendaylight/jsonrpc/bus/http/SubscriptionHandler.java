@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2018 Lumina Networks, Inc. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.http;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes publisher's channel to topic carried by websocket handshake request. Topic is set before handshake
+ * response is sent, so subscriber which sees handshake completed receives all messages published after that. Until
+ * then, nothing is published to channel.
+ */
+class SubscriptionHandler extends ChannelInboundHandlerAdapter {
+    private static final Logger LOG = LoggerFactory.getLogger(SubscriptionHandler.class);
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof FullHttpRequest request
+                && request.headers().containsValue(HttpHeaderNames.UPGRADE, HttpHeaderValues.WEBSOCKET, true)) {
+            final String header = request.headers().get(Constants.HEADER_TOPIC);
+            final String topic = header != null ? header : "";
+            LOG.debug("Subscribing {} to topic '{}'", ctx.channel(), topic);
+            ctx.channel().attr(CommonConstants.ATTR_PUBSUB_TOPIC).set(topic);
+            super.channelRead(ctx, msg);
+            ctx.pipeline().remove(this);
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+}
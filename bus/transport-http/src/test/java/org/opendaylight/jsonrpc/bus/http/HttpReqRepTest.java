@@ -7,6 +7,16 @@
  */
 package org.opendaylight.jsonrpc.bus.http;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -14,6 +24,7 @@ import org.junit.Test;
 import org.opendaylight.jsonrpc.bus.api.BusSessionFactory;
 import org.opendaylight.jsonrpc.bus.api.RecoverableTransportException;
 import org.opendaylight.jsonrpc.bus.api.Requester;
+import org.opendaylight.jsonrpc.bus.api.Responder;
 import org.opendaylight.jsonrpc.security.noop.NoopSecurityService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +52,60 @@ public class HttpReqRepTest extends AbstractReqRepTest {
         requester.send("").get(1, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void testConcurrentRequests() throws InterruptedException, ExecutionException, TimeoutException {
+        testConcurrentRequests("?max-connections=4");
+    }
+
+    @Test
+    public void testPipelinedRequests() throws InterruptedException, ExecutionException, TimeoutException {
+        testConcurrentRequests("?max-connections=1&pipeline-depth=8");
+    }
+
+    @Test
+    public void testCancelledRequestRetiresConnection()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final int port = getFreeTcpPort();
+        final Map<String, Channel> channels = new ConcurrentHashMap<>();
+        final Responder responder = factory.responder(getBindUri(port), (peerContext, message) -> {
+            channels.put(message, peerContext.channel());
+            // response to first request is never sent
+            if (!"slow".equals(message)) {
+                peerContext.send("re:" + message);
+            }
+        });
+        final Requester requester = factory.requester(getConnectUri(port) + "?max-connections=1",
+            (peerContext, message) -> LOG.info("Received response {}", message));
+        requester.awaitConnection();
+        final Future<String> slow = requester.send("slow");
+        assertTrue(slow.cancel(false));
+        // response of cancelled request is still outstanding, so next one must not be sent on same connection
+        assertEquals("re:fast", requester.send("fast").get(30, TimeUnit.SECONDS));
+        assertNotSame(channels.get("slow"), channels.get("fast"));
+        requester.close();
+        responder.close();
+    }
+
+    private void testConcurrentRequests(String query)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final int port = getFreeTcpPort();
+        final Responder responder = factory.responder(getBindUri(port),
+            (peerContext, message) -> peerContext.send("re:" + message));
+        final Requester requester = factory.requester(getConnectUri(port) + query,
+            (peerContext, message) -> LOG.info("Received response {}", message));
+        requester.awaitConnection();
+        assertTrue(requester.isConcurrent());
+        final List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(requester.send("msg" + i));
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals("re:msg" + i, futures.get(i).get(30, TimeUnit.SECONDS));
+        }
+        requester.close();
+        responder.close();
+    }
+
     @Override
     protected BusSessionFactory createFactory() {
         return new HttpBusSessionFactory(config, NoopSecurityService.INSTANCE);
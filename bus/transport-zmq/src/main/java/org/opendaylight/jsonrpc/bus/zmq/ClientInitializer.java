@@ -25,11 +25,24 @@ import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
  */
 class ClientInitializer extends AbstractChannelInitializer {
     private final MessageListener listener;
+    private final SessionOptions options;
 
     ClientInitializer(final SessionType socketType, final EventExecutorGroup handlerExecutor,
             final MessageListener listener) {
+        this(socketType, handlerExecutor, listener, SessionOptions.defaults());
+    }
+
+    ClientInitializer(final SessionType socketType, final EventExecutorGroup handlerExecutor,
+            final MessageListener listener, final SessionOptions options) {
         super(socketType, handlerExecutor);
         this.listener = listener;
+        this.options = options;
+    }
+
+    @Override
+    protected boolean deferFlushConsolidation() {
+        // handshake parser relies on framing of greeting, see HandshakeHandler
+        return true;
     }
 
     @Override
@@ -39,8 +52,11 @@ class ClientInitializer extends AbstractChannelInitializer {
         ch.attr(CommonConstants.ATTR_PEER_CONTEXT).set(new PeerContextImpl(ch));
         configureLogging(ch);
         ch.pipeline().addLast(Constants.HANDLER_HANDSHAKE, new HandshakeHandler());
-        ch.pipeline().addLast(Constants.HANDLER_DECODER, new MessageDecoder());
+        ch.pipeline().addLast(Constants.HANDLER_DECODER, new MessageDecoder(options.maxMessageSize()));
         ch.pipeline().addLast(Constants.HANDLER_ENCODER, new MessageEncoder());
+        final ReadThrottle throttle = new ReadThrottle(options);
+        ch.pipeline().addLast(Constants.HANDLER_READ_THROTTLE, throttle.acquireHandler());
+        ch.pipeline().addLast(handlerExecutor, Constants.HANDLER_READ_RELEASE, throttle.releaseHandler());
         ch.pipeline().addLast(handlerExecutor, Constants.HANDLER_CLIENT, new ClientHandler(listener));
     }
 }
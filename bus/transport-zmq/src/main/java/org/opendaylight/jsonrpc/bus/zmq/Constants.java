@@ -11,6 +11,7 @@ import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
 import io.netty.util.AttributeKey;
 import org.opendaylight.jsonrpc.bus.api.SessionType;
+import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
 
 /**
  * Common constants.
@@ -76,15 +77,44 @@ public final class Constants {
     public static final String METADATA_IDENTITY = "Identity";
     public static final Signature DEFAULT_SINATURE = new DefaultSignature();
     public static final Mechanism NULL_AUTH = new DefaultMechanism("NULL");
-    public static final AttributeKey<String> ATTR_PUBSUB_TOPIC = AttributeKey.valueOf(Constants.class, "PUBSUB_TOPIC");
+    /**
+     * Topic of subscriber connected over channel.
+     *
+     * @deprecated use {@link CommonConstants#ATTR_PUBSUB_TOPIC}
+     */
+    @Deprecated
+    public static final AttributeKey<String> ATTR_PUBSUB_TOPIC = CommonConstants.ATTR_PUBSUB_TOPIC;
     public static final String HANDLER_HANDSHAKE = "handshake";
     public static final String HANDLER_CLIENT = "client";
     public static final String HANDLER_ENCODER = "decoder";
     public static final String HANDLER_DECODER = "encoder";
     public static final String HANDLER_SUBSCRIBER_INITIALIZER = "topic-init";
+    public static final String HANDLER_SUBSCRIPTION_FILTER = "topic-filter";
+    public static final String HANDLER_READ_THROTTLE = "read-throttle";
+    public static final String HANDLER_READ_RELEASE = "read-release";
     public static final String HANDSHAKE_COMPLETED = "HANDSHAKE_COMPLETED";
     public static final String TRANSPORT_NAME = "zmq";
 
+    /**
+     * URI option to limit size of single inbound frame, in bytes.
+     */
+    public static final String OPT_MAX_MESSAGE_SIZE = "max-message-size";
+
+    /**
+     * URI option to set number of inbound messages queued for handler executor, at which reading from channel is
+     * suspended.
+     */
+    public static final String OPT_READ_HIGH_WATERMARK = "read-high-watermark";
+
+    /**
+     * URI option to set number of inbound messages queued for handler executor, at which reading from channel is
+     * resumed.
+     */
+    public static final String OPT_READ_LOW_WATERMARK = "read-low-watermark";
+    public static final long DEFAULT_MAX_MESSAGE_SIZE = 64L * 1024 * 1024;
+    public static final int DEFAULT_READ_HIGH_WATERMARK = 256;
+    public static final int DEFAULT_READ_LOW_WATERMARK = 64;
+
     public static byte getZmtp20Socket(SessionType sessionType) {
         return ZMTP20_SOCKETS.get(sessionType);
     }
@@ -15,6 +15,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import java.nio.charset.StandardCharsets;
 import org.opendaylight.jsonrpc.bus.api.SessionType;
+import org.opendaylight.jsonrpc.bus.spi.AbstractChannelInitializer;
 import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -119,6 +120,7 @@ public class HandshakeHandler extends SimpleChannelInboundHandler<ByteBuf> {
         msg.skipBytes(2);
         ctx.channel().attr(CommonConstants.ATTR_HANDSHAKE_DONE).set(true);
         ctx.pipeline().remove(HandshakeHandler.this);
+        AbstractChannelInitializer.configureFlushConsolidation(ctx.channel());
         LOG.trace("Handshake completed with {}", ctx.channel().attr(CommonConstants.ATTR_PEER_CONTEXT).get());
         ctx.fireUserEventTriggered(Constants.HANDSHAKE_COMPLETED);
         state = HandshakeState.DONE;
@@ -149,6 +151,7 @@ public class HandshakeHandler extends SimpleChannelInboundHandler<ByteBuf> {
         state = HandshakeState.DONE;
         ctx.channel().attr(CommonConstants.ATTR_HANDSHAKE_DONE).set(true);
         ctx.pipeline().remove(this);
+        AbstractChannelInitializer.configureFlushConsolidation(ctx.channel());
         LOG.trace("Handshake completed with {}", ctx.channel().attr(CommonConstants.ATTR_PEER_CONTEXT).get());
         ctx.fireUserEventTriggered(Constants.HANDSHAKE_COMPLETED);
         if (msg.isReadable()) {
@@ -7,29 +7,50 @@
  */
 package org.opendaylight.jsonrpc.bus.zmq;
 
+import com.google.common.primitives.Ints;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.TooLongFrameException;
 import java.util.List;
 import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Protocol message decoder.
+ * Protocol message decoder. Frames with size exceeding configured limit are rejected with
+ * {@link TooLongFrameException} before their content is buffered, rest of inbound data is discarded then.
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since Feb 17, 2018
  */
 public class MessageDecoder extends ByteToMessageDecoder {
     private static final Logger LOG = LoggerFactory.getLogger(MessageDecoder.class);
+    private final long maxMessageSize;
+    private boolean discarding;
+
+    public MessageDecoder() {
+        this(Constants.DEFAULT_MAX_MESSAGE_SIZE);
+    }
+
+    public MessageDecoder(long maxMessageSize) {
+        // frame is read into single buffer, which can't be larger than Integer.MAX_VALUE
+        this.maxMessageSize = Math.min(maxMessageSize, Integer.MAX_VALUE);
+    }
 
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        if (discarding) {
+            in.skipBytes(in.readableBytes());
+            return;
+        }
         if (CommonConstants.DEBUG_MODE) {
             LOG.trace("IN {} : Decoding {}", ctx.channel(), ByteBufUtil.hexDump(in));
         }
+        if (in.readableBytes() < 2) {
+            return;
+        }
         in.markReaderIndex();
         final byte start = in.readByte();
         switch (start) {
@@ -37,6 +58,7 @@ public class MessageDecoder extends ByteToMessageDecoder {
             case Constants.COMMAND_SHORT_SIZE:
             case Constants.LAST_MESSAGE_SHORT_SIZE: {
                 final short len = in.readUnsignedByte();
+                checkSize(ctx, in, len);
                 if (in.readableBytes() < len) {
                     in.resetReaderIndex();
                     return;
@@ -50,12 +72,17 @@ public class MessageDecoder extends ByteToMessageDecoder {
             case Constants.COMMAND_LONG_SIZE:
             case Constants.MESSAGE_LONG_SIZE:
             case Constants.LAST_MESSAGE_LONG_SIZE: {
+                if (in.readableBytes() < Long.BYTES) {
+                    in.resetReaderIndex();
+                    return;
+                }
                 final long len = in.readLong();
+                checkSize(ctx, in, len);
                 if (in.readableBytes() < len) {
                     in.resetReaderIndex();
                     return;
                 } else {
-                    out.add(readObject(in, (int) len, start == Constants.COMMAND_LONG_SIZE, false));
+                    out.add(readObject(in, Ints.checkedCast(len), start == Constants.COMMAND_LONG_SIZE, false));
                 }
             }
                 break;
@@ -65,6 +92,16 @@ public class MessageDecoder extends ByteToMessageDecoder {
         }
     }
 
+    private void checkSize(ChannelHandlerContext ctx, ByteBuf in, long len) throws TooLongFrameException {
+        // size is encoded as unsigned 64-bit integer, so negative value means it's beyond any sane limit as well
+        if (len < 0 || len > maxMessageSize) {
+            discarding = true;
+            in.skipBytes(in.readableBytes());
+            throw new TooLongFrameException(String.format("Frame size %s from %s exceeds limit of %d bytes",
+                    Long.toUnsignedString(len), ctx.channel().remoteAddress(), maxMessageSize));
+        }
+    }
+
     private Object readObject(ByteBuf buffer, int len, boolean isCommand, boolean isLastMessage) {
         if (isCommand) {
             throw new UnsupportedOperationException("Not implemented");
@@ -28,7 +28,7 @@ class PublisherImpl extends AbstractServerSession implements Publisher {
         super(uri, 10000, channelGroup, SessionType.PUB);
         channelFuture = serverBootstrap
                 .childHandler(new ServerInitializer(channelGroup, DiscardingMessageListener.INSTANCE, SessionType.PUB,
-                        handlerExecutor))
+                        handlerExecutor, SessionOptions.fromUri(uri)))
                 .childOption(ChannelOption.SO_KEEPALIVE, true)
                 .bind(address)
                 .syncUninterruptibly();
@@ -37,6 +37,7 @@ class PublisherImpl extends AbstractServerSession implements Publisher {
 
     @Override
     public void publish(String message, String topic) {
-        channelGroup.writeAndFlush(Util.serializeMessage(message), new TopicChannelMatcher(topic));
+        // filtered by topic on each channel, see SubscriptionFilter
+        channelGroup.writeAndFlush(new SubscriptionFilter.Published(topic, Util.serializeMessage(message)));
     }
 }
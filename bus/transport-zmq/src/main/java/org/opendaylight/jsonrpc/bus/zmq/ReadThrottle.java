@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.zmq;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read backpressure for single channel. Counts inbound messages which were handed over to handler executor, but were
+ * not yet processed. Once count reaches high watermark, {@code autoRead} is turned off, so that no more data is read
+ * from socket. Reading is resumed when count drops to low watermark. {@link #acquireHandler()} must be placed on event
+ * loop just in front of handler executor, {@link #releaseHandler()} must be first handler on handler executor.
+ */
+final class ReadThrottle {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadThrottle.class);
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int highWatermark;
+    private final int lowWatermark;
+
+    ReadThrottle(int highWatermark, int lowWatermark) {
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+    }
+
+    ReadThrottle(SessionOptions options) {
+        this(options.readHighWatermark(), options.readLowWatermark());
+    }
+
+    ChannelHandler acquireHandler() {
+        return new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                if (queued.incrementAndGet() >= highWatermark && ctx.channel().config().isAutoRead()) {
+                    suspend(ctx.channel());
+                }
+                ctx.fireChannelRead(msg);
+            }
+        };
+    }
+
+    ChannelHandler releaseHandler() {
+        return new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                try {
+                    ctx.fireChannelRead(msg);
+                } finally {
+                    if (queued.decrementAndGet() <= lowWatermark && !ctx.channel().config().isAutoRead()) {
+                        resume(ctx.channel());
+                    }
+                }
+            }
+        };
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    private void suspend(Channel channel) {
+        LOG.debug("{} messages pending on {}, suspending read", queued.get(), channel);
+        channel.config().setAutoRead(false);
+        // queue could be drained meanwhile by handler executor, which then saw autoRead still enabled
+        if (queued.get() <= lowWatermark) {
+            resume(channel);
+        }
+    }
+
+    private void resume(Channel channel) {
+        LOG.debug("{} messages pending on {}, resuming read", queued.get(), channel);
+        channel.config().setAutoRead(true);
+    }
+}
@@ -27,8 +27,8 @@ import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
  */
 final class RequesterImpl extends AbstractReconnectingClient implements Requester {
     RequesterImpl(String uri, Bootstrap bootstrap, MessageListener listener, EventExecutorGroup handlerExecutor) {
-        super(uri, 10000, bootstrap, new ClientInitializer(SessionType.REQ, handlerExecutor, listener),
-                SessionType.REQ);
+        super(uri, 10000, bootstrap, new ClientInitializer(SessionType.REQ, handlerExecutor, listener,
+                SessionOptions.fromUri(uri)), SessionType.REQ);
         connectInternal();
     }
 
@@ -27,10 +27,9 @@ class ResponderImpl extends AbstractServerSession implements Responder {
     ResponderImpl(String uri, ServerBootstrap serverBootstrap, MessageListener listener, ChannelGroup channelGroup,
             EventExecutorGroup handlerExecutor) {
         super(uri, 10000, channelGroup, SessionType.REP);
-        channelFuture = serverBootstrap
-                .childHandler(new ServerInitializer(channelGroup, listener, SessionType.REP, handlerExecutor))
-                .childOption(ChannelOption.SO_KEEPALIVE, true)
-                .bind(address)
-                .syncUninterruptibly();
+        channelFuture = bind(serverBootstrap
+                .childHandler(new ServerInitializer(channelGroup, listener, SessionType.REP, handlerExecutor,
+                        SessionOptions.fromUri(uri)))
+                .childOption(ChannelOption.SO_KEEPALIVE, true));
     }
 }
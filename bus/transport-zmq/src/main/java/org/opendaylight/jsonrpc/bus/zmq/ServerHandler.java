@@ -7,7 +7,6 @@
  */
 package org.opendaylight.jsonrpc.bus.zmq;
 
-import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import java.nio.charset.StandardCharsets;
 import org.opendaylight.jsonrpc.bus.api.MessageListener;
@@ -35,18 +34,6 @@ public class ServerHandler extends AbstractMessageListenerAdapter<Message> {
     @Override
     protected void channelRead0(final ChannelHandlerContext ctx, final Message msg) throws Exception {
         final PeerContextImpl peer = (PeerContextImpl) ctx.channel().attr(CommonConstants.ATTR_PEER_CONTEXT).get();
-        if (peer.getSocketType() == SessionType.SUB) {
-            // Subscription message
-            final ByteBuf data = msg.toBuffer();
-            if (data.readableBytes() > 1) {
-                data.skipBytes(1);
-                final String topic = data.readCharSequence(data.readableBytes(), StandardCharsets.US_ASCII).toString();
-                LOG.info("Subscribing to topic '{}'", topic);
-                ctx.channel().attr(Constants.ATTR_PUBSUB_TOPIC).set(topic);
-            }
-            checkLast(msg);
-            return;
-        }
         if (peer.getSocketType() == SessionType.REQ && first && msg.toBuffer().readableBytes() == 0) {
             LOG.debug("First empty frame discarded : {}", msg);
         } else {
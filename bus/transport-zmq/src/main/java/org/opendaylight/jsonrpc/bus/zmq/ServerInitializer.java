@@ -25,9 +25,23 @@ import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
  * @since Mar 6, 2018
  */
 public class ServerInitializer extends AbstractServerChannelInitializer {
+    private final SessionOptions options;
+
     public ServerInitializer(ChannelGroup channelGroup, final MessageListener messageListener, SessionType socketType,
             EventExecutorGroup handlerExecutor) {
+        this(channelGroup, messageListener, socketType, handlerExecutor, SessionOptions.defaults());
+    }
+
+    ServerInitializer(ChannelGroup channelGroup, final MessageListener messageListener, SessionType socketType,
+            EventExecutorGroup handlerExecutor, SessionOptions options) {
         super(socketType, handlerExecutor, channelGroup, messageListener);
+        this.options = options;
+    }
+
+    @Override
+    protected boolean deferFlushConsolidation() {
+        // handshake parser relies on framing of greeting, see HandshakeHandler
+        return true;
     }
 
     @Override
@@ -38,7 +52,13 @@ public class ServerInitializer extends AbstractServerChannelInitializer {
         ch.pipeline().addLast(CommonConstants.HANDLER_CONN_TRACKER, new ChannelGroupHandler(channelGroup));
         ch.pipeline().addLast(Constants.HANDLER_HANDSHAKE, new HandshakeHandler());
         ch.pipeline().addLast(Constants.HANDLER_ENCODER, new MessageEncoder());
-        ch.pipeline().addLast(Constants.HANDLER_DECODER, new MessageDecoder());
+        ch.pipeline().addLast(Constants.HANDLER_DECODER, new MessageDecoder(options.maxMessageSize()));
+        if (socketType == SessionType.PUB) {
+            ch.pipeline().addLast(Constants.HANDLER_SUBSCRIPTION_FILTER, new SubscriptionFilter());
+        }
+        final ReadThrottle throttle = new ReadThrottle(options);
+        ch.pipeline().addLast(Constants.HANDLER_READ_THROTTLE, throttle.acquireHandler());
+        ch.pipeline().addLast(handlerExecutor, Constants.HANDLER_READ_RELEASE, throttle.releaseHandler());
         ch.pipeline().addLast(handlerExecutor, CommonConstants.HANDLER_LISTENER, new ServerHandler(messageListener));
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.zmq;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+import java.util.Map;
+import org.opendaylight.jsonrpc.bus.api.UriParser;
+
+/**
+ * Per-session options parsed from URI query parameters.
+ *
+ * @see Constants#OPT_MAX_MESSAGE_SIZE
+ * @see Constants#OPT_READ_HIGH_WATERMARK
+ * @see Constants#OPT_READ_LOW_WATERMARK
+ */
+final class SessionOptions {
+    private final long maxMessageSize;
+    private final int readHighWatermark;
+    private final int readLowWatermark;
+
+    private SessionOptions(long maxMessageSize, int readHighWatermark, int readLowWatermark) {
+        Preconditions.checkArgument(readLowWatermark < readHighWatermark,
+                "Low watermark (%s) must be lower than high watermark (%s)", readLowWatermark, readHighWatermark);
+        this.maxMessageSize = maxMessageSize;
+        this.readHighWatermark = readHighWatermark;
+        this.readLowWatermark = readLowWatermark;
+    }
+
+    static SessionOptions fromUri(String uri) {
+        final Map<String, String> options = UriParser.parse(uri);
+        return new SessionOptions(
+                sizeOption(options, Constants.OPT_MAX_MESSAGE_SIZE, Constants.DEFAULT_MAX_MESSAGE_SIZE),
+                intOption(options, Constants.OPT_READ_HIGH_WATERMARK, Constants.DEFAULT_READ_HIGH_WATERMARK),
+                intOption(options, Constants.OPT_READ_LOW_WATERMARK, Constants.DEFAULT_READ_LOW_WATERMARK));
+    }
+
+    static SessionOptions defaults() {
+        return new SessionOptions(Constants.DEFAULT_MAX_MESSAGE_SIZE, Constants.DEFAULT_READ_HIGH_WATERMARK,
+                Constants.DEFAULT_READ_LOW_WATERMARK);
+    }
+
+    long maxMessageSize() {
+        return maxMessageSize;
+    }
+
+    int readHighWatermark() {
+        return readHighWatermark;
+    }
+
+    int readLowWatermark() {
+        return readLowWatermark;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : Math.max(0, Integer.parseInt(value));
+    }
+
+    /*
+     * Frame is buffered into single ByteBuf, so size limit can't exceed Integer.MAX_VALUE.
+     */
+    private static long sizeOption(Map<String, String> options, String name, long defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : Math.max(1, Ints.saturatedCast(Long.parseLong(value)));
+    }
+
+    @Override
+    public String toString() {
+        return "SessionOptions [maxMessageSize=" + maxMessageSize + ", readHighWatermark=" + readHighWatermark
+                + ", readLowWatermark=" + readLowWatermark + "]";
+    }
+}
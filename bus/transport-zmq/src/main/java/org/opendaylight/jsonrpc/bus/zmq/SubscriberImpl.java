@@ -24,8 +24,8 @@ final class SubscriberImpl extends AbstractReconnectingClient implements Subscri
 
     SubscriberImpl(String uri, String topic, MessageListener listener, Bootstrap clientBootStrap,
             EventExecutorGroup handlerExecutor) {
-        super(uri, 10000, clientBootStrap, new SubscriberInitializer(topic, listener, handlerExecutor),
-                SessionType.SUB);
+        super(uri, 10000, clientBootStrap, new SubscriberInitializer(topic, listener, handlerExecutor,
+                SessionOptions.fromUri(uri)), SessionType.SUB);
         connectInternal();
     }
 
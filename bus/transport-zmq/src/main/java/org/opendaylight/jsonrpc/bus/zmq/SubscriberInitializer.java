@@ -24,7 +24,12 @@ public class SubscriberInitializer extends ClientInitializer {
     private final String topic;
 
     public SubscriberInitializer(String topic, MessageListener listener, EventExecutorGroup handlerExecutor) {
-        super(SessionType.SUB, handlerExecutor, listener);
+        this(topic, listener, handlerExecutor, SessionOptions.defaults());
+    }
+
+    SubscriberInitializer(String topic, MessageListener listener, EventExecutorGroup handlerExecutor,
+            SessionOptions options) {
+        super(SessionType.SUB, handlerExecutor, listener, options);
         this.topic = topic;
     }
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018 Lumina Networks, Inc. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.zmq;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import org.opendaylight.jsonrpc.bus.spi.CommonConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Filters messages published to subscriber by topic it subscribed to. Subscription message is sent by subscriber
+ * right after handshake, so messages published before it arrives are held back and filtered once it does, rather than
+ * being dropped. Subscriber which does not subscribe to any topic receives nothing.
+ *
+ * <p>Handler lives on I/O loop, so state needs no synchronization.
+ */
+class SubscriptionFilter extends ChannelDuplexHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(SubscriptionFilter.class);
+    private static final int MAX_PENDING = 1024;
+    private final Queue<PendingWrite> pending = new ArrayDeque<>();
+    private boolean subscribed;
+    private String topic;
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (!(msg instanceof Message message)) {
+            super.channelRead(ctx, msg);
+            return;
+        }
+        // subscriber sends nothing but (un)subscriptions
+        final ByteBuf data = message.toBuffer();
+        if (data.isReadable()) {
+            final byte command = data.readByte();
+            final String value = data.readCharSequence(data.readableBytes(), StandardCharsets.US_ASCII).toString();
+            if (command == 0x01) {
+                LOG.info("Subscribing to topic '{}'", value);
+                topic = value;
+            } else if (command == 0x00 && value.equals(topic)) {
+                LOG.info("Unsubscribing from topic '{}'", value);
+                topic = null;
+            }
+            ctx.channel().attr(CommonConstants.ATTR_PUBSUB_TOPIC).set(topic);
+        }
+        if (!subscribed) {
+            subscribed = true;
+            for (PendingWrite write = pending.poll(); write != null; write = pending.poll()) {
+                write(ctx, write.message, write.promise);
+            }
+            ctx.flush();
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (!(msg instanceof Published published)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+        if (!subscribed) {
+            if (pending.size() == MAX_PENDING) {
+                LOG.debug("Subscriber on {} did not subscribe yet, dropping message", ctx.channel());
+                pending.remove().promise.trySuccess();
+            }
+            pending.add(new PendingWrite(published, promise));
+        } else if (topic != null && published.topic.startsWith(topic)) {
+            ctx.write(published.message, promise);
+        } else {
+            // not subscribed to, which is not an error
+            promise.trySuccess();
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        pending.forEach(write -> write.promise.trySuccess());
+        pending.clear();
+        super.handlerRemoved(ctx);
+    }
+
+    /**
+     * Message published to topic.
+     */
+    static final class Published {
+        private final String topic;
+        private final ProtocolObject message;
+
+        Published(String topic, ProtocolObject message) {
+            this.topic = Objects.requireNonNull(topic);
+            this.message = Objects.requireNonNull(message);
+        }
+    }
+
+    private static final class PendingWrite {
+        private final Published message;
+        private final ChannelPromise promise;
+
+        PendingWrite(Published message, ChannelPromise promise) {
+            this.message = message;
+            this.promise = promise;
+        }
+    }
+}
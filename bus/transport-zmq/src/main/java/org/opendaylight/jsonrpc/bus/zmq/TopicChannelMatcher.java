@@ -7,7 +7,6 @@
  */
 package org.opendaylight.jsonrpc.bus.zmq;
 
-import io.netty.channel.Channel;
 import io.netty.channel.group.ChannelMatcher;
 
 /**
@@ -15,22 +14,11 @@ import io.netty.channel.group.ChannelMatcher;
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since Mar 7, 2018
+ * @deprecated use {@link org.opendaylight.jsonrpc.bus.spi.TopicChannelMatcher}, which is shared by all transports
  */
-public class TopicChannelMatcher implements ChannelMatcher {
-    private final String topic;
-
+@Deprecated
+public class TopicChannelMatcher extends org.opendaylight.jsonrpc.bus.spi.TopicChannelMatcher {
     public TopicChannelMatcher(final String topic) {
-        this.topic = topic;
-    }
-
-    @Override
-    public boolean matches(Channel channel) {
-        final String channelTopic = channel.attr(Constants.ATTR_PUBSUB_TOPIC).get();
-        if (channelTopic == null) {
-            // subscriber didn't sent subscription request with topic
-            return true;
-        } else {
-            return topic.startsWith(channelTopic);
-        }
+        super(topic);
     }
 }
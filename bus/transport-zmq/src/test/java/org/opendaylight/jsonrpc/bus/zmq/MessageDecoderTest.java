@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.bus.zmq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.TooLongFrameException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.junit.Test;
+
+public class MessageDecoderTest {
+    @Test
+    public void testDecodeSplitFrame() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new MessageDecoder(16));
+        // header only
+        assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("00"))));
+        assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("0358"))));
+        assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("5858"))));
+        final Message msg = channel.readInbound();
+        assertTrue(msg.last());
+        assertEquals("XXX", msg.toBuffer().toString(StandardCharsets.US_ASCII));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testRejectShortFrameOverLimit() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new MessageDecoder(2));
+        assertThrows(TooLongFrameException.class,
+            () -> channel.writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("0003585858"))));
+        // rest of stream is discarded
+        assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("000158"))));
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testRejectLongFrameOverLimit() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new MessageDecoder(1024));
+        // announced size is 2^63, nothing is buffered
+        assertThrows(TooLongFrameException.class, () -> channel
+                .writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("028000000000000000"))));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testRejectLongFrameOverIntegerRange() {
+        // configured limit is clamped, so announced size of 2^32 + 1 is not truncated to 1 byte
+        final EmbeddedChannel channel = new EmbeddedChannel(new MessageDecoder(Long.MAX_VALUE));
+        assertThrows(TooLongFrameException.class, () -> channel
+                .writeInbound(Unpooled.wrappedBuffer(ByteBufUtil.decodeHexDump("0200000001000000015858"))));
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testMaxMessageSizeOptionClamped() {
+        assertEquals(Integer.MAX_VALUE,
+            SessionOptions.fromUri("zmq://localhost:1234?max-message-size=9999999999").maxMessageSize());
+        assertEquals(1024, SessionOptions.fromUri("zmq://localhost:1234?max-message-size=1024").maxMessageSize());
+    }
+
+    @Test
+    public void testReadThrottle() {
+        final ReadThrottle throttle = new ReadThrottle(2, 0);
+        // stands for handler executor, which did not get to process queued messages yet
+        final Queue<Object> executorQueue = new ArrayDeque<>();
+        final ChannelInboundHandlerAdapter executor = new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                executorQueue.add(msg);
+            }
+        };
+        final EmbeddedChannel channel = new EmbeddedChannel(throttle.acquireHandler(), executor,
+                throttle.releaseHandler());
+        final ChannelHandlerContext executorCtx = channel.pipeline().context(executor);
+        channel.writeInbound("a");
+        assertTrue(channel.config().isAutoRead());
+        channel.writeInbound("b");
+        assertFalse(channel.config().isAutoRead());
+        assertEquals(2, throttle.queued());
+
+        executorCtx.fireChannelRead(executorQueue.poll());
+        assertFalse(channel.config().isAutoRead());
+        executorCtx.fireChannelRead(executorQueue.poll());
+        assertTrue(channel.config().isAutoRead());
+        assertEquals(0, throttle.queued());
+        channel.finishAndReleaseAll();
+    }
+}
@@ -11,7 +11,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.opendaylight.jsonrpc.bus.api.BusSessionFactory;
@@ -91,6 +93,32 @@ public class PubSubTest extends AbstractSessionTest {
         assertTrue(latch.await(15, TimeUnit.SECONDS));
     }
 
+    @Test(timeout = 15_000)
+    public void testTopicNotDeliveredToOtherSubscriber() throws InterruptedException {
+        final int port = getFreeTcpPort();
+        final BlockingQueue<String> received1 = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> received2 = new LinkedBlockingQueue<>();
+        final Publisher publisher = factory.publisher(getBindUri(port));
+        final Subscriber subscriber1 = factory.subscriber(getConnectUri(port), "topic1",
+            (peerContext, message) -> received1.add(message));
+        final Subscriber subscriber2 = factory.subscriber(getConnectUri(port), "topic2",
+            (peerContext, message) -> received2.add(message));
+        subscriber1.awaitConnection();
+        subscriber2.awaitConnection();
+        // subscription might not be in effect yet, so publish until both subscribers get something. Messages of
+        // other topic would be queued to subscriber's connection before its own.
+        while (received1.isEmpty() || received2.isEmpty()) {
+            publisher.publish("first", "topic1");
+            publisher.publish("second", "topic2");
+            Thread.sleep(50);
+        }
+        assertTrue(received1.stream().allMatch("first"::equals));
+        assertTrue(received2.stream().allMatch("second"::equals));
+        publisher.close();
+        subscriber1.close();
+        subscriber2.close();
+    }
+
     @Override
     protected BusSessionFactory createFactory() {
         return new ZmqBusSessionFactory(config);
@@ -7,8 +7,17 @@
  */
 package org.opendaylight.jsonrpc.bus.zmq;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -19,6 +28,8 @@ import org.opendaylight.jsonrpc.bus.api.RecoverableTransportException;
 import org.opendaylight.jsonrpc.bus.api.Requester;
 import org.opendaylight.jsonrpc.bus.api.Responder;
 import org.opendaylight.jsonrpc.bus.spi.AbstractSessionTest;
+import org.opendaylight.jsonrpc.bus.spi.DefaultEventLoopConfiguration;
+import org.opendaylight.jsonrpc.bus.spi.NativeTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +86,61 @@ public class ReqRepTest extends AbstractSessionTest {
         requester.close();
     }
 
+    @Test(timeout = 15_000)
+    public void testMultipleAcceptors() throws Exception {
+        assumeTrue(NativeTransport.isAvailable());
+        final EventLoopGroup nativeGroup = new MultiThreadIoEventLoopGroup(4, NativeTransport.ioHandlerFactory(true));
+        try (ZmqBusSessionFactory nativeFactory = new ZmqBusSessionFactory(
+                new DefaultEventLoopConfiguration(nativeGroup, nativeGroup, group))) {
+            final int port = getFreeTcpPort();
+            final Responder responder = nativeFactory.responder(getBindUri(port) + "?acceptors=4",
+                (peerContext, message) -> peerContext.send("re:" + message));
+            final List<Requester> requesters = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                requesters.add(nativeFactory.requester(getConnectUri(port), (peerContext, message) -> {
+                    // response is obtained from future
+                }));
+            }
+            for (int i = 0; i < requesters.size(); i++) {
+                final Requester requester = requesters.get(i);
+                requester.awaitConnection();
+                assertEquals("re:" + i, requester.send(String.valueOf(i)).get(5, TimeUnit.SECONDS));
+                requester.close();
+            }
+            responder.close();
+        } finally {
+            nativeGroup.shutdownGracefully();
+        }
+    }
+
+    @Test(timeout = 15_000)
+    public void testMultipleAcceptorsNio() throws Exception {
+        // kernel load-balances connections among sockets sharing port on Linux only
+        assumeTrue(NativeTransport.supportsReusePort(group) && "Linux".equals(System.getProperty("os.name")));
+        final int port = getFreeTcpPort();
+        final Set<Channel> acceptors = ConcurrentHashMap.newKeySet();
+        final Responder responder = factory.responder(getBindUri(port) + "?acceptors=4", (peerContext, message) -> {
+            acceptors.add(peerContext.channel().parent());
+            peerContext.send("re:" + message);
+        });
+        final List<Requester> requesters = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            requesters.add(factory.requester(getConnectUri(port), (peerContext, message) -> {
+                // response is obtained from future
+            }));
+        }
+        for (int i = 0; i < requesters.size(); i++) {
+            final Requester requester = requesters.get(i);
+            requester.awaitConnection();
+            assertEquals("re:" + i, requester.send(String.valueOf(i)).get(5, TimeUnit.SECONDS));
+            requester.close();
+        }
+        responder.close();
+        LOG.info("Connections were accepted by {} listening sockets", acceptors.size());
+        // 32 connections hashed into 4 sockets, chance that all hit the same one is negligible
+        assertTrue(acceptors.size() > 1);
+    }
+
     @Test(expected = RecoverableTransportException.class)
     public void testConnectionFailed() throws InterruptedException, ExecutionException, TimeoutException {
         final int port = getFreeTcpPort();
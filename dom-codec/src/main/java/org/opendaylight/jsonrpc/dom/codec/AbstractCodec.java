@@ -10,8 +10,6 @@ package org.opendaylight.jsonrpc.dom.codec;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import java.io.StringWriter;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -81,16 +79,6 @@ abstract class AbstractCodec {
         return wrap(arr, prefix);
     }
 
-    /**
-     * Feed content of given {@link StringWriter} into {@link JsonParser} and return {@link JsonObject} out of it.
-     *
-     * @param writer {@link StringWriter} to read JSON string from
-     * @return parsed {@link JsonObject}
-     */
-    protected static JsonObject parseFromWriter(StringWriter writer) {
-        return JsonParser.parseString(writer.toString()).getAsJsonObject();
-    }
-
     protected JSONCodecFactory jsonCodec() {
         return JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context);
     }
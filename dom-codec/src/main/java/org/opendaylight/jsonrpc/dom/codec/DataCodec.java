@@ -10,9 +10,7 @@ package org.opendaylight.jsonrpc.dom.codec;
 import com.google.common.collect.Iterables;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -28,7 +26,6 @@ import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWrit
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
-import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
@@ -177,8 +174,7 @@ class DataCodec extends AbstractCodec implements Codec<JsonElement, NormalizedNo
      * @throws IOException if underlying JSON codec raises error
      */
     private JsonObject encode(NormalizedNode data) throws IOException {
-        try (StringWriter writer = new StringWriter();
-                JsonWriter jsonWriter = JsonWriterFactory.createJsonWriter(writer)) {
+        try (JsonElementWriter jsonWriter = new JsonElementWriter()) {
             final JSONCodecFactory codecFactory = jsonCodec();
             final NormalizedNodeStreamWriter jsonStream = JSONNormalizedNodeStreamWriter
                     .createNestedWriter(codecFactory, parentSchemaNode, null, jsonWriter);
@@ -195,7 +191,7 @@ class DataCodec extends AbstractCodec implements Codec<JsonElement, NormalizedNo
                 jsonWriter.endObject();
                 nodeWriter.flush();
             }
-            return parseFromWriter(writer);
+            return jsonWriter.result().getAsJsonObject();
         }
     }
 }
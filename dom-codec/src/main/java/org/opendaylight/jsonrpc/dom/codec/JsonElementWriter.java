@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.dom.codec;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * {@link JsonWriter} which builds tree of {@link JsonElement}s instead of writing text, so that encoded data does not
+ * need to be printed and parsed again. Counterpart of {@link JsonReaderAdapter}.
+ */
+final class JsonElementWriter extends JsonWriter {
+    private static final Writer UNWRITABLE = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    // open arrays and objects, innermost first
+    private final Deque<JsonElement> stack = new ArrayDeque<>();
+    private String pendingName;
+    private JsonElement result;
+
+    JsonElementWriter() {
+        super(UNWRITABLE);
+    }
+
+    /**
+     * Get written element.
+     *
+     * @return top-level {@link JsonElement}
+     * @throws IllegalStateException if top-level element is not complete
+     */
+    JsonElement result() {
+        if (result == null || !stack.isEmpty()) {
+            throw new IllegalStateException("Incomplete document, " + stack.size() + " element(s) not closed");
+        }
+        return result;
+    }
+
+    @Override
+    public JsonWriter beginArray() {
+        final JsonArray array = new JsonArray();
+        put(array);
+        stack.push(array);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() {
+        return end(JsonArray.class);
+    }
+
+    @Override
+    public JsonWriter beginObject() {
+        final JsonObject object = new JsonObject();
+        put(object);
+        stack.push(object);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() {
+        return end(JsonObject.class);
+    }
+
+    @Override
+    public JsonWriter name(String name) {
+        Objects.requireNonNull(name);
+        if (pendingName != null || !(stack.peek() instanceof JsonObject)) {
+            throw new IllegalStateException("Name '" + name + "' is not expected here");
+        }
+        pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) {
+        return value == null ? nullValue() : put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) {
+        return value == null ? nullValue() : put(JsonParser.parseString(value));
+    }
+
+    @Override
+    public JsonWriter nullValue() {
+        return put(JsonNull.INSTANCE);
+    }
+
+    @Override
+    public JsonWriter value(boolean value) {
+        return put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) {
+        return value == null ? nullValue() : put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonWriter value(float value) {
+        checkFinite(value);
+        return put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonWriter value(double value) {
+        checkFinite(value);
+        return put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonWriter value(long value) {
+        return put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonWriter value(Number value) {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            checkFinite(value.doubleValue());
+        }
+        return put(new JsonPrimitive(value));
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void close() {
+        // nothing to close, incomplete document is reported by result()
+    }
+
+    private void checkFinite(double value) {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+    }
+
+    private JsonWriter put(JsonElement value) {
+        final JsonElement current = stack.peek();
+        if (pendingName != null) {
+            if (!value.isJsonNull() || getSerializeNulls()) {
+                ((JsonObject) current).add(pendingName, value);
+            }
+            pendingName = null;
+        } else if (current instanceof JsonArray array) {
+            array.add(value);
+        } else if (current == null && result == null) {
+            result = value;
+        } else {
+            throw new IllegalStateException("Value is not expected here");
+        }
+        return this;
+    }
+
+    private JsonWriter end(Class<? extends JsonElement> type) {
+        if (pendingName != null || !type.isInstance(stack.peek())) {
+            throw new IllegalStateException("Unexpected end of " + type.getSimpleName());
+        }
+        stack.pop();
+        return this;
+    }
+}
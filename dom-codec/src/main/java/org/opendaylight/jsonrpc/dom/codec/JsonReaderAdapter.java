@@ -8,22 +8,55 @@
 package org.opendaylight.jsonrpc.dom.codec;
 
 import com.google.common.annotations.Beta;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * Helper class to eliminate repeated <code>new JsonReader(new StringReader(json.toString()))</code>.
+ * {@link JsonReader} which reads tokens directly from tree of {@link JsonElement}s, so that JSON data already parsed
+ * by transport do not need to be printed and parsed again.
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since Feb 22, 2020
  */
 @Beta
 public final class JsonReaderAdapter extends JsonReader {
-    private JsonReaderAdapter(Reader in) {
-        super(in);
+    private static final Reader UNREADABLE = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    // reported by getPath() in place of name skipped by skipValue(), same as Gson's readers do
+    private static final String SKIPPED_NAME = "<skipped>";
+
+    /*
+     * Elements not consumed yet and cursors of open arrays and objects, top of stack is next to be read. Element of
+     * array is pushed once it is peeked, value of object member once its name is read.
+     */
+    private final Deque<Object> stack = new ArrayDeque<>();
+
+    private JsonReaderAdapter(JsonElement json) {
+        super(UNREADABLE);
+        stack.push(json);
     }
 
     /**
@@ -33,6 +66,251 @@ public final class JsonReaderAdapter extends JsonReader {
      * @return new {@link JsonReader} instance.
      */
     public static JsonReader from(@NonNull JsonElement json) {
-        return new JsonReaderAdapter(new StringReader(json.toString()));
+        return new JsonReaderAdapter(json);
+    }
+
+    @Override
+    public JsonToken peek() {
+        final Object top = stack.peek();
+        if (top == null) {
+            return JsonToken.END_DOCUMENT;
+        }
+        if (top instanceof ArrayCursor array) {
+            if (!array.elements.hasNext()) {
+                return JsonToken.END_ARRAY;
+            }
+            final JsonElement next = array.elements.next();
+            stack.push(next);
+            return tokenOf(next);
+        }
+        if (top instanceof ObjectCursor object) {
+            return object.members.hasNext() ? JsonToken.NAME : JsonToken.END_OBJECT;
+        }
+        return tokenOf((JsonElement) top);
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        stack.push(new ArrayCursor(((JsonArray) stack.pop()).iterator()));
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stack.pop();
+        valueConsumed();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        stack.push(new ObjectCursor(((JsonObject) stack.pop()).entrySet().iterator()));
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stack.pop();
+        valueConsumed();
+    }
+
+    @Override
+    public boolean hasNext() {
+        final JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return nextName(false);
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        return nextPrimitive().getAsString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        final boolean result = ((JsonPrimitive) stack.pop()).getAsBoolean();
+        valueConsumed();
+        return result;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        stack.pop();
+        valueConsumed();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        final double result = nextPrimitive().getAsDouble();
+        if (!isLenient() && (Double.isNaN(result) || Double.isInfinite(result))) {
+            throw new MalformedJsonException("JSON forbids NaN and infinities: " + result);
+        }
+        return result;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return nextPrimitive().getAsLong();
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return nextPrimitive().getAsInt();
+    }
+
+    /**
+     * Skip next token. Same as Gson's readers, only name is skipped if next token is {@link JsonToken#NAME}, its value
+     * is read or skipped by subsequent call, and end of array or object is consumed if there are no more elements.
+     */
+    @Override
+    public void skipValue() throws IOException {
+        switch (peek()) {
+            case NAME:
+                nextName(true);
+                break;
+            case END_ARRAY:
+                endArray();
+                break;
+            case END_OBJECT:
+                endObject();
+                break;
+            case END_DOCUMENT:
+                break;
+            default:
+                stack.pop();
+                valueConsumed();
+                break;
+        }
+    }
+
+    @Override
+    public String getPath() {
+        return path(false);
+    }
+
+    @Override
+    public String getPreviousPath() {
+        return path(true);
+    }
+
+    @Override
+    public void close() {
+        stack.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private JsonPrimitive nextPrimitive() {
+        final JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected a string or number but was " + token);
+        }
+        final JsonPrimitive result = (JsonPrimitive) stack.pop();
+        valueConsumed();
+        return result;
+    }
+
+    private String nextName(boolean skip) {
+        expect(JsonToken.NAME);
+        final ObjectCursor object = (ObjectCursor) stack.peek();
+        final Entry<String, JsonElement> member = object.members.next();
+        object.name = skip ? SKIPPED_NAME : member.getKey();
+        stack.push(member.getValue());
+        return member.getKey();
+    }
+
+    /*
+     * Advance index of enclosing array once its element is consumed.
+     */
+    private void valueConsumed() {
+        if (stack.peek() instanceof ArrayCursor array) {
+            array.index++;
+        }
+    }
+
+    /*
+     * JSONPath of current location, in format used by Gson's readers. Previous path points to last consumed element of
+     * innermost array rather than to next one. Gson keeps both array and its iterator on stack, so cursor is counted
+     * twice when deciding which array is innermost.
+     */
+    private String path(boolean previous) {
+        int size = 0;
+        for (Object item : stack) {
+            size += item instanceof ArrayCursor || item instanceof ObjectCursor ? 2 : 1;
+        }
+        final StringBuilder sb = new StringBuilder("$");
+        int depth = 0;
+        for (Iterator<Object> it = stack.descendingIterator(); it.hasNext();) {
+            final Object item = it.next();
+            if (item instanceof ArrayCursor array) {
+                final boolean innermost = depth + 1 >= size - 2;
+                sb.append('[').append(previous && innermost && array.index > 0 ? array.index - 1 : array.index)
+                        .append(']');
+                depth += 2;
+            } else if (item instanceof ObjectCursor object) {
+                sb.append('.');
+                if (object.name != null) {
+                    sb.append(object.name);
+                }
+                depth += 2;
+            } else {
+                depth++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private void expect(JsonToken expected) {
+        final JsonToken token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token);
+        }
+    }
+
+    private static JsonToken tokenOf(JsonElement element) {
+        if (element.isJsonObject()) {
+            return JsonToken.BEGIN_OBJECT;
+        }
+        if (element.isJsonArray()) {
+            return JsonToken.BEGIN_ARRAY;
+        }
+        if (element.isJsonNull()) {
+            return JsonToken.NULL;
+        }
+        final JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return JsonToken.BOOLEAN;
+        }
+        return primitive.isNumber() ? JsonToken.NUMBER : JsonToken.STRING;
+    }
+
+    private static final class ArrayCursor {
+        final Iterator<JsonElement> elements;
+        // number of consumed elements
+        int index;
+
+        ArrayCursor(Iterator<JsonElement> elements) {
+            this.elements = elements;
+        }
+    }
+
+    private static final class ObjectCursor {
+        final Iterator<Entry<String, JsonElement>> members;
+        // name of last read member
+        @Nullable String name;
+
+        ObjectCursor(Iterator<Entry<String, JsonElement>> members) {
+            this.members = members;
+        }
     }
 }
@@ -10,19 +10,29 @@ package org.opendaylight.jsonrpc.dom.codec;
 import com.google.common.annotations.Beta;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory to create instances of various {@link Codec}s within given {@link EffectiveModelContext}. Created
@@ -35,10 +45,16 @@ import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
  */
 @Beta
 public final class JsonRpcCodecFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(JsonRpcCodecFactory.class);
+    // maximum number of cached data codecs, there is one per schema path
+    private static final int DATA_CODEC_CACHE_SIZE = 1024;
     private final EffectiveModelContext context;
     private final JsonRpcPathCodec pathCodec;
 
+    // keyed by schema path, see schemaPath()
     private final LoadingCache<YangInstanceIdentifier, DataCodec> dataCodecCache = CacheBuilder.newBuilder()
+            .maximumSize(DATA_CODEC_CACHE_SIZE)
+            .recordStats()
             .build(new CacheLoader<YangInstanceIdentifier, DataCodec>() {
                 @Override
                 public DataCodec load(YangInstanceIdentifier path) throws Exception {
@@ -67,6 +83,62 @@ public final class JsonRpcCodecFactory {
         pathCodec = JsonRpcPathCodec.create(context);
     }
 
+    /**
+     * Create factory for new {@link EffectiveModelContext}. Codecs cached by this factory for modules whose statements
+     * are same in both contexts are created again within new context ahead of their use, so that new factory starts
+     * warm. Codecs themselves are not carried over, because each of them refers to context it was created for and
+     * would keep it reachable and decode identities and instance identifiers against it. Codecs of other modules are
+     * created on first use.
+     *
+     * @param newContext new {@link EffectiveModelContext}
+     * @return new {@link JsonRpcCodecFactory}
+     */
+    public JsonRpcCodecFactory withContext(@NonNull EffectiveModelContext newContext) {
+        final JsonRpcCodecFactory factory = new JsonRpcCodecFactory(newContext);
+        if (newContext == context) {
+            factory.dataCodecCache.putAll(dataCodecCache.asMap());
+            factory.rpcCodecCache.putAll(rpcCodecCache.asMap());
+            factory.notifCodecCache.putAll(notifCodecCache.asMap());
+            return factory;
+        }
+        final ModuleChanges changes = ModuleChanges.between(context, newContext);
+        dataCodecCache.asMap().keySet().forEach(path -> {
+            if (path.getPathArguments().stream().allMatch(arg -> changes.isUnchanged(arg.getNodeType().getModule()))) {
+                load(factory.dataCodecCache, path);
+            }
+        });
+        // codecs are keyed by definitions, which are distinct objects in new context
+        final Map<QName, RpcDefinition> rpcs = new HashMap<>();
+        newContext.getOperations().forEach(rpc -> rpcs.put(rpc.getQName(), rpc));
+        rpcCodecCache.asMap().keySet().forEach(definition -> {
+            final RpcDefinition rpc = rpcs.get(definition.getQName());
+            if (rpc != null && changes.isUnchanged(rpc.getQName().getModule())) {
+                load(factory.rpcCodecCache, rpc);
+            }
+        });
+        final Map<QName, NotificationDefinition> notifications = new HashMap<>();
+        newContext.getNotifications().forEach(notif -> notifications.put(notif.getQName(), notif));
+        notifCodecCache.asMap().keySet().forEach(definition -> {
+            final NotificationDefinition notification = notifications.get(definition.getQName());
+            if (notification != null && changes.isUnchanged(notification.getQName().getModule())) {
+                load(factory.notifCodecCache, notification);
+            }
+        });
+        return factory;
+    }
+
+    /*
+     * Codec which can't be created is not cached, so failure is reported again on first use.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static <K, V> void load(LoadingCache<K, V> cache, K key) {
+        try {
+            cache.getUnchecked(key);
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to create codec for {}", key, e);
+        }
+    }
+
     /**
      * Get {@link Codec} for RPC input.
      *
@@ -111,7 +183,8 @@ public final class JsonRpcCodecFactory {
     }
 
     /**
-     * Get {@link Codec} to translate between JSONRPC data and {@link NormalizedNode}s.
+     * Get {@link Codec} to translate between JSONRPC data and {@link NormalizedNode}s. Codec does not depend on values
+     * of list keys within path, so same codec is shared by all entries of list.
      *
      * @param path path within data tree
      * @return data codec
@@ -121,6 +194,33 @@ public final class JsonRpcCodecFactory {
         if (path.isEmpty()) {
             throw new IllegalArgumentException("Empty path is not supported by data codec");
         }
-        return dataCodecCache.getUnchecked(path);
+        return dataCodecCache.getUnchecked(schemaPath(path));
+    }
+
+    /**
+     * Get statistics of data codec cache.
+     *
+     * @return {@link CacheStats} of data codec cache
+     */
+    public CacheStats dataCodecStats() {
+        return dataCodecCache.stats();
+    }
+
+    /*
+     * Strip values of list keys from path. Returned path still distinguishes list from its entry, which is all data
+     * codec needs to know.
+     */
+    private static YangInstanceIdentifier schemaPath(YangInstanceIdentifier path) {
+        final List<PathArgument> args = new ArrayList<>(path.getPathArguments().size());
+        boolean stripped = false;
+        for (final PathArgument arg : path.getPathArguments()) {
+            if (arg instanceof NodeIdentifierWithPredicates) {
+                args.add(NodeIdentifierWithPredicates.of(arg.getNodeType()));
+                stripped = true;
+            } else {
+                args.add(arg);
+            }
+        }
+        return stripped ? YangInstanceIdentifier.of(args) : path;
     }
 }
@@ -12,16 +12,17 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
-import java.util.AbstractMap;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.InstanceIdentifierBuilder;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
@@ -40,11 +41,32 @@ import org.slf4j.LoggerFactory;
 @Beta
 public class JsonRpcPathCodec implements Codec<JsonObject, YangInstanceIdentifier, RuntimeException> {
     private static final Logger LOG = LoggerFactory.getLogger(JsonRpcPathCodec.class);
+    // maximum number of cached names (per module for local names), limits memory used by names not present in schema
+    private static final int MAX_NAMES = 4096;
     private final SchemaContext schemaContext;
+    // module name to QName carrying latest revision of module (local name is module name)
+    private final Map<String, QName> moduleQNames;
+    // QNameModule to name of module
+    private final Map<QNameModule, String> moduleNames;
+    // interned QNames of path elements, keyed by module and local name
+    private final Map<QNameModule, Map<String, QName>> localNames;
+    // qualified names of path elements ('module:local-name')
+    private final Map<QName, String> qualifiedNames = new ConcurrentHashMap<>();
 
     //TODO : Make this private once deprecated subclass is removed
     protected JsonRpcPathCodec(SchemaContext schemaContext) {
         this.schemaContext = schemaContext;
+        final Map<String, QName> byName = new HashMap<>();
+        final Map<QNameModule, String> names = new HashMap<>();
+        final Map<QNameModule, Map<String, QName>> interned = new HashMap<>();
+        for (final Module module : schemaContext.getModules()) {
+            names.put(module.getQNameModule(), module.getName());
+            interned.put(module.getQNameModule(), new ConcurrentHashMap<>());
+            byName.computeIfAbsent(module.getName(), name -> QName.create(findModule(name).getQNameModule(), name));
+        }
+        moduleQNames = Map.copyOf(byName);
+        moduleNames = Map.copyOf(names);
+        localNames = Map.copyOf(interned);
     }
 
     /**
@@ -67,38 +89,58 @@ public class JsonRpcPathCodec implements Codec<JsonObject, YangInstanceIdentifie
     @Override
     public JsonObject serialize(YangInstanceIdentifier input) {
         Objects.requireNonNull(input);
-        final Iterator<PathArgument> it = input.getPathArguments().iterator();
-        final JsonRpcPathBuilder builder = JsonRpcPathBuilder.newBuilder();
+        final List<PathArgument> args = input.getPathArguments();
+        final JsonObject root = new JsonObject();
+        JsonElement parent = root;
         String module = null;
-        while (it.hasNext()) {
-            final PathArgument current = it.next();
-            final String currentModule = ensureModuleFound(schemaContext.findModule(current.getNodeType().getModule()),
-                    current.getNodeType().toString()).getName();
-            if (current instanceof NodeIdentifierWithPredicates) {
-                final Set<Entry<QName, Object>> inKeys = ((NodeIdentifierWithPredicates) current).entrySet();
-                final Collection<Entry<String, String>> keys = inKeys.stream()
-                        .map(JsonRpcPathCodec::mapKey)
-                        .collect(Collectors.toList());
-                LOG.trace("[Encode][Keyed  ]: {}, {}", current, keys);
-                builder.item(keys);
+        for (int i = 0; i < args.size(); i++) {
+            final PathArgument current = args.get(i);
+            final String currentModule = moduleName(current.getNodeType());
+            if (current instanceof NodeIdentifierWithPredicates keyed) {
+                LOG.trace("[Encode][Keyed  ]: {}", current);
+                if (keyed.entrySet().isEmpty()) {
+                    throw new IllegalArgumentException("Keyless list entry is not supported : " + current);
+                }
+                final JsonObject item = new JsonObject();
+                for (final Entry<QName, Object> key : keyed.entrySet()) {
+                    item.addProperty(key.getKey().getLocalName(), String.valueOf(key.getValue()));
+                }
+                parent.getAsJsonArray().add(item);
+                parent = item;
             } else {
                 LOG.trace("[Encode][Unkeyed]: {}", current);
-                builder.container(prefixElement(current.getNodeType(), currentModule, module));
+                final boolean nextKeyed = i + 1 < args.size()
+                        && args.get(i + 1) instanceof NodeIdentifierWithPredicates;
+                final JsonElement next = nextKeyed ? new JsonArray() : new JsonObject();
+                parent.getAsJsonObject().add(elementName(current.getNodeType(), currentModule, module), next);
+                parent = next;
             }
             module = currentModule;
         }
-        return builder.build();
+        return root;
     }
 
-    private static String prefixElement(QName name, String currentModule, String previous) {
-        if (previous == null || !currentModule.equals(previous)) {
-            return currentModule + ':' + name.getLocalName();
+    private String moduleName(QName name) {
+        final String moduleName = moduleNames.get(name.getModule());
+        if (moduleName == null) {
+            throw new IllegalArgumentException(String.format("Module '%s' not found in schema", name));
         }
-        return name.getLocalName();
+        return moduleName;
     }
 
-    private static Entry<String, String> mapKey(Entry<QName, Object> entry) {
-        return new AbstractMap.SimpleEntry<>(entry.getKey().getLocalName(), String.valueOf(entry.getValue()));
+    private String elementName(QName name, String currentModule, String previous) {
+        if (previous != null && currentModule.equals(previous)) {
+            return name.getLocalName();
+        }
+        final String cached = qualifiedNames.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        final String qualified = currentModule + ':' + name.getLocalName();
+        if (qualifiedNames.size() < MAX_NAMES) {
+            qualifiedNames.putIfAbsent(name, qualified);
+        }
+        return qualified;
     }
 
     private YangInstanceIdentifier decodeObject(InstanceIdentifierBuilder builder, JsonObject path, QName nodeNs,
@@ -109,13 +151,14 @@ public class JsonRpcPathCodec implements Codec<JsonObject, YangInstanceIdentifie
             final Entry<String, JsonElement> entry = it.next();
             final String key = entry.getKey();
             final JsonElement value = entry.getValue();
-            if (key.indexOf(':') == -1) {
-                localNs = QName.create(nodeNs, key);
+            final int colon = key.indexOf(':');
+            if (colon == -1) {
+                localNs = childQName(nodeNs, key);
             } else {
-                final String[] parts = key.split(":");
-                nodeNs = constructModuleQName(parts[0]);
+                nodeNs = constructModuleQName(key.substring(0, colon));
                 if (value instanceof JsonArray || value instanceof JsonObject) {
-                    localNs = QName.create(nodeNs, parts[1]);
+                    final int end = key.indexOf(':', colon + 1);
+                    localNs = childQName(nodeNs, end == -1 ? key.substring(colon + 1) : key.substring(colon + 1, end));
                     nodeNs = localNs;
                 }
             }
@@ -161,8 +204,29 @@ public class JsonRpcPathCodec implements Codec<JsonObject, YangInstanceIdentifie
         return ensureModuleFound(schemaContext.findModules(moduleName).stream().findFirst(), moduleName);
     }
 
-    private QName constructModuleQName(String localName) {
-        return QName.create(findModule(localName).getQNameModule(), localName);
+    private QName constructModuleQName(String moduleName) {
+        final QName moduleQName = moduleQNames.get(moduleName);
+        return moduleQName != null ? moduleQName : QName.create(findModule(moduleName).getQNameModule(), moduleName);
+    }
+
+    /*
+     * Get QName of path element within module of given parent. Same instance is returned for same name, unless there
+     * are too many names in module already.
+     */
+    private QName childQName(QName parent, String localName) {
+        final Map<String, QName> names = localNames.get(parent.getModule());
+        if (names == null) {
+            return QName.create(parent, localName);
+        }
+        final QName cached = names.get(localName);
+        if (cached != null) {
+            return cached;
+        }
+        final QName created = QName.create(parent, localName);
+        if (names.size() < MAX_NAMES) {
+            names.putIfAbsent(localName, created);
+        }
+        return created;
     }
 
     private static void throwJsonPathError(JsonElement ex) {
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.dom.codec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Deviation;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+
+/**
+ * Modules of new {@link EffectiveModelContext} whose effective statements may differ from previous context. Module is
+ * affected when it was added, removed or its revision changed, when affected module augments it, deviates it or
+ * derives identity from it, and when it imports affected module. Rules are applied until no more modules are affected,
+ * so that effects of changed module reach targets of its importers, too. Statements of other modules are same in both
+ * contexts, so codecs created for them can be reused.
+ */
+final class ModuleChanges {
+    private final Map<QNameModule, Module> before;
+    private final Map<QNameModule, Module> after;
+    // all versions of modules present in either context
+    private final Map<String, List<Module>> byName = new HashMap<>();
+    private final Map<String, Set<String>> importers = new HashMap<>();
+    private final Set<String> affected = new HashSet<>();
+    private final Deque<String> queue = new ArrayDeque<>();
+
+    private ModuleChanges(EffectiveModelContext before, EffectiveModelContext after) {
+        this.before = index(before);
+        this.after = index(after);
+    }
+
+    /**
+     * Compute changes between two contexts.
+     *
+     * @param before previous context
+     * @param after new context
+     * @return {@link ModuleChanges}
+     */
+    static ModuleChanges between(EffectiveModelContext before, EffectiveModelContext after) {
+        final ModuleChanges changes = new ModuleChanges(before, after);
+        changes.collect(changes.before, changes.after);
+        changes.collect(changes.after, changes.before);
+        changes.propagate();
+        return changes;
+    }
+
+    /**
+     * Check whether module is present in new context and its statements are same as in previous context.
+     *
+     * @param module module to check
+     * @return true if module is not affected by changes
+     */
+    boolean isUnchanged(QNameModule module) {
+        final Module found = after.get(module);
+        return found != null && before.containsKey(module) && !affected.contains(found.getName());
+    }
+
+    private static Map<QNameModule, Module> index(EffectiveModelContext context) {
+        final Map<QNameModule, Module> modules = new HashMap<>();
+        for (final Module module : context.getModules()) {
+            modules.put(module.getQNameModule(), module);
+        }
+        return modules;
+    }
+
+    /*
+     * Index modules and their importers, marking modules present in one context only as affected.
+     */
+    private void collect(Map<QNameModule, Module> modules, Map<QNameModule, Module> other) {
+        for (final Module module : modules.values()) {
+            byName.computeIfAbsent(module.getName(), k -> new ArrayList<>()).add(module);
+            addImporter(module.getName(), module.getImports());
+            for (final Submodule submodule : module.getSubmodules()) {
+                addImporter(module.getName(), submodule.getImports());
+            }
+            if (!other.containsKey(module.getQNameModule())) {
+                markAffected(module.getName());
+            }
+        }
+    }
+
+    private void addImporter(String importer, Iterable<? extends ModuleImport> imports) {
+        for (final ModuleImport moduleImport : imports) {
+            importers.computeIfAbsent(moduleImport.getModuleName().getLocalName(), k -> new HashSet<>())
+                    .add(importer);
+        }
+    }
+
+    /*
+     * Mark modules reachable from affected modules as affected, until there is nothing left to process.
+     */
+    private void propagate() {
+        while (!queue.isEmpty()) {
+            final String name = queue.pop();
+            for (final Module module : byName.getOrDefault(name, List.of())) {
+                for (final AugmentationSchemaNode augmentation : module.getAugmentations()) {
+                    augmentation.getTargetPath().getNodeIdentifiers().forEach(this::addModuleOf);
+                }
+                for (final Deviation deviation : module.getDeviations()) {
+                    deviation.getTargetPath().getNodeIdentifiers().forEach(this::addModuleOf);
+                }
+                for (final IdentitySchemaNode identity : module.getIdentities()) {
+                    for (final IdentitySchemaNode base : identity.getBaseIdentities()) {
+                        addModuleOf(base.getQName());
+                    }
+                }
+            }
+            importers.getOrDefault(name, Set.of()).forEach(this::markAffected);
+        }
+    }
+
+    private void addModuleOf(QName name) {
+        final Module module = after.getOrDefault(name.getModule(), before.get(name.getModule()));
+        if (module != null) {
+            markAffected(module.getName());
+        }
+    }
+
+    private void markAffected(String name) {
+        if (affected.add(name)) {
+            queue.push(name);
+        }
+    }
+}
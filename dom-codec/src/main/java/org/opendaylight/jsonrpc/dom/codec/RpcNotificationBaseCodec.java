@@ -16,9 +16,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
-import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
@@ -26,7 +24,6 @@ import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
-import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -86,8 +83,7 @@ abstract class RpcNotificationBaseCodec<T> extends AbstractCodec implements Code
     }
 
     protected JsonObject encode(ContainerNode input) throws IOException {
-        final StringWriter writer = new StringWriter();
-        final JsonWriter jsonWriter = JsonWriterFactory.createJsonWriter(writer);
+        final JsonElementWriter jsonWriter = new JsonElementWriter();
         try (NormalizedNodeStreamWriter streamWriter = createNestedWriter(jsonCodec(), path, null, jsonWriter);
                 NormalizedNodeWriter nodeWriter = forStreamWriter(streamWriter)) {
             jsonWriter.beginObject();
@@ -97,7 +93,7 @@ abstract class RpcNotificationBaseCodec<T> extends AbstractCodec implements Code
             jsonWriter.endObject();
             jsonWriter.flush();
         }
-        final JsonObject encoded = parseFromWriter(writer);
+        final JsonObject encoded = jsonWriter.result().getAsJsonObject();
         final JsonObject result = new JsonObject();
         for (final Entry<String, JsonElement> element : encoded.entrySet()) {
             final String property = element.getKey();
@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 
 import com.google.gson.JsonElement;
@@ -75,6 +76,37 @@ public class DataCodecTest extends AbstractCodecTest {
         assertEquals(parsed, encoded);
     }
 
+    @Test
+    public void testListItemsShareCodec() throws IOException {
+        final JsonRpcCodecFactory codecFactory = new JsonRpcCodecFactory(schemaContext);
+        final YangInstanceIdentifier path1 = codecFactory.pathCodec()
+                .deserialize(JsonRpcPathBuilder.newBuilder("network-topology:network-topology")
+                        .container("topology")
+                        .item("topology-id", "topo-id")
+                        .build());
+        final YangInstanceIdentifier path2 = codecFactory.pathCodec()
+                .deserialize(JsonRpcPathBuilder.newBuilder("network-topology:network-topology")
+                        .container("topology")
+                        .item("topology-id", "other-id")
+                        .build());
+        assertSame(codecFactory.dataCodec(path1), codecFactory.dataCodec(path2));
+        assertEquals(1L, codecFactory.dataCodecStats().loadCount());
+        assertEquals(1L, codecFactory.dataCodecStats().hitCount());
+
+        // codec shared by list entries still encodes each one with its own key
+        final JsonElement parsed = loadJsonData("topo1.json");
+        final NormalizedNode data = codecFactory.dataCodec(path2).deserialize(parsed);
+        assertEquals(parsed, codecFactory.dataCodec(path1).serialize(data));
+    }
+
+    @Test
+    public void testCodecCarriedOver() {
+        final YangInstanceIdentifier path = factory.pathCodec()
+                .deserialize(JsonRpcPathBuilder.newBuilder("network-topology:network-topology").build());
+        final Codec<JsonElement, NormalizedNode, IOException> codec = factory.dataCodec(path);
+        assertSame(codec, factory.withContext(schemaContext).dataCodec(path));
+    }
+
     @Test
     public void testEncodeContainer() throws IOException {
         YangInstanceIdentifier path = YangInstanceIdentifier.of(NetworkTopology.QNAME);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.dom.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.google.gson.JsonParser;
+import com.google.gson.internal.bind.JsonTreeWriter;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.Test;
+
+/**
+ * Tests that {@link JsonElementWriter} builds same trees as Gson's own writer of {@link com.google.gson.JsonElement}
+ * trees.
+ */
+public class JsonElementWriterTest {
+    @FunctionalInterface
+    private interface Script {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    @Test
+    public void testNestedEmptyContainers() throws IOException {
+        compare(writer -> writer.beginObject().endObject());
+        compare(writer -> writer.beginArray().endArray());
+        compare(writer -> writer.beginArray()
+                .beginArray().endArray()
+                .beginObject().endObject()
+                .beginArray().beginArray().endArray().endArray()
+                .endArray());
+        compare(writer -> writer.beginObject()
+                .name("a").beginObject().name("b").beginArray().endArray().endObject()
+                .name("c").beginArray().beginObject().endObject().endArray()
+                .endObject());
+    }
+
+    @Test
+    public void testNulls() throws IOException {
+        final Script script = writer -> writer.beginObject()
+                .name("n").nullValue()
+                .name("s").value((String) null)
+                .name("b").value((Boolean) null)
+                .name("x").value((Number) null)
+                .name("a").beginArray().nullValue().value((String) null).value(1).endArray()
+                .endObject();
+        compare(script, false);
+        compare(script, true);
+        compare(JsonWriter::nullValue);
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+        compare(writer -> writer.beginArray()
+                .value(0)
+                .value(-1L)
+                .value(Long.MAX_VALUE)
+                .value(1.5)
+                .value(-2.5e10)
+                .value(0.25f)
+                .value(new BigDecimal("3.14159265358979323846"))
+                .value(new BigInteger("123456789012345678901234567890"))
+                .value(Integer.valueOf(7))
+                .endArray());
+        compare(writer -> writer.value(42));
+    }
+
+    @Test
+    public void testPrimitives() throws IOException {
+        compare(writer -> writer.beginObject()
+                .name("s").value("text")
+                .name("t").value(true)
+                .name("f").value(Boolean.FALSE)
+                .endObject());
+        compare(writer -> writer.value("top-level"));
+    }
+
+    @Test
+    public void testNonFiniteRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonTreeWriter().value(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new JsonElementWriter().value(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+            () -> new JsonTreeWriter().value(Double.valueOf(Double.POSITIVE_INFINITY)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new JsonElementWriter().value(Double.valueOf(Double.POSITIVE_INFINITY)));
+    }
+
+    @Test
+    public void testJsonValue() throws IOException {
+        // Gson's writer does not support raw JSON values, so parsed value is expected instead
+        final JsonElementWriter writer = new JsonElementWriter();
+        writer.beginArray().jsonValue("{\"a\":[1,null]}").endArray();
+        assertEquals(JsonParser.parseString("[{\"a\":[1,null]}]"), writer.result());
+    }
+
+    @Test
+    public void testIncompleteDocument() {
+        final JsonElementWriter writer = new JsonElementWriter();
+        assertThrows(IllegalStateException.class, writer::result);
+        writer.beginArray();
+        assertThrows(IllegalStateException.class, writer::result);
+    }
+
+    private static void compare(Script script) throws IOException {
+        compare(script, true);
+    }
+
+    private static void compare(Script script, boolean serializeNulls) throws IOException {
+        final JsonTreeWriter gson = new JsonTreeWriter();
+        final JsonElementWriter writer = new JsonElementWriter();
+        gson.setSerializeNulls(serializeNulls);
+        writer.setSerializeNulls(serializeNulls);
+        script.write(gson);
+        script.write(writer);
+        assertEquals(gson.get(), writer.result());
+    }
+}
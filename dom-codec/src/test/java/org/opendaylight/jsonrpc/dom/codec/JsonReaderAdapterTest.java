@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.dom.codec;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.internal.bind.JsonTreeReader;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests that {@link JsonReaderAdapter} produces same tokens and paths as Gson's own reader of {@link JsonElement}
+ * trees.
+ */
+public class JsonReaderAdapterTest {
+    private static final List<String> DOCUMENTS = List.of(
+        "{}",
+        "[]",
+        "null",
+        "\"text\"",
+        "42",
+        "true",
+        "[[],{},[[]],{\"a\":{}},[{}]]",
+        "{\"a\":{\"b\":[]},\"c\":[{}],\"d\":{}}",
+        "{\"n\":null,\"a\":[null,1,null],\"o\":{\"x\":null}}",
+        "[0,-1,1.5,-2.5e10,12345678901234567890,1e-7,3.0]",
+        "{\"s\":\"str\",\"t\":true,\"f\":false,\"l\":[\"a\",true,2,{\"k\":[1,[2,[]]]}]}");
+
+    @Test
+    public void testTokens() throws IOException {
+        for (String document : DOCUMENTS) {
+            compare(document, 0);
+        }
+    }
+
+    @Test
+    public void testSkipValue() throws IOException {
+        for (String document : DOCUMENTS) {
+            for (int skipEvery = 1; skipEvery <= 5; skipEvery++) {
+                compare(document, skipEvery);
+            }
+        }
+    }
+
+    @Test
+    public void testSkipName() throws IOException {
+        final JsonElement json = JsonParser.parseString("{\"a\":1,\"b\":{\"c\":2}}");
+        final JsonReader reader = JsonReaderAdapter.from(json);
+        reader.beginObject();
+        reader.skipValue();
+        assertEquals("$.<skipped>", reader.getPath());
+        // only name is skipped, value is still available
+        assertEquals(JsonToken.NUMBER, reader.peek());
+        assertEquals(1, reader.nextInt());
+        assertEquals("b", reader.nextName());
+        reader.skipValue();
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void testNumbers() throws IOException {
+        final JsonElement json = JsonParser.parseString("[7,-8,2.5,\"9\",12345678901]");
+        final JsonReader adapter = JsonReaderAdapter.from(json);
+        final JsonReader gson = new JsonTreeReader(json);
+        adapter.beginArray();
+        gson.beginArray();
+        assertEquals(gson.nextInt(), adapter.nextInt());
+        assertEquals(gson.nextLong(), adapter.nextLong());
+        assertEquals(gson.nextDouble(), adapter.nextDouble(), 0);
+        assertEquals(gson.nextInt(), adapter.nextInt());
+        assertEquals(gson.nextLong(), adapter.nextLong());
+        assertEquals(gson.getPath(), adapter.getPath());
+        adapter.endArray();
+        gson.endArray();
+    }
+
+    /*
+     * Read whole document using both readers, skipping every n-th token instead of reading it, if n is positive.
+     */
+    private static void compare(String document, int skipEvery) throws IOException {
+        final JsonElement json = JsonParser.parseString(document);
+        final JsonReader adapter = JsonReaderAdapter.from(json);
+        final JsonReader gson = new JsonTreeReader(json);
+        for (int step = 1;; step++) {
+            final String where = document + " step " + step + " skip " + skipEvery;
+            final JsonToken token = gson.peek();
+            assertEquals(where, token, adapter.peek());
+            assertEquals(where, gson.getPath(), adapter.getPath());
+            assertEquals(where, gson.getPreviousPath(), adapter.getPreviousPath());
+            if (token == JsonToken.END_DOCUMENT) {
+                return;
+            }
+            if (skipEvery > 0 && step % skipEvery == 0) {
+                gson.skipValue();
+                adapter.skipValue();
+            } else {
+                assertEquals(where, read(gson, token), read(adapter, token));
+            }
+            assertEquals(where, gson.getPath(), adapter.getPath());
+            assertEquals(where, gson.getPreviousPath(), adapter.getPreviousPath());
+        }
+    }
+
+    private static Object read(JsonReader reader, JsonToken token) throws IOException {
+        switch (token) {
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                return token;
+            case END_ARRAY:
+                reader.endArray();
+                return token;
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                return token;
+            case END_OBJECT:
+                reader.endObject();
+                return token;
+            case NAME:
+                return reader.nextName();
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return token;
+            default:
+                throw new IllegalStateException("Unexpected token " + token);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.dom.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import com.google.gson.JsonElement;
+import java.io.IOException;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Tests for codecs of {@link JsonRpcCodecFactory} created for new context.
+ */
+public class JsonRpcCodecFactoryTest {
+    private static final YangInstanceIdentifier UNRELATED = YangInstanceIdentifier
+            .of(QName.create("urn:test:module-changes:unrelated", "unrelated"));
+    private static final YangInstanceIdentifier TOP = YangInstanceIdentifier
+            .of(QName.create("urn:test:module-changes:base", "top"));
+
+    @Test
+    public void testCodecsRecreatedWithinNewContext() throws Exception {
+        final JsonRpcCodecFactory factory = new JsonRpcCodecFactory(ModuleChangesTest.parse("base", "unrelated"));
+        final Codec<JsonElement, NormalizedNode, IOException> codec = factory.dataCodec(UNRELATED);
+        factory.dataCodec(TOP);
+
+        // base is augmented by added module
+        final JsonRpcCodecFactory newFactory = factory.withContext(ModuleChangesTest.parse("base", "unrelated",
+            "extra"));
+        // codec of unchanged module is created ahead of its use, codec of changed one is not
+        assertEquals(1, newFactory.dataCodecStats().loadCount());
+        final Codec<JsonElement, NormalizedNode, IOException> newCodec = newFactory.dataCodec(UNRELATED);
+        assertEquals(1, newFactory.dataCodecStats().hitCount());
+        // codec of old context is not carried over
+        assertNotSame(codec, newCodec);
+        newFactory.dataCodec(TOP);
+        assertEquals(2, newFactory.dataCodecStats().loadCount());
+    }
+}
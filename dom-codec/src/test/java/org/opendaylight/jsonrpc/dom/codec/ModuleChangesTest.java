@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.dom.codec;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.Resources;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.opendaylight.yangtools.dagger.yang.parser.DaggerDefaultYangParserComponent;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.spi.source.DelegatedYangTextSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParser;
+
+/**
+ * Tests for {@link ModuleChanges} computed between two separately parsed contexts.
+ */
+public class ModuleChangesTest {
+    @Test
+    public void testSameModules() throws Exception {
+        final EffectiveModelContext before = parse("base", "base-user", "extra", "unrelated");
+        final EffectiveModelContext after = parse("base", "base-user", "extra", "unrelated");
+        final ModuleChanges changes = ModuleChanges.between(before, after);
+        for (String name : new String[] { "base", "base-user", "extra", "unrelated" }) {
+            assertTrue(name, changes.isUnchanged(module(after, name)));
+        }
+    }
+
+    @Test
+    public void testAddedModule() throws Exception {
+        final EffectiveModelContext after = parse("base", "unrelated", "added");
+        final ModuleChanges changes = ModuleChanges.between(parse("base", "unrelated"), after);
+        assertFalse(changes.isUnchanged(module(after, "added")));
+        assertTrue(changes.isUnchanged(module(after, "base")));
+        assertTrue(changes.isUnchanged(module(after, "unrelated")));
+    }
+
+    @Test
+    public void testAugmentingModule() throws Exception {
+        final EffectiveModelContext after = parse("base", "base-user", "unrelated", "extra");
+        final ModuleChanges changes = ModuleChanges.between(parse("base", "base-user", "unrelated"), after);
+        assertFalse(changes.isUnchanged(module(after, "extra")));
+        // augmented by added module
+        assertFalse(changes.isUnchanged(module(after, "base")));
+        // imports augmented module
+        assertFalse(changes.isUnchanged(module(after, "base-user")));
+        assertTrue(changes.isUnchanged(module(after, "unrelated")));
+    }
+
+    @Test
+    public void testRemovedAugmentingModule() throws Exception {
+        final EffectiveModelContext after = parse("base", "base-user", "unrelated");
+        final ModuleChanges changes = ModuleChanges.between(parse("base", "base-user", "unrelated", "extra"), after);
+        assertFalse(changes.isUnchanged(module(after, "base")));
+        assertFalse(changes.isUnchanged(module(after, "base-user")));
+        assertTrue(changes.isUnchanged(module(after, "unrelated")));
+    }
+
+    @Test
+    public void testImportChain() throws Exception {
+        final EffectiveModelContext before = parse("types@2020-01-01", "middle", "top-user", "augmenter", "base",
+            "base-user", "unrelated");
+        final EffectiveModelContext after = parse("types@2021-01-01", "middle", "top-user", "augmenter", "base",
+            "base-user", "unrelated");
+        final ModuleChanges changes = ModuleChanges.between(before, after);
+        assertFalse(changes.isUnchanged(module(after, "types")));
+        assertFalse(changes.isUnchanged(module(before, "types")));
+        // import chain
+        assertFalse(changes.isUnchanged(module(after, "middle")));
+        assertFalse(changes.isUnchanged(module(after, "top-user")));
+        // augmenter is present in both contexts, but its augmentation depends on changed types
+        assertFalse(changes.isUnchanged(module(after, "augmenter")));
+        assertFalse(changes.isUnchanged(module(after, "base")));
+        assertFalse(changes.isUnchanged(module(after, "base-user")));
+        assertTrue(changes.isUnchanged(module(after, "unrelated")));
+    }
+
+    private static QNameModule module(EffectiveModelContext context, String name) {
+        return context.findModules(name).iterator().next().getQNameModule();
+    }
+
+    static EffectiveModelContext parse(String... files) throws Exception {
+        final YangParser parser = DaggerDefaultYangParserComponent.create().parserFactory().createParser();
+        for (String file : files) {
+            final String fileName = file + ".yang";
+            parser.addSource(new DelegatedYangTextSource(SourceIdentifier.ofYangFileName(fileName),
+                Resources.asCharSource(Resources.getResource("module-changes/" + fileName), StandardCharsets.UTF_8)));
+        }
+        return parser.buildEffectiveModel();
+    }
+}
@@ -8,6 +8,7 @@
 package org.opendaylight.jsonrpc.dom.codec;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import com.google.gson.JsonObject;
 import org.junit.Test;
@@ -30,4 +31,21 @@ public class PathCodecAndBuilderTest extends AbstractCodecTest {
         LOG.info("Result : {}", yii);
         assertEquals(7, yii.getPathArguments().size());
     }
+
+    @Test
+    public void testPathRoundTrip() {
+        final JsonObject jsonPath = JsonRpcPathBuilder.newBuilder("network-topology:network-topology")
+                .container("topology")
+                .item("topology-id", "topo-1")
+                .container("node")
+                .item("node-id", "node-1")
+                .build();
+        final YangInstanceIdentifier yii1 = factory.pathCodec().deserialize(jsonPath);
+        final YangInstanceIdentifier yii2 = factory.pathCodec().deserialize(jsonPath);
+        assertEquals(yii1, yii2);
+        // QNames of path elements are interned
+        assertSame(yii1.getLastPathArgument().getNodeType(), yii2.getLastPathArgument().getNodeType());
+        assertEquals(jsonPath, factory.pathCodec().serialize(yii1));
+        assertEquals(jsonPath, factory.pathCodec().serialize(yii2));
+    }
 }
@@ -153,7 +153,7 @@ class RemotePeerContext extends AbstractPeerContext implements ClusterSingletonS
 
         final RemoteGovernance governance = dependencies.getGovernanceProvider().get().orElse(null);
 
-        final MutablePeer newPeer = new MutablePeer().name(peer.getName());
+        final MutablePeer newPeer = new MutablePeer().name(peer.getName()).readCache(peer.getReadCache());
         final HierarchicalEnumMap<JsonElement, DataType, String> pathMap = HierarchicalEnumHashMap
                 .create(DataType.class, JsonPathCodec.create());
         populatePathMap(pathMap, peer);
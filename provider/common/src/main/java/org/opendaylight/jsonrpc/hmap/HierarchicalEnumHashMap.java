@@ -17,11 +17,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of a HierarchicalMap which uses {@link HashMap}
  * internally to perform child lookups and {@link EnumMap} for key-value
- * mapping.
+ * mapping. Lookups are served from immutable snapshot of tree, which is
+ * compiled on first lookup after tree was modified.
  *
  * @author <a href="mailto:rkosegi@brocade.com">Richard Kosegi</a>
  *
@@ -29,10 +31,15 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class HierarchicalEnumHashMap<P, K extends Enum<K>, D, I> implements HierarchicalEnumMap<P, K, D> {
     private final EnumTreeNode<I, K, D> root;
     private final PathCodec<P, I> pathCodec;
+    private final Class<K> keyType;
+    // immutable snapshot of tree used by lookups, dropped by every modification and compiled again on next lookup
+    private volatile RoutingNode<I, K, D> index;
+    private final AtomicLong version = new AtomicLong();
 
     private HierarchicalEnumHashMap(Class<K> keyType, PathCodec<P, I> pathSupplier) {
         this.pathCodec = Objects.requireNonNull(pathSupplier);
-        this.root = newRootNode(Objects.requireNonNull(keyType));
+        this.keyType = Objects.requireNonNull(keyType);
+        this.root = newRootNode(keyType);
     }
 
     public static <P, K extends Enum<K>, D, I> HierarchicalEnumMap<P, K, D> create(Class<K> keyType,
@@ -42,32 +49,23 @@ public final class HierarchicalEnumHashMap<P, K extends Enum<K>, D, I> implement
 
     @Override
     public Optional<D> lookup(P path, K key) {
-        EnumTreeNode<I, K, D> current = root;
-        D value = null;
-        final Iterator<I> iterator = pathCodec.serialize(path).iterator();
-        if (!iterator.hasNext()) {
-            return Optional.ofNullable(root.value(key));
-        }
-        while (iterator.hasNext()) {
-            final I id = iterator.next();
-            if (current.value(key) != null) {
-                value = current.value(key);
+        RoutingNode<I, K, D> current = routingIndex();
+        D value = current.value(key);
+        for (final I id : pathCodec.serialize(path)) {
+            current = current.child(id);
+            if (current == null) {
+                break;
             }
-            final Optional<EnumTreeNode<I, K, D>> candidate = current.lookupChild(id);
-            if (candidate.isPresent()) {
-                current = candidate.orElseThrow();
-                if (current.value(key) != null) {
-                    value = current.value(key);
-                }
-            } else {
-                current = current.appendChild(id);
+            final D candidate = current.value(key);
+            if (candidate != null) {
+                value = candidate;
             }
         }
         return Optional.ofNullable(value);
     }
 
     @Override
-    public D put(P path, K key, D data) {
+    public synchronized D put(P path, K key, D data) {
         EnumTreeNode<I, K, D> current = root;
         final Iterator<I> iterator = pathCodec.serialize(path).iterator();
         while (iterator.hasNext()) {
@@ -77,9 +75,31 @@ public final class HierarchicalEnumHashMap<P, K extends Enum<K>, D, I> implement
         }
         final D previousValue = current.value(key);
         current.setValue(key, data);
+        index = null;
+        version.incrementAndGet();
         return previousValue;
     }
 
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    /*
+     * Get read-optimized snapshot of tree, compiling it if tree was modified since last lookup.
+     */
+    private RoutingNode<I, K, D> routingIndex() {
+        final RoutingNode<I, K, D> local = index;
+        return local != null ? local : compileIndex();
+    }
+
+    private synchronized RoutingNode<I, K, D> compileIndex() {
+        if (index == null) {
+            index = RoutingNode.compile(root, keyType);
+        }
+        return index;
+    }
+
     @Override
     public Map<P, D> toMap(K key) {
         final Map<P, D> map = new HashMap<>();
@@ -122,6 +142,42 @@ public final class HierarchicalEnumHashMap<P, K extends Enum<K>, D, I> implement
         return new RootTreeNode<>(keyType);
     }
 
+    /*
+     * Node of compiled routing index. Unlike tree nodes, it is never modified once created, so lookups need no
+     * synchronization and never allocate.
+     */
+    private static final class RoutingNode<I, K extends Enum<K>, D> {
+        private final Map<I, RoutingNode<I, K, D>> children;
+        private final EnumMap<K, D> values;
+
+        private RoutingNode(Map<I, RoutingNode<I, K, D>> children, EnumMap<K, D> values) {
+            this.children = children;
+            this.values = values;
+        }
+
+        static <I, K extends Enum<K>, D> RoutingNode<I, K, D> compile(EnumTreeNode<I, K, D> node, Class<K> keyType) {
+            final Map<I, RoutingNode<I, K, D>> children = new HashMap<>();
+            for (final EnumTreeNode<I, K, D> child : node.children()) {
+                children.put(child.id(), compile(child, keyType));
+            }
+            final EnumMap<K, D> values = new EnumMap<>(keyType);
+            node.allValues().forEach((key, value) -> {
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+            return new RoutingNode<>(Map.copyOf(children), values);
+        }
+
+        RoutingNode<I, K, D> child(I id) {
+            return children.get(id);
+        }
+
+        D value(K key) {
+            return values.get(key);
+        }
+    }
+
     private static class ChildTreeNode<I, K extends Enum<K>, D> extends AbstractTreeNode<I, K, D> {
         ChildTreeNode(I id, Class<K> keyType, EnumTreeNode<I, K, D> parent) {
             super(id, keyType);
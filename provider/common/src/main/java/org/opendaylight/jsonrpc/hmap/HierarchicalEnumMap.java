@@ -23,11 +23,11 @@ import java.util.Optional;
  */
 public interface HierarchicalEnumMap<P, K extends Enum<K>, D> {
     /**
-     * Performs lookup of data at given path. Tree nodes are allocated from root
-     * down the path until leaf, if they not exists. When no data are associated
-     * with leaf(that is target node has null value), tree is traversed up to
-     * root for any non-null value.If no data are found, then result is
-     * {@link Optional#empty()}
+     * Performs lookup of data at given path. Lookup never modifies tree, data
+     * associated with longest prefix of path are returned. When no data are
+     * associated with leaf(that is target node has null value or does not
+     * exist), tree is traversed up to root for any non-null value. If no data
+     * are found, then result is {@link Optional#empty()}
      *
      * @param path path to data within logical tree
      * @param key enum key used to specify type of data
@@ -47,6 +47,14 @@ public interface HierarchicalEnumMap<P, K extends Enum<K>, D> {
      */
     D put(P path, K key, D data);
 
+    /**
+     * Get version of this map, which is incremented by every modification.
+     * Allows users to detect that data they derived from this map are stale.
+     *
+     * @return current version
+     */
+    long version();
+
     /**
      * Create read-only view of effective data tree. Paths which not resolves to
      * non-null data are skipped.
@@ -11,8 +11,9 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map.Entry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,12 +40,12 @@ public final class JsonPathCodec implements PathCodec<JsonElement, String> {
 
     @Override
     public Iterable<String> serialize(JsonElement path) {
-        final LinkedList<String> list = new LinkedList<>();
+        final List<String> list = new ArrayList<>();
         serializeObject(path, list);
         return list;
     }
 
-    private void serializeObject(JsonElement path, LinkedList<String> list) {
+    private void serializeObject(JsonElement path, List<String> list) {
         LOG.trace("Current node [OBJECT]: {}", path);
         final Iterator<Entry<String, JsonElement>> it = path.getAsJsonObject().entrySet().iterator();
         while (it.hasNext()) {
@@ -52,10 +53,10 @@ public final class JsonPathCodec implements PathCodec<JsonElement, String> {
             final String currentNode = e.getKey();
             final JsonElement el = e.getValue();
             if (el instanceof JsonObject) {
-                list.addLast(currentNode);
+                list.add(currentNode);
                 serializeObject(e.getValue(), list);
             } else if (el instanceof JsonArray) {
-                list.addLast(currentNode);
+                list.add(currentNode);
                 serializeArray(e.getValue(), list);
             } else {
                 serializeLeaf(currentNode, e.getValue(), list);
@@ -63,12 +64,12 @@ public final class JsonPathCodec implements PathCodec<JsonElement, String> {
         }
     }
 
-    private static void serializeLeaf(String currentNode, JsonElement path, LinkedList<String> list) {
+    private static void serializeLeaf(String currentNode, JsonElement path, List<String> list) {
         LOG.trace("Current node [LEAF  ]: {}", path);
-        list.addLast(currentNode + "=" + path.getAsJsonPrimitive().getAsString());
+        list.add(currentNode + "=" + path.getAsJsonPrimitive().getAsString());
     }
 
-    private void serializeArray(JsonElement path, LinkedList<String> list) {
+    private void serializeArray(JsonElement path, List<String> list) {
         LOG.trace("Current node [ARRAY ]: {}", path);
         final JsonArray arr = (JsonArray) path;
         for (final JsonElement je : arr) {
@@ -13,15 +13,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.jsonrpc.bus.messagelib.SubscriberSession;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.model.DataChangeNotification;
 import org.opendaylight.jsonrpc.model.DataChangeNotificationPublisher;
 import org.opendaylight.jsonrpc.model.JSONRPCArg;
+import org.opendaylight.jsonrpc.model.ListenerKey;
+import org.opendaylight.jsonrpc.provider.common.Util;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -31,7 +34,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Adapter for {@link DOMDataTreeChangeListener} which subscribes to remote
  * event producer and call {@link DOMDataTreeChangeListener#onDataTreeChanged(java.util.List)} on
- * event reception.
+ * event reception. Delta-encoded changes are rebuilt into candidates rooted at modified nodes.
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since May 6, 2018
@@ -40,15 +43,73 @@ public final class DOMDataTreeChangeListenerAdapter implements DataChangeNotific
     private static final Logger LOG = LoggerFactory.getLogger(DOMDataTreeChangeListenerAdapter.class);
     private final DOMDataTreeChangeListener listener;
     private final SubscriberSession session;
+    private final AutoCloseable subscription;
     private final JsonRpcCodecFactory codecFactory;
+    private final @Nullable String listenerName;
 
     public DOMDataTreeChangeListenerAdapter(@NonNull DOMDataTreeChangeListener delegate,
             @NonNull TransportFactory transportFactory, String uri, @NonNull JsonRpcCodecFactory codecFactory,
             @NonNull SchemaContext schemaContext) throws URISyntaxException {
+        this(delegate, transportFactory, uri, null, codecFactory);
+    }
+
+    /**
+     * Create adapter which subscribes to remote listener identified by given key. Notifications of other listeners,
+     * which might be published by same publisher, are ignored.
+     *
+     * @param delegate listener to forward changes to
+     * @param transportFactory {@link TransportFactory} used to create subscriber
+     * @param listenerKey key of remote listener
+     * @param codecFactory codec factory
+     * @param schemaContext schema context
+     * @throws URISyntaxException if URI of listener key is invalid
+     */
+    public DOMDataTreeChangeListenerAdapter(@NonNull DOMDataTreeChangeListener delegate,
+            @NonNull TransportFactory transportFactory, @NonNull ListenerKey listenerKey,
+            @NonNull JsonRpcCodecFactory codecFactory, @NonNull SchemaContext schemaContext)
+            throws URISyntaxException {
+        this(delegate, transportFactory, listenerKey.getUri(), listenerKey.getName(), codecFactory);
+    }
+
+    /**
+     * Create adapter which receives notifications of remote listener identified by given key over session shared with
+     * other listeners of same URI.
+     *
+     * @param delegate listener to forward changes to
+     * @param subscribers {@link DataChangeSubscribers} to obtain shared session from
+     * @param listenerKey key of remote listener
+     * @param codecFactory codec factory
+     * @throws URISyntaxException if URI of listener key is invalid
+     */
+    DOMDataTreeChangeListenerAdapter(@NonNull DOMDataTreeChangeListener delegate,
+            @NonNull DataChangeSubscribers subscribers, @NonNull ListenerKey listenerKey,
+            @NonNull JsonRpcCodecFactory codecFactory) throws URISyntaxException {
+        this.listener = Objects.requireNonNull(delegate);
+        this.listenerName = listenerKey.getName();
+        this.codecFactory = Objects.requireNonNull(codecFactory);
+        final DataChangeSubscribers.Subscription shared = subscribers.subscribe(listenerKey, this);
+        this.session = shared.session();
+        this.subscription = shared;
+    }
+
+    private DOMDataTreeChangeListenerAdapter(DOMDataTreeChangeListener delegate, TransportFactory transportFactory,
+            String uri, @Nullable String listenerName, JsonRpcCodecFactory codecFactory) throws URISyntaxException {
         Objects.requireNonNull(transportFactory);
         this.listener = Objects.requireNonNull(delegate);
-        this.session = transportFactory.endpointBuilder().subscriber().create(uri, this);
+        this.listenerName = listenerName;
         this.codecFactory = Objects.requireNonNull(codecFactory);
+        this.session = transportFactory.endpointBuilder().subscriber().create(uri, this);
+        this.subscription = session;
+    }
+
+    /**
+     * Get epoch of subscriber connection, which changes every time connection is (re)established.
+     *
+     * @return number of times connection was established or {@link RemoteReadCache#NOT_CONNECTED} if subscriber is
+     *         not connected at the moment
+     */
+    long connectionEpoch() {
+        return session.isConnectionReady() ? session.connectionCount() : RemoteReadCache.NOT_CONNECTED;
     }
 
     /**
@@ -56,21 +117,49 @@ public final class DOMDataTreeChangeListenerAdapter implements DataChangeNotific
      */
     @Override
     public void close() {
-        session.close();
+        Util.closeAndLogOnError(subscription);
     }
 
     @Override
     public void notifyListener(DataChangeNotification change) {
+        if (listenerName != null && change.getListener() != null && !listenerName.equals(change.getListener())) {
+            LOG.trace("Ignoring DCN of listener {}", change.getListener());
+            return;
+        }
         final List<DataTreeCandidate> changes = new ArrayList<>();
         for (final JSONRPCArg c : change.getChanges()) {
             final YangInstanceIdentifier yii = codecFactory.pathCodec().deserialize(c.getPath().getAsJsonObject());
             try {
-                final NormalizedNode data = codecFactory.dataCodec(yii).deserialize(c.getData());
-                changes.add(DataTreeCandidates.fromNormalizedNode(yii, data));
+                final DataTreeCandidate candidate = toCandidate(yii, c);
+                if (candidate != null) {
+                    changes.add(candidate);
+                }
             } catch (IOException e) {
                 LOG.error("Unable to deserialize DCN {}", c.getData(), e);
             }
         }
         listener.onDataTreeChanged(changes);
     }
+
+    /*
+     * Change without operation carries whole subtree after change, same as written one.
+     */
+    private @Nullable DataTreeCandidate toCandidate(YangInstanceIdentifier yii, JSONRPCArg change)
+            throws IOException {
+        final String operation = change.getOperation() == null ? JSONRPCArg.WRITE : change.getOperation();
+        switch (operation) {
+            case JSONRPCArg.WRITE:
+                return DataTreeCandidates.fromNormalizedNode(yii,
+                        codecFactory.dataCodec(yii).deserialize(change.getData()));
+            case JSONRPCArg.MERGE:
+                return DataTreeCandidates.newDataTreeCandidate(yii, DeltaCandidateNode.merged(
+                        (DataContainerNode) codecFactory.dataCodec(yii).deserialize(change.getData())));
+            case JSONRPCArg.DELETE:
+                return DataTreeCandidates.newDataTreeCandidate(yii,
+                        DeltaCandidateNode.deleted(yii.getLastPathArgument()));
+            default:
+                LOG.warn("Ignoring DCN with unknown operation '{}' at {}", operation, yii);
+                return null;
+        }
+    }
 }
@@ -10,11 +10,17 @@ package org.opendaylight.jsonrpc.impl;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.lock.qual.Holding;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.model.DataChangeNotification;
@@ -28,14 +34,28 @@ import org.opendaylight.mdsal.dom.api.DOMDataBroker.DataTreeChangeExtension;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class is {@link DOMDataTreeChangeListener} and its registration object at same time. It forwards data change
- * event to remote subscriber and perform necessary cleanup when no longer needed.
+ * event to remote subscriber and perform necessary cleanup when no longer needed. In delta mode, only modified nodes
+ * are forwarded instead of whole subtree after change. Changes are published from separate thread, optionally
+ * collected for duration of coalescing window and sent together.
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since May 8, 2018
@@ -48,16 +68,29 @@ public final class DataChangeListenerRegistration implements Registration, DOMDa
     private final JsonRpcCodecFactory codecFactory;
     private final Consumer<ListenerKey> closeCallback;
     private final ListenerKey listenerKey;
+    private final boolean delta;
+    private final long coalesceWindow;
+    private final ScheduledExecutorService executor;
+    @GuardedBy("this")
+    private final List<JSONRPCArg> pending = new ArrayList<>();
+    @GuardedBy("this")
+    private boolean flushScheduled;
+    @GuardedBy("this")
+    private boolean closed;
 
     public DataChangeListenerRegistration(@NonNull YangInstanceIdentifier path,
             @NonNull Consumer<ListenerKey> closeCallback, @NonNull final DOMDataBroker domDataBroker,
             @NonNull final JsonRpcCodecFactory codecFactory, @NonNull LogicalDatastoreType store,
-            @NonNull DataChangeNotificationPublisher publisher, @NonNull ListenerKey listenerKey) {
+            @NonNull DataChangeNotificationPublisher publisher, @NonNull ListenerKey listenerKey, boolean delta,
+            long coalesceWindow, @NonNull ScheduledExecutorService executor) {
         this.path = Objects.requireNonNull(path);
         this.closeCallback = Objects.requireNonNull(closeCallback);
         this.codecFactory = Objects.requireNonNull(codecFactory);
         this.publisher = Objects.requireNonNull(publisher);
         this.listenerKey = Objects.requireNonNull(listenerKey);
+        this.delta = delta;
+        this.coalesceWindow = coalesceWindow;
+        this.executor = Objects.requireNonNull(executor);
         Objects.requireNonNull(domDataBroker);
         Objects.requireNonNull(store);
         final var dtcs = domDataBroker.extension(DataTreeChangeExtension.class);
@@ -68,6 +101,10 @@ public final class DataChangeListenerRegistration implements Registration, DOMDa
     @Override
     public void close() {
         LOG.debug("Closing notification publisher for path {}", path);
+        synchronized (this) {
+            closed = true;
+            pending.clear();
+        }
         try {
             Stream.of(publisher, delegate).forEach(Util::closeAndLogOnError);
             closeCallback.accept(listenerKey);
@@ -83,17 +120,133 @@ public final class DataChangeListenerRegistration implements Registration, DOMDa
 
     @Override
     public void onDataTreeChanged(List<DataTreeCandidate> treeChanges) {
-        final DataChangeNotification dcn = new DataChangeNotification(
-                treeChanges.stream().map(this::mapDtc).collect(Collectors.toSet()));
+        final List<JSONRPCArg> changes = new ArrayList<>();
+        for (DataTreeCandidate dtc : treeChanges) {
+            if (delta) {
+                mapDelta(dtc.getRootPath(), dtc.getRootNode(), changes);
+            } else {
+                changes.add(mapDtc(dtc));
+            }
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            changes.forEach(this::coalesce);
+            if (!flushScheduled && !pending.isEmpty()) {
+                flushScheduled = true;
+                executor.schedule(this::flush, coalesceWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /*
+     * Change which carries whole state of its path supersedes pending changes of same path. Order of changes matters to
+     * subscriber when they overlap, so superseding change is queued last.
+     */
+    @Holding("this")
+    private void coalesce(JSONRPCArg change) {
+        if (!JSONRPCArg.MERGE.equals(change.getOperation())) {
+            pending.removeIf(c -> c.getPath().equals(change.getPath()));
+        }
+        pending.add(change);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void flush() {
+        final Set<JSONRPCArg> changes;
+        synchronized (this) {
+            flushScheduled = false;
+            if (closed || pending.isEmpty()) {
+                return;
+            }
+            changes = new LinkedHashSet<>(pending);
+            pending.clear();
+        }
+        final DataChangeNotification dcn = new DataChangeNotification(changes, listenerKey.getName());
         LOG.debug("Sending notification {}", dcn);
-        publisher.notifyListener(dcn);
+        try {
+            publisher.notifyListener(dcn);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to send notification for path {}", path, e);
+        }
     }
 
     private JSONRPCArg mapDtc(DataTreeCandidate dtc) {
         final JsonObject jsonpath = codecFactory.pathCodec().serialize(dtc.getRootPath());
+        return new JSONRPCArg(jsonpath, encode(dtc.getRootPath(), dtc.getRootNode().dataAfter()));
+    }
+
+    /*
+     * Walk modified nodes down to written subtrees and deleted nodes. Leaves written under single container or list
+     * entry are published together as one merge of their parent.
+     */
+    private void mapDelta(YangInstanceIdentifier nodePath, DataTreeCandidateNode node, List<JSONRPCArg> changes) {
+        switch (node.modificationType()) {
+            case WRITE:
+                changes.add(new JSONRPCArg(JSONRPCArg.WRITE, codecFactory.pathCodec().serialize(nodePath),
+                        encode(nodePath, node.dataAfter())));
+                break;
+            case DELETE:
+            case DISAPPEARED:
+                changes.add(new JSONRPCArg(JSONRPCArg.DELETE, codecFactory.pathCodec().serialize(nodePath), null));
+                break;
+            case SUBTREE_MODIFIED:
+            case APPEARED:
+                mapModifiedChildren(nodePath, node, changes);
+                break;
+            default:
+                // unmodified
+                break;
+        }
+    }
+
+    private void mapModifiedChildren(YangInstanceIdentifier nodePath, DataTreeCandidateNode node,
+            List<JSONRPCArg> changes) {
+        final NormalizedNode after = node.dataAfter();
+        final boolean mergeable = after instanceof ContainerNode || after instanceof MapEntryNode;
+        final List<DataContainerChild> writtenLeaves = new ArrayList<>();
+        final List<DataTreeCandidateNode> others = new ArrayList<>();
+        for (DataTreeCandidateNode child : node.childNodes()) {
+            if (mergeable && child.modificationType() == ModificationType.WRITE
+                    && (child.dataAfter() instanceof LeafNode || child.dataAfter() instanceof LeafSetNode)) {
+                writtenLeaves.add((DataContainerChild) child.dataAfter());
+            } else {
+                others.add(child);
+            }
+        }
+        if (!writtenLeaves.isEmpty()) {
+            changes.add(new JSONRPCArg(JSONRPCArg.MERGE, codecFactory.pathCodec().serialize(nodePath),
+                    encode(nodePath, withChildren((DataContainerNode) after, writtenLeaves))));
+        }
+        for (DataTreeCandidateNode child : others) {
+            mapDelta(nodePath.node(child.name()), child, changes);
+        }
+    }
+
+    /*
+     * Copy of container or list entry with given children only. Key leaves of list entry are retained to identify it.
+     */
+    private static DataContainerNode withChildren(DataContainerNode parent, List<DataContainerChild> children) {
+        if (parent instanceof MapEntryNode entry) {
+            final var builder = ImmutableNodes.newMapEntryBuilder().withNodeIdentifier(entry.name());
+            for (QName key : entry.name().keySet()) {
+                final DataContainerChild keyLeaf = entry.childByArg(new NodeIdentifier(key));
+                if (keyLeaf != null) {
+                    builder.withChild(keyLeaf);
+                }
+            }
+            children.forEach(builder::withChild);
+            return builder.build();
+        }
+        final var builder = ImmutableNodes.newContainerBuilder().withNodeIdentifier(((ContainerNode) parent).name());
+        children.forEach(builder::withChild);
+        return builder.build();
+    }
+
+    private JsonElement encode(YangInstanceIdentifier nodePath, NormalizedNode data) {
         try {
-            final JsonElement data = codecFactory.dataCodec(dtc.getRootPath()).serialize(dtc.getRootNode().dataAfter());
-            return new JSONRPCArg(jsonpath, data);
+            return codecFactory.dataCodec(nodePath).serialize(data);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
@@ -7,33 +7,57 @@
  */
 package org.opendaylight.jsonrpc.impl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.URISyntaxException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.jsonrpc.bus.api.PeerContext;
+import org.opendaylight.jsonrpc.bus.messagelib.MessageLibraryConstants;
 import org.opendaylight.jsonrpc.bus.messagelib.PeerContextHolder;
+import org.opendaylight.jsonrpc.bus.messagelib.PublisherSession;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
+import org.opendaylight.jsonrpc.bus.messagelib.Util;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
+import org.opendaylight.jsonrpc.model.DataChangeNotification;
 import org.opendaylight.jsonrpc.model.DataChangeNotificationPublisher;
 import org.opendaylight.jsonrpc.model.ListenerKey;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Registry of {@link DataChangeListenerRegistration}.
+ * Registry of {@link DataChangeListenerRegistration}. Listener either uses dedicated publisher, or it is multiplexed
+ * over publisher shared by all such listeners of same transport, in which case its notifications are published to
+ * topic of subscription requested by client, or to topic named after listener if client did not request any.
  *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since Apr 17, 2018
  */
 public class DataChangeListenerRegistry implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(DataChangeListenerRegistry.class);
+    private static final int MAX_COALESCE_WINDOW = 60_000;
     private final Map<ListenerKey, DataChangeListenerRegistration> listenerMap = new ConcurrentHashMap<>();
+    @GuardedBy("sharedPublishers")
+    private final Map<String, SharedPublisher> sharedPublishers = new HashMap<>();
+    // publishes notifications off datastore notification thread, preserving their order
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true)
+                    .setNameFormat("jsonrpc-dcn-publisher-%d")
+                    .setUncaughtExceptionHandler((thread, cause) -> LOG.error("Uncaught error in thread {}", thread,
+                            cause))
+                    .build());
     private final DOMDataBroker domDataBroker;
     private final TransportFactory transportFactory;
     private final JsonRpcCodecFactory codecFactory;
@@ -45,23 +69,57 @@ public class DataChangeListenerRegistry implements AutoCloseable {
         this.codecFactory = Objects.requireNonNull(codecFactory);
     }
 
+    public ListenerKey createListener(YangInstanceIdentifier path, LogicalDatastoreType store, String transport)
+            throws IOException {
+        return createListener(path, store, transport, false, 0, false, null);
+    }
+
+    /**
+     * Create listener of data changes at given path, which publishes them to remote subscriber.
+     *
+     * @param path path of data to listen on
+     * @param store datastore to listen on
+     * @param transport transport of publisher, null to use transport of current peer
+     * @param delta whether to publish only modified nodes rather than whole subtree
+     * @param coalesceWindow time in milliseconds during which changes are collected before they are published
+     *        together, non-positive value means that changes are published as soon as possible
+     * @param multiplex whether to publish changes using publisher shared by all multiplexed listeners of same
+     *        transport, rather than using dedicated publisher
+     * @param subscription topic to publish changes of multiplexed listener to, shared by all listeners which client
+     *        receives over single subscriber, null to use topic dedicated to listener
+     * @return {@link ListenerKey} of created listener
+     * @throws IOException if publisher can't be created
+     */
     // suppress complains about using try-with-resources on publisher - we
     // purposely leave it open and close it later when no longer needed
     @SuppressWarnings("squid:S2095")
-    public ListenerKey createListener(YangInstanceIdentifier path, LogicalDatastoreType store, String transport)
-            throws IOException {
-        final ListenerKey response = new ListenerKey(allocateUri(transport), UUID.randomUUID().toString());
-        try {
-            final DataChangeNotificationPublisher publisher = transportFactory.endpointBuilder()
-                    .publisher()
-                    .createProxy(DataChangeNotificationPublisher.class, response.getUri());
-            listenerMap.put(response, new DataChangeListenerRegistration(path, listenerMap::remove, domDataBroker,
-                    codecFactory, store, publisher, response));
-            return response;
-        } catch (URISyntaxException e) {
-            // impossible to land here
-            throw new IllegalStateException(e);
+    public ListenerKey createListener(YangInstanceIdentifier path, LogicalDatastoreType store, String transport,
+            boolean delta, int coalesceWindow, boolean multiplex, String subscription) throws IOException {
+        final String name = UUID.randomUUID().toString();
+        final ListenerKey response;
+        final DataChangeNotificationPublisher publisher;
+        if (multiplex) {
+            final SharedPublisher shared = sharedPublisher(transport);
+            // subscriber of shared publisher subscribes to topic of its subscription or listener
+            final String topic = subscription != null && !subscription.isEmpty() ? subscription : name;
+            response = new ListenerKey(Util.injectQueryParam(shared.uri, MessageLibraryConstants.PARAM_TOPIC, topic),
+                    name);
+            publisher = new TopicPublisher(shared.session, topic);
+        } else {
+            response = new ListenerKey(allocateUri(transport), name);
+            try {
+                publisher = transportFactory.endpointBuilder()
+                        .publisher()
+                        .createProxy(DataChangeNotificationPublisher.class, response.getUri());
+            } catch (URISyntaxException e) {
+                // impossible to land here
+                throw new IllegalStateException(e);
+            }
         }
+        listenerMap.put(response, new DataChangeListenerRegistration(path, listenerMap::remove, domDataBroker,
+                codecFactory, store, publisher, response, delta,
+                Math.min(Math.max(0, coalesceWindow), MAX_COALESCE_WINDOW), executor));
+        return response;
     }
 
     public boolean removeListener(String uri, String name) {
@@ -78,18 +136,83 @@ public class DataChangeListenerRegistry implements AutoCloseable {
     public void close() {
         listenerMap.values().stream().forEach(DataChangeListenerRegistration::close);
         listenerMap.clear();
+        executor.shutdown();
+        synchronized (sharedPublishers) {
+            sharedPublishers.values().forEach(shared -> shared.session.close());
+            sharedPublishers.clear();
+        }
+    }
+
+    /*
+     * Get publisher shared by all multiplexed listeners of given transport and local address, bind it on first use.
+     */
+    private SharedPublisher sharedPublisher(String transport) throws IOException {
+        final PeerContext peer = PeerContextHolder.get();
+        final String scheme = transport != null ? transport : peer.transport();
+        final String address = localAddress(peer);
+        synchronized (sharedPublishers) {
+            final String key = scheme + "://" + address;
+            SharedPublisher shared = sharedPublishers.get(key);
+            if (shared == null) {
+                final String uri = allocateUri(scheme, address);
+                shared = new SharedPublisher(uri,
+                        transportFactory.getMessageLibraryForTransport(scheme).publisher(uri, true));
+                sharedPublishers.put(key, shared);
+                LOG.info("Created shared publisher of data change notifications at {}", uri);
+            }
+            return shared;
+        }
     }
 
     /*
      * Allocate URI for notification publisher.
      */
     private static String allocateUri(String transport) throws IOException {
+        final PeerContext peer = PeerContextHolder.get();
+        return allocateUri(transport != null ? transport : peer.transport(), localAddress(peer));
+    }
+
+    private static String allocateUri(String transport, String address) throws IOException {
         try (Socket socket = new Socket()) {
             socket.bind(null);
-            final PeerContext peer = PeerContextHolder.get();
-            return String.format("%s://%s:%d", transport != null ? transport : peer.transport(),
-                    ((InetSocketAddress) peer.channel().localAddress()).getAddress().getHostAddress(),
-                    socket.getLocalPort());
+            return String.format("%s://%s:%d", transport, address, socket.getLocalPort());
+        }
+    }
+
+    private static String localAddress(PeerContext peer) {
+        return ((InetSocketAddress) peer.channel().localAddress()).getAddress().getHostAddress();
+    }
+
+    private static final class SharedPublisher {
+        private final String uri;
+        private final PublisherSession session;
+
+        SharedPublisher(String uri, PublisherSession session) {
+            this.uri = uri;
+            this.session = session;
+        }
+    }
+
+    /*
+     * Publishes notifications of single listener to topic of shared publisher.
+     */
+    private static final class TopicPublisher implements DataChangeNotificationPublisher {
+        private final PublisherSession session;
+        private final String topic;
+
+        TopicPublisher(PublisherSession session, String topic) {
+            this.session = session;
+            this.topic = topic;
+        }
+
+        @Override
+        public void notifyListener(DataChangeNotification change) {
+            session.publish(topic, "notifyListener", change);
+        }
+
+        @Override
+        public void close() {
+            // shared session is closed along with registry
         }
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.jsonrpc.bus.messagelib.SubscriberSession;
+import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
+import org.opendaylight.jsonrpc.model.DataChangeNotification;
+import org.opendaylight.jsonrpc.model.DataChangeNotificationPublisher;
+import org.opendaylight.jsonrpc.model.ListenerKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscriber sessions of single peer shared by remote listeners, one per URI of listener. Listeners multiplexed over
+ * same subscription get same URI, so their notifications are received over single session and dispatched by name of
+ * listener. Session is closed once last of its listeners is unsubscribed, which might happen after peer is unmounted.
+ */
+final class DataChangeSubscribers {
+    private static final Logger LOG = LoggerFactory.getLogger(DataChangeSubscribers.class);
+    private final TransportFactory transportFactory;
+    // guarded by this
+    private final Map<String, SharedSubscriber> subscribers = new HashMap<>();
+
+    DataChangeSubscribers(TransportFactory transportFactory) {
+        this.transportFactory = Objects.requireNonNull(transportFactory);
+    }
+
+    /**
+     * Subscribe to notifications of remote listener, reusing session of other listener with same URI if there is any.
+     *
+     * @param listenerKey key of remote listener
+     * @param listener publisher to forward notifications of listener to
+     * @return {@link Subscription} which must be closed once notifications are no longer needed
+     * @throws URISyntaxException if URI of listener key is invalid
+     */
+    synchronized Subscription subscribe(ListenerKey listenerKey, DataChangeNotificationPublisher listener)
+            throws URISyntaxException {
+        SharedSubscriber shared = subscribers.get(listenerKey.getUri());
+        if (shared == null) {
+            shared = new SharedSubscriber(listenerKey.getUri());
+            shared.session = transportFactory.endpointBuilder().subscriber().create(listenerKey.getUri(), shared);
+            subscribers.put(listenerKey.getUri(), shared);
+            LOG.debug("Created shared subscriber for {}", listenerKey.getUri());
+        }
+        shared.listeners.put(listenerKey.getName(), listener);
+        return new Subscription(shared, listenerKey.getName());
+    }
+
+    private synchronized void unsubscribe(SharedSubscriber shared, String name) {
+        shared.listeners.remove(name);
+        if (shared.listeners.isEmpty() && subscribers.remove(shared.uri, shared)) {
+            LOG.debug("Closing shared subscriber for {}", shared.uri);
+            shared.session.close();
+        }
+    }
+
+    /**
+     * Subscription of single remote listener.
+     */
+    final class Subscription implements AutoCloseable {
+        private final SharedSubscriber shared;
+        private final String name;
+
+        private Subscription(SharedSubscriber shared, String name) {
+            this.shared = shared;
+            this.name = name;
+        }
+
+        /**
+         * Get session over which notifications of listener are received.
+         *
+         * @return {@link SubscriberSession}
+         */
+        SubscriberSession session() {
+            return shared.session;
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(shared, name);
+        }
+    }
+
+    /*
+     * Dispatches notifications received over session to listeners by their name.
+     */
+    private static final class SharedSubscriber implements DataChangeNotificationPublisher {
+        private final Map<String, DataChangeNotificationPublisher> listeners = new ConcurrentHashMap<>();
+        private final String uri;
+        private SubscriberSession session;
+
+        SharedSubscriber(String uri) {
+            this.uri = uri;
+        }
+
+        @Override
+        public void notifyListener(DataChangeNotification change) {
+            if (change.getListener() == null) {
+                // peer which does not name listeners publishes each of them on dedicated URI
+                listeners.values().forEach(listener -> listener.notifyListener(change));
+                return;
+            }
+            final DataChangeNotificationPublisher listener = listeners.get(change.getListener());
+            if (listener != null) {
+                listener.notifyListener(change);
+            } else {
+                LOG.trace("Ignoring DCN of listener {}", change.getListener());
+            }
+        }
+
+        @Override
+        public void close() {
+            // session is closed once last listener is unsubscribed
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class DataModificationContext implements AutoCloseable {
     private List<Throwable> errors = Collections.emptyList();
     private final List<DOMDataTreeWriteTransaction> txs = new ArrayList<>();
     private final AtomicLong completed = new AtomicLong(-1);
+    private final long created = System.currentTimeMillis();
 
     public DataModificationContext(@NonNull final TransactionFactory transactionFactory) {
         Objects.requireNonNull(transactionFactory);
@@ -97,6 +98,26 @@ public class DataModificationContext implements AutoCloseable {
         return completed.get();
     }
 
+    /**
+     * Returns the creation timestamp.
+     *
+     * @return creation timestamp in UTC.
+     *
+     * @see System#currentTimeMillis()
+     */
+    public long getCreationTimestamp() {
+        return created;
+    }
+
+    /**
+     * Check if transaction chain has been submitted or cancelled.
+     *
+     * @return true if and only if {@link #submit()} or {@link #cancel()} has been called
+     */
+    public boolean isCompleted() {
+        return completed.get() != -1;
+    }
+
     /**
      * Adds {@link Throwable} into exception list.
      *
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+/**
+ * {@link DataTreeCandidateNode} rebuilt from delta-encoded data change notification. Data before modification are not
+ * part of notification, so they are never available.
+ */
+final class DeltaCandidateNode implements DataTreeCandidateNode {
+    private final PathArgument name;
+    private final ModificationType modificationType;
+    private final @Nullable NormalizedNode dataAfter;
+    private final Map<PathArgument, DataTreeCandidateNode> children;
+
+    private DeltaCandidateNode(PathArgument name, ModificationType modificationType,
+            @Nullable NormalizedNode dataAfter, Map<PathArgument, DataTreeCandidateNode> children) {
+        this.name = Objects.requireNonNull(name);
+        this.modificationType = Objects.requireNonNull(modificationType);
+        this.dataAfter = dataAfter;
+        this.children = children;
+    }
+
+    /**
+     * Node which was deleted.
+     *
+     * @param name name of deleted node
+     * @return {@link DeltaCandidateNode}
+     */
+    static DeltaCandidateNode deleted(PathArgument name) {
+        return new DeltaCandidateNode(name, ModificationType.DELETE, null, Map.of());
+    }
+
+    /**
+     * Node into which its children were merged. Data after modification contain merged children only (and keys, if
+     * node is list entry), each of them is reported as written.
+     *
+     * @param data merged data
+     * @return {@link DeltaCandidateNode}
+     */
+    static DeltaCandidateNode merged(DataContainerNode data) {
+        final Set<QName> keys = data instanceof MapEntryNode entry ? entry.name().keySet() : Set.of();
+        final Map<PathArgument, DataTreeCandidateNode> children = new LinkedHashMap<>();
+        for (DataContainerChild child : data.body()) {
+            if (!keys.contains(child.name().getNodeType())) {
+                children.put(child.name(),
+                        new DeltaCandidateNode(child.name(), ModificationType.WRITE, child, Map.of()));
+            }
+        }
+        return new DeltaCandidateNode(data.name(), ModificationType.SUBTREE_MODIFIED, data, children);
+    }
+
+    @Override
+    public PathArgument name() {
+        return name;
+    }
+
+    @Override
+    public Collection<DataTreeCandidateNode> childNodes() {
+        return children.values();
+    }
+
+    @Override
+    public @Nullable DataTreeCandidateNode modifiedChild(PathArgument childName) {
+        return children.get(childName);
+    }
+
+    @Override
+    public ModificationType modificationType() {
+        return modificationType;
+    }
+
+    @Override
+    public @Nullable NormalizedNode dataAfter() {
+        return dataAfter;
+    }
+
+    @Override
+    public @Nullable NormalizedNode dataBefore() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaCandidateNode [name=" + name + ", modificationType=" + modificationType + ", children="
+                + children.size() + "]";
+    }
+}
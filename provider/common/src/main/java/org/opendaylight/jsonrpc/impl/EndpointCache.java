@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonElement;
+import java.util.Objects;
+import java.util.function.Function;
+import org.opendaylight.jsonrpc.hmap.DataType;
+import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+
+/**
+ * Endpoints of remote shards of single peer, keyed by datastore and path. Resolving endpoint requires encoding of path
+ * and lookup in path map, cache avoids both for paths used repeatedly. All entries are dropped once path map is
+ * modified.
+ */
+final class EndpointCache {
+    private static final int MAX_ENTRIES = 4096;
+
+    private final HierarchicalEnumMap<JsonElement, DataType, String> pathMap;
+    private final Cache<DOMDataTreeIdentifier, String> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+    // version of path map which cached entries were resolved from, modified under lock
+    private volatile long version;
+
+    EndpointCache(HierarchicalEnumMap<JsonElement, DataType, String> pathMap) {
+        this.pathMap = Objects.requireNonNull(pathMap);
+        this.version = pathMap.version();
+    }
+
+    /**
+     * Get endpoint of given datastore and path, resolving it on cache miss.
+     *
+     * @param id datastore and path
+     * @param resolver function to resolve endpoint, it must not return null
+     * @return endpoint URI
+     */
+    String get(DOMDataTreeIdentifier id, Function<DOMDataTreeIdentifier, String> resolver) {
+        // read before resolving, so that endpoint resolved from modified map is never cached as current
+        final long current = pathMap.version();
+        if (current != version) {
+            invalidate(current);
+        }
+        final String cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        final String endpoint = resolver.apply(id);
+        synchronized (this) {
+            if (current == version) {
+                cache.put(id, endpoint);
+            }
+        }
+        return endpoint;
+    }
+
+    private synchronized void invalidate(long current) {
+        if (current > version) {
+            cache.invalidateAll();
+            version = current;
+        }
+    }
+}
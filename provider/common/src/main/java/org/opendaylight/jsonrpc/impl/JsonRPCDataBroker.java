@@ -10,17 +10,21 @@ package org.opendaylight.jsonrpc.impl;
 import static org.opendaylight.jsonrpc.provider.common.Util.store2int;
 import static org.opendaylight.jsonrpc.provider.common.Util.store2str;
 
+import com.google.common.cache.CacheStats;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.hmap.DataType;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
+import org.opendaylight.jsonrpc.impl.RemoteShardClients.SharedClient;
 import org.opendaylight.jsonrpc.model.AddListenerArgument;
 import org.opendaylight.jsonrpc.model.DeleteListenerArgument;
 import org.opendaylight.jsonrpc.model.JsonRpcTransactionFacade;
@@ -34,8 +38,10 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.Peer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.ReadCache;
 import org.opendaylight.yangtools.concepts.AbstractRegistration;
 import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Uint32;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +50,18 @@ public final class JsonRPCDataBroker extends RemoteShardAware
         implements DOMDataBroker, DOMDataBroker.DataTreeChangeExtension {
     private static final Logger LOG = LoggerFactory.getLogger(JsonRPCDataBroker.class);
     private static final JsonObject TOP = new JsonObject();
+    private static final long KILOBYTE = 1024L;
+    // must match default value of max-memory leaf in jsonrpc.yang
+    private static final long DEFAULT_READ_CACHE_MEMORY = 16384L;
+    // must match default value of max-age leaf in jsonrpc.yang
+    private static final long DEFAULT_READ_CACHE_MAX_AGE = 300L;
+    // must match default value of stats-interval leaf in jsonrpc.yang
+    private static final long DEFAULT_READ_CACHE_STATS_INTERVAL = 300L;
+    private final RemoteReadCache readCache;
+    private final boolean deltaNotifications;
+    // listeners multiplexed over same publisher are received over single subscriber session
+    private final String subscription = UUID.randomUUID().toString();
+    private final DataChangeSubscribers subscribers;
 
     /**
      * Instantiates a new JSON-RPC data broker.
@@ -81,6 +99,26 @@ public final class JsonRPCDataBroker extends RemoteShardAware
                         .governance(store2str(store2int(LogicalDatastoreType.OPERATIONAL)), peer.getName(), TOP));
             }
         }
+        final ReadCache readCacheConfig = peer.getReadCache();
+        if (readCacheConfig != null) {
+            final long maxMemory = Optional.ofNullable(readCacheConfig.getMaxMemory())
+                    .map(Uint32::longValue)
+                    .orElse(DEFAULT_READ_CACHE_MEMORY);
+            final long maxAge = Optional.ofNullable(readCacheConfig.getMaxAge())
+                    .map(Uint32::longValue)
+                    .orElse(DEFAULT_READ_CACHE_MAX_AGE);
+            final long statsInterval = Optional.ofNullable(readCacheConfig.getStatsInterval())
+                    .map(Uint32::longValue)
+                    .orElse(DEFAULT_READ_CACHE_STATS_INTERVAL);
+            readCache = new RemoteReadCache(peer.getName(), maxMemory * KILOBYTE, maxAge, statsInterval,
+                    this::subscribe);
+            LOG.info("[{}] Read cache enabled, memory limit is {} kB, maximum age is {} s", peer.getName(),
+                    maxMemory, maxAge);
+        } else {
+            readCache = null;
+        }
+        deltaNotifications = Boolean.TRUE.equals(peer.getDeltaNotifications());
+        subscribers = new DataChangeSubscribers(transportFactory);
         LOG.info("Broker Instantiated for {}", peer.getName());
     }
 
@@ -96,7 +134,8 @@ public final class JsonRPCDataBroker extends RemoteShardAware
 
     @Override
     public JsonRpcTransactionFacade newReadWriteTransaction() {
-        return TransactionProxy.create(new JsonRPCTx(transportFactory, peer, pathMap, codecFactory, schemaContext));
+        return TransactionProxy.create(new JsonRPCTx(transportFactory, peer, pathMap, codecFactory, schemaContext,
+                shardClients, endpointCache, readCache));
     }
 
     @Override
@@ -116,29 +155,45 @@ public final class JsonRPCDataBroker extends RemoteShardAware
 
     @Override
     public Registration registerTreeChangeListener(DOMDataTreeIdentifier treeId, DOMDataTreeChangeListener listener) {
+        return subscribe(treeId, listener);
+    }
+
+    private TreeChangeRegistration subscribe(DOMDataTreeIdentifier treeId, DOMDataTreeChangeListener listener) {
         final JsonElement busPath = codecFactory.pathCodec().serialize(treeId.path());
-        final RemoteOmShard shard = getShard(treeId.datastore(), busPath);
+        // listener registration keeps shared client referenced, so that it can be removed even after unmount
+        final SharedClient client = shardClients.acquire(lookupEndPoint(treeId.datastore(), busPath));
+        final RemoteOmShard shard = client.shard();
         final DOMDataTreeChangeListenerAdapter adapter;
         final ListenerKey listenerKey;
         try {
             listenerKey = shard.addListener(new AddListenerArgument(
-                    String.valueOf(Util.store2int(treeId.datastore())), "", busPath, null));
-            adapter = new DOMDataTreeChangeListenerAdapter(listener, transportFactory, listenerKey.getUri(),
-                    codecFactory, schemaContext);
+                    String.valueOf(Util.store2int(treeId.datastore())), "", busPath, null, deltaNotifications, null,
+                    true, subscription));
+            adapter = new DOMDataTreeChangeListenerAdapter(listener, subscribers, listenerKey, codecFactory);
         } catch (URISyntaxException e) {
+            client.release();
             // remote shard provided us wrong URI
             throw new IllegalStateException("Invalid URI provided from remote shard", e);
         } catch (IOException e) {
+            client.release();
             throw new IllegalStateException("Unable to create subscriber", e);
         }
+        return new TreeChangeRegistration(client, listenerKey, adapter);
+    }
 
-        return new AbstractRegistration() {
-            @Override
-            protected void removeRegistration() {
-                shard.deleteListener(new DeleteListenerArgument(listenerKey.getUri(), listenerKey.getName()));
-                adapter.close();
-            }
-        };
+    /**
+     * Get statistics of read cache.
+     *
+     * @return {@link CacheStats} of read cache or {@link Optional#empty()} if read cache is not enabled for peer
+     */
+    public Optional<CacheStats> readCacheStats() {
+        return Optional.ofNullable(readCache).map(RemoteReadCache::stats);
+    }
+
+    @Override
+    public void close() {
+        Util.closeAndLogOnError(readCache);
+        super.close();
     }
 
     @Override
@@ -146,4 +201,36 @@ public final class JsonRPCDataBroker extends RemoteShardAware
             DOMDataTreeChangeListener listener) {
         return registerTreeChangeListener(treeId, listener);
     }
+
+    /*
+     * Registration of remote listener, which also reports state of subscriber connection to read cache.
+     */
+    private static final class TreeChangeRegistration extends AbstractRegistration
+            implements RemoteReadCache.Subscription {
+        private final SharedClient client;
+        private final ListenerKey listenerKey;
+        private final DOMDataTreeChangeListenerAdapter adapter;
+
+        TreeChangeRegistration(SharedClient client, ListenerKey listenerKey,
+                DOMDataTreeChangeListenerAdapter adapter) {
+            this.client = client;
+            this.listenerKey = listenerKey;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public long connectionEpoch() {
+            return adapter.connectionEpoch();
+        }
+
+        @Override
+        protected void removeRegistration() {
+            try {
+                client.shard().deleteListener(new DeleteListenerArgument(listenerKey.getUri(), listenerKey.getName()));
+            } finally {
+                client.release();
+            }
+            adapter.close();
+        }
+    }
 }
@@ -7,29 +7,36 @@
  */
 package org.opendaylight.jsonrpc.impl;
 
-import static org.opendaylight.jsonrpc.provider.common.Util.findNode;
-
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Multimap;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcNotificationMessage;
 import org.opendaylight.jsonrpc.bus.messagelib.NotificationMessageHandler;
 import org.opendaylight.jsonrpc.bus.messagelib.SubscriberSession;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
+import org.opendaylight.jsonrpc.dom.codec.Codec;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.hmap.DataType;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
 import org.opendaylight.jsonrpc.model.RemoteGovernance;
+import org.opendaylight.jsonrpc.provider.common.CallbackExecutor;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMNotificationService;
@@ -45,11 +52,22 @@ import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absol
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * {@link DOMNotificationService} of mounted peer. Notification codecs are looked up by method name in table built when
+ * service is created. Listeners of each notification type are kept in copy-on-write sets, so dispatch does not
+ * contend with (de)registration nor with other notifications. Each listener has its own sequential queue, shared by
+ * all types it is registered for, so listeners are invoked concurrently with each other, while every listener receives
+ * notifications one at a time, in order of arrival. Queues are run by {@link CallbackExecutor}, so listener which
+ * blocks on call to mounted peer does not take threads needed to complete that call. Queues are bounded, notifications
+ * which arrive while queue of listener is full are dropped and logged.
+ */
 public final class JsonRPCNotificationService extends AbstractJsonRPCComponent
         implements DOMNotificationService, NotificationMessageHandler, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(JsonRPCNotificationService.class);
-    private final Multimap<Absolute, DOMNotificationListener> listeners = HashMultimap.create();
+    private final ConcurrentMap<Absolute, Set<ListenerQueue>> listeners = new ConcurrentHashMap<>();
     private final Map<QName, SubscriberSession> mapped;
+    /* Notification codecs keyed by method name, both plain and qualified by module name */
+    private final Map<String, Codec<JsonElement, DOMNotification, IOException>> codecs;
 
     public JsonRPCNotificationService(final @NonNull Peer peer, final @NonNull EffectiveModelContext schemaContext,
             final @NonNull HierarchicalEnumMap<JsonElement, DataType, String> pathMap,
@@ -73,6 +91,24 @@ public final class JsonRPCNotificationService extends AbstractJsonRPCComponent
             }
         }
         mapped = builder.build();
+        codecs = createCodecs(schemaContext, codecFactory);
+    }
+
+    /*
+     * Plain name resolves to notification of first module which defines it, same as Util.findNode() does.
+     */
+    private static Map<String, Codec<JsonElement, DOMNotification, IOException>> createCodecs(
+            EffectiveModelContext schemaContext, JsonRpcCodecFactory codecFactory) {
+        final Map<String, Codec<JsonElement, DOMNotification, IOException>> result = new HashMap<>();
+        for (final Module module : schemaContext.getModules()) {
+            for (final NotificationDefinition def : module.getNotifications()) {
+                final Codec<JsonElement, DOMNotification, IOException> codec = codecFactory.notificationCodec(def);
+                final String localName = def.getQName().getLocalName();
+                result.putIfAbsent(localName, codec);
+                result.put(module.getName() + ":" + localName, codec);
+            }
+        }
+        return ImmutableMap.copyOf(result);
     }
 
     @Override
@@ -82,28 +118,25 @@ public final class JsonRPCNotificationService extends AbstractJsonRPCComponent
         listeners.clear();
     }
 
-    /*
-     * Notification listener is running in a separate thread so invoking them from here is not an issue (this is the
-     * major difference between this code and netconf - it was nearly verbatim lifted out of there
-     */
-    private synchronized void publishNotification(final DOMNotification notification) {
-        listeners.get(notification.getType()).forEach(l -> {
-            LOG.debug("Invoking listener {} with notification {}", l, notification);
-            l.onNotification(notification);
-        });
+    private void publishNotification(final DOMNotification notification) {
+        final Set<ListenerQueue> queues = listeners.get(notification.getType());
+        if (queues != null) {
+            queues.forEach(queue -> queue.enqueue(notification));
+        }
     }
 
     @Override
-    public synchronized Registration registerNotificationListener(final DOMNotificationListener listener,
+    public Registration registerNotificationListener(final DOMNotificationListener listener,
             final Collection<Absolute> types) {
+        final ListenerQueue queue = new ListenerQueue(listener);
         for (final Absolute type : types) {
-            listeners.put(type, listener);
+            addQueue(type, queue);
         }
         return new AbstractRegistration() {
             @Override
             protected void removeRegistration() {
                 for (final Absolute type : types) {
-                    listeners.remove(type, listener);
+                    removeQueue(type, queue);
                 }
             }
         };
@@ -111,29 +144,96 @@ public final class JsonRPCNotificationService extends AbstractJsonRPCComponent
 
     @Override
     public Registration registerNotificationListeners(final Map<Absolute, DOMNotificationListener> typeToListener) {
+        final Map<DOMNotificationListener, ListenerQueue> byListener = new IdentityHashMap<>();
+        final Map<Absolute, ListenerQueue> queues = new HashMap<>();
         for (final Entry<Absolute, DOMNotificationListener> entry : typeToListener.entrySet()) {
-            listeners.put(entry.getKey(), entry.getValue());
+            final ListenerQueue queue = byListener.computeIfAbsent(entry.getValue(), ListenerQueue::new);
+            queues.put(entry.getKey(), queue);
+            addQueue(entry.getKey(), queue);
         }
         return new AbstractRegistration() {
             @Override
             protected void removeRegistration() {
-                for (final Entry<Absolute, DOMNotificationListener> entry : typeToListener.entrySet()) {
-                    listeners.remove(entry.getKey(), entry.getValue());
-                }
+                queues.forEach(JsonRPCNotificationService.this::removeQueue);
             }
         };
     }
 
+    /*
+     * Set is modified within compute(), so that it can't be dropped by concurrent removal of its last queue.
+     */
+    private void addQueue(Absolute type, ListenerQueue queue) {
+        listeners.compute(type, (k, queues) -> {
+            final Set<ListenerQueue> result = queues != null ? queues : new CopyOnWriteArraySet<>();
+            result.add(queue);
+            return result;
+        });
+    }
+
+    private void removeQueue(Absolute type, ListenerQueue queue) {
+        listeners.computeIfPresent(type, (k, queues) -> {
+            queues.remove(queue);
+            return queues.isEmpty() ? null : queues;
+        });
+    }
+
     @Override
     public void handleNotification(final JsonRpcNotificationMessage notification) {
+        final Codec<JsonElement, DOMNotification, IOException> codec = codecs.get(notification.getMethod());
+        if (codec == null) {
+            throw new IllegalStateException(
+                    String.format("Notification with name '%s' not found", notification.getMethod()));
+        }
         try {
-            final NotificationDefinition def = findNode(schemaContext, notification.getMethod(),
-                    Module::getNotifications)
-                            .orElseThrow(() -> new IllegalStateException(
-                                    String.format("Notification with name '%s' not found", notification.getMethod())));
-            publishNotification(codecFactory.notificationCodec(def).deserialize(notification.getParams()));
+            publishNotification(codec.deserialize(notification.getParams()));
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
+
+    /*
+     * Delivers notifications to single listener, one at a time, in order in which they were enqueued. Notification
+     * which would exceed capacity of queue is dropped, so that slow listener can't exhaust memory.
+     */
+    private static final class ListenerQueue {
+        private static final int MAX_QUEUED = 1024;
+        private final DOMNotificationListener listener;
+        private final Executor executor = CallbackExecutor.newSequentialExecutor();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong dropped = new AtomicLong();
+
+        ListenerQueue(DOMNotificationListener listener) {
+            this.listener = listener;
+        }
+
+        void enqueue(DOMNotification notification) {
+            if (queued.incrementAndGet() > MAX_QUEUED) {
+                queued.decrementAndGet();
+                final long count = dropped.incrementAndGet();
+                // log first drop and every MAX_QUEUED-th after it, not to flood log
+                if (count % MAX_QUEUED == 1) {
+                    LOG.warn("Listener {} is not keeping up, dropped notification {}, {} dropped so far", listener,
+                            notification.getType(), count);
+                }
+                return;
+            }
+            executor.execute(() -> {
+                try {
+                    deliver(notification);
+                } finally {
+                    queued.decrementAndGet();
+                }
+            });
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private void deliver(DOMNotification notification) {
+            LOG.debug("Invoking listener {} with notification {}", listener, notification);
+            try {
+                listener.onNotification(notification);
+            } catch (RuntimeException e) {
+                LOG.warn("Listener {} failed to process notification {}", listener, notification, e);
+            }
+        }
+    }
 }
@@ -7,37 +7,57 @@
  */
 package org.opendaylight.jsonrpc.impl;
 
+import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static org.opendaylight.jsonrpc.provider.common.Util.store2int;
 import static org.opendaylight.jsonrpc.provider.common.Util.store2str;
-import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.jsonrpc.bus.messagelib.ProxyServiceGenericException;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.Codec;
 import org.opendaylight.jsonrpc.dom.codec.CodecUtils;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.hmap.DataType;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
+import org.opendaylight.jsonrpc.impl.RemoteShardClients.SharedClient;
+import org.opendaylight.jsonrpc.model.BatchOperation;
 import org.opendaylight.jsonrpc.model.JsonRpcTransactionFacade;
 import org.opendaylight.jsonrpc.model.RemoteOmShard;
+import org.opendaylight.jsonrpc.model.StoreOperationArgument;
 import org.opendaylight.jsonrpc.model.TransactionListener;
+import org.opendaylight.jsonrpc.provider.common.RemoteCallExecutor;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.Peer;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.common.ErrorTag;
@@ -45,6 +65,7 @@ import org.opendaylight.yangtools.yang.common.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
@@ -56,43 +77,347 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
             .newError(ErrorType.APPLICATION, new ErrorTag("commit"), msg);
     private static final FluentFuture<Optional<NormalizedNode>> NO_DATA = FluentFutures
             .immediateFluentFuture(Optional.empty());
+    // JSON-RPC error code returned by peers which don't implement requested method
+    private static final int METHOD_NOT_FOUND = -32601;
+    // number of buffered write operations after which they are sent to endpoint ahead of commit
+    private static final int MAX_BATCH_SIZE = 1000;
 
     private final @NonNull SettableFuture<CommitInfo> settableFuture = SettableFuture.create();
     private final @NonNull FluentFuture<CommitInfo> completionFuture = FluentFuture.from(settableFuture);
-    /* Keep track of TX id to given endpoint (key is endpoint, value is TX ID) */
-    private final Map<String, String> txIdMap = new HashMap<>();
+    /* Keep track of TX id to given endpoint (key is endpoint, value is TX ID), populated by endpoint queues */
+    private final Map<String, String> txIdMap = Collections.synchronizedMap(new HashMap<>());
+    /* Shared clients referenced by this TX (key is endpoint), released once TX is done */
+    @GuardedBy("shardRefs")
+    private final Map<String, SharedClient> shardRefs = new HashMap<>();
+    @GuardedBy("shardRefs")
+    private boolean shardsReleased;
+    /* Queue of pending remote operations for each endpoint (key is endpoint), operations are executed in order */
+    private final Map<String, Executor> queues = new HashMap<>();
+    /* Write operations not sent yet (key is endpoint), they are sent as single batch */
+    private final Map<String, List<BatchOperation>> pendingWrites = new HashMap<>();
+    /* Reads not sent yet (key is endpoint), reads issued back to back are sent in single call */
+    private final Map<String, ReadBatch> pendingReads = new HashMap<>();
+    /* Endpoints written to by this TX */
+    private final Set<String> writtenEndpoints = new LinkedHashSet<>();
+    /* Errors of asynchronous write operations, reported when TX is committed */
+    private final List<String> writeErrors = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
     private final List<TransactionListener> listeners = new CopyOnWriteArrayList<>();
     private final Codec<JsonObject, YangInstanceIdentifier, RuntimeException> pathCodec;
+    /* Read cache of peer, if enabled */
+    private final @Nullable RemoteReadCache readCache;
+    /* Paths written by this TX, their cache entries are invalidated once TX is done */
+    private final List<DOMDataTreeIdentifier> writtenPaths = new ArrayList<>();
 
     /**
-     * Instantiates a new JSONRPC Transaction.
+     * Instantiates a new JSONRPC Transaction which owns its {@link RemoteOmShard} clients. Clients are not shared with
+     * other transactions of same peer, they are opened by this transaction and closed once it is closed.
      *
      * @param transportFactory used to create underlying transport connections
      * @param peer remote peer
      * @param pathMap shared instance of {@link HierarchicalEnumMap}
      * @param codecFactory codec factory
      * @param schemaContext the schema context
+     * @deprecated use transactions created by {@link JsonRPCDataBroker}, which share clients of peer
      */
+    @Deprecated(forRemoval = true)
     public JsonRPCTx(@NonNull TransportFactory transportFactory, @NonNull Peer peer,
             @NonNull HierarchicalEnumMap<JsonElement, DataType, String> pathMap,
             @NonNull JsonRpcCodecFactory codecFactory, @NonNull EffectiveModelContext schemaContext) {
         super(schemaContext, transportFactory, pathMap, codecFactory, peer);
         Preconditions.checkArgument(!Strings.isNullOrEmpty(peer.getName()), "Peer name is missing");
         this.pathCodec = codecFactory.pathCodec();
+        this.readCache = null;
     }
 
-    private <T> T withRemoteShard(LogicalDatastoreType store, JsonElement path, Function<RemoteOmShard, T> job) {
-        try (RemoteOmShard shard = getShard(store, path)) {
-            return job.apply(shard);
+    /**
+     * Instantiates a new JSONRPC Transaction which uses {@link RemoteOmShard} clients shared with other transactions
+     * of same peer.
+     *
+     * @param transportFactory used to create underlying transport connections
+     * @param peer remote peer
+     * @param pathMap shared instance of {@link HierarchicalEnumMap}
+     * @param codecFactory codec factory
+     * @param schemaContext the schema context
+     * @param shardClients shared {@link RemoteShardClients} of peer
+     * @param endpointCache shared {@link EndpointCache} of peer
+     * @param readCache read cache of peer, null if caching is not enabled
+     */
+    JsonRPCTx(@NonNull TransportFactory transportFactory, @NonNull Peer peer,
+            @NonNull HierarchicalEnumMap<JsonElement, DataType, String> pathMap,
+            @NonNull JsonRpcCodecFactory codecFactory, @NonNull EffectiveModelContext schemaContext,
+            @NonNull RemoteShardClients shardClients, @NonNull EndpointCache endpointCache,
+            @Nullable RemoteReadCache readCache) {
+        super(schemaContext, transportFactory, pathMap, codecFactory, peer, shardClients, endpointCache);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(peer.getName()), "Peer name is missing");
+        this.pathCodec = codecFactory.pathCodec();
+        this.readCache = readCache;
+    }
+
+    @Override
+    protected RemoteOmShard getShard(String endpoint) {
+        return shardRef(endpoint).shard();
+    }
+
+    /*
+     * Shared client is referenced until this TX is done, so that it is not closed underneath when peer is unmounted.
+     * Once TX is done, client is used without taking reference. Called from both caller thread and endpoint queues.
+     */
+    private SharedClient shardRef(String endpoint) {
+        synchronized (shardRefs) {
+            return shardsReleased ? shardClients.client(endpoint)
+                    : shardRefs.computeIfAbsent(endpoint, shardClients::acquire);
         }
     }
 
     /*
-     * Get cached TX id or allocate new one from corresponding remote shard mapped to given store and path
+     * Release referenced clients exactly once, TX might be completed by endpoint queue and closed by caller at same
+     * time.
      */
-    private String getTxId(LogicalDatastoreType store, JsonElement path) {
-        return txIdMap.computeIfAbsent(lookupEndPoint(store, path),
-            k -> withRemoteShard(store, path, RemoteOmShard::txid));
+    private void releaseShards() {
+        final List<SharedClient> toRelease;
+        synchronized (shardRefs) {
+            if (shardsReleased) {
+                return;
+            }
+            shardsReleased = true;
+            toRelease = List.copyOf(shardRefs.values());
+            shardRefs.clear();
+        }
+        toRelease.forEach(SharedClient::release);
+    }
+
+    private Executor queue(String endpoint) {
+        return queues.computeIfAbsent(endpoint, k -> RemoteCallExecutor.newSequentialExecutor());
+    }
+
+    /*
+     * Wait until all operations queued so far are executed.
+     */
+    private void awaitQueues() {
+        Futures.getUnchecked(Futures.allAsList(queues.values()
+                .stream()
+                .map(queue -> Futures.submit(() -> { }, queue))
+                .collect(Collectors.toList())));
+    }
+
+    /*
+     * Get cached TX id or allocate new one from given remote shard. Called from endpoint queue only.
+     */
+    private String getTxId(String endpoint, RemoteOmShard shard) {
+        String txId = txIdMap.get(endpoint);
+        if (txId == null) {
+            txId = shard.txid();
+            if (txId != null) {
+                txIdMap.put(endpoint, txId);
+            }
+        }
+        return txId;
+    }
+
+    /*
+     * Buffer write operation to endpoint mapped to given store and path. Buffered operations are sent as single batch
+     * on commit, or sooner when there is too many of them.
+     */
+    private void bufferWrite(LogicalDatastoreType store, YangInstanceIdentifier yii, JsonElement path,
+            String operation, JsonElement data) {
+        final String endpoint = lookupEndPoint(store, yii);
+        if (readCache != null) {
+            writtenPaths.add(DOMDataTreeIdentifier.of(store, yii));
+        }
+        // reference client for lifetime of TX
+        getShard(endpoint);
+        writtenEndpoints.add(endpoint);
+        final List<BatchOperation> ops = pendingWrites.computeIfAbsent(endpoint, k -> new ArrayList<>());
+        ops.add(new BatchOperation(operation, store2str(store2int(store)), peer.getName(), path, data));
+        if (ops.size() >= MAX_BATCH_SIZE) {
+            flush(endpoint, false);
+        }
+    }
+
+    /*
+     * Queue buffered write operations of given endpoint to be sent as single batch, optionally committing remote TX.
+     */
+    private ListenableFuture<Boolean> flush(String endpoint, boolean commit) {
+        final List<BatchOperation> ops = Optional.ofNullable(pendingWrites.remove(endpoint)).orElse(List.of());
+        // reads issued from now on must observe this batch
+        pendingReads.remove(endpoint);
+        final SharedClient client = shardRef(endpoint);
+        return Futures.submit(() -> sendBatch(endpoint, client, ops, commit), queue(endpoint));
+    }
+
+    /*
+     * Send batch to endpoint. Errors are collected and reported on commit, once batch fails, subsequent batches are
+     * not sent anymore. Called from endpoint queue only.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean sendBatch(String endpoint, SharedClient client, List<BatchOperation> ops, boolean commit) {
+        if (cancelled || !writeErrors.isEmpty()) {
+            return false;
+        }
+        try {
+            final String txId = getTxId(endpoint, client.shard());
+            if (applyBatch(client, txId, ops, commit)) {
+                return true;
+            }
+            LOG.debug("Batch of {} failed, requesting more info", txId);
+            final List<String> errors = client.shard().error(txId);
+            writeErrors.addAll(errors.isEmpty() ? List.of("Batch to " + endpoint + " failed") : errors);
+        } catch (RuntimeException e) {
+            LOG.warn("[{}] Write operation to {} failed", peer.getName(), endpoint, e);
+            writeErrors.add(e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+        return false;
+    }
+
+    /*
+     * Apply operations using batch method, fall back to individual calls if endpoint does not implement it.
+     */
+    private boolean applyBatch(SharedClient client, String txId, List<BatchOperation> ops, boolean commit) {
+        final RemoteOmShard shard = client.shard();
+        if (client.isBatchSupported()) {
+            try {
+                return shard.batch(txId, ops, commit);
+            } catch (ProxyServiceGenericException e) {
+                if (e.getCode() != METHOD_NOT_FOUND) {
+                    throw e;
+                }
+                LOG.info("[{}] {} does not implement batch method, falling back to individual calls", peer.getName(),
+                        client);
+                client.batchNotSupported();
+            }
+        }
+        for (BatchOperation op : ops) {
+            switch (op.getOperation()) {
+                case BatchOperation.PUT:
+                    shard.put(txId, op.getStore(), op.getEntity(), op.getPath(), op.getData());
+                    break;
+
+                case BatchOperation.MERGE:
+                    shard.merge(txId, op.getStore(), op.getEntity(), op.getPath(), op.getData());
+                    break;
+
+                default:
+                    shard.delete(txId, op.getStore(), op.getEntity(), op.getPath());
+                    break;
+            }
+        }
+        return !commit || shard.commit(txId);
+    }
+
+    /*
+     * Queue read operation to endpoint mapped to given store and path, so that it observes writes queued before it.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private <T> FluentFuture<T> submitRead(String endpoint, Function<RemoteOmShard, T> job) {
+        final RemoteOmShard shard = getShard(endpoint);
+        final SettableFuture<T> future = SettableFuture.create();
+        queue(endpoint).execute(() -> {
+            try {
+                future.set(job.apply(shard));
+            } catch (RuntimeException e) {
+                future.setException(readFailed(endpoint, e));
+            }
+        });
+        return FluentFuture.from(future);
+    }
+
+    /*
+     * Failures of reads are reported as ReadFailedException, as mandated by DOM transaction API.
+     */
+    private ReadFailedException readFailed(String endpoint, Throwable cause) {
+        return cause instanceof ReadFailedException rfe ? rfe
+                : new ReadFailedException("[" + peer.getName() + "] Read from " + endpoint + " failed", cause);
+    }
+
+    /*
+     * Data can be served from cache only until this TX writes to endpoint, afterwards reads must observe those writes.
+     */
+    private @Nullable DOMDataTreeIdentifier cacheKey(LogicalDatastoreType store, YangInstanceIdentifier path,
+            String endpoint) {
+        return readCache != null && !writtenEndpoints.contains(endpoint) ? DOMDataTreeIdentifier.of(store, path)
+                : null;
+    }
+
+    /*
+     * Queue read to endpoint. Read joins batch of reads which were queued to same endpoint, but not sent yet, so
+     * reads issued back to back while endpoint is busy are sent in single call.
+     */
+    private FluentFuture<Optional<NormalizedNode>> queueRead(String endpoint, PendingRead read) {
+        final ReadBatch batch = pendingReads.get(endpoint);
+        if (batch == null || !batch.add(read)) {
+            final ReadBatch newBatch = new ReadBatch(read);
+            pendingReads.put(endpoint, newBatch);
+            final SharedClient client = shardRef(endpoint);
+            queue(endpoint).execute(() -> sendReads(endpoint, client, newBatch.drain()));
+        }
+        return FluentFuture.from(read.future);
+    }
+
+    /*
+     * Send reads to endpoint, using readMany method if there is more than one of them, so that they are served from
+     * same snapshot. Falls back to individual calls if endpoint does not implement it. Called from endpoint queue
+     * only.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void sendReads(String endpoint, SharedClient client, List<PendingRead> reads) {
+        if (reads.size() > 1 && client.isReadManySupported()) {
+            try {
+                final long[] generations = reads.stream().mapToLong(this::beginRead).toArray();
+                final JsonArray data = client.shard().readMany(reads.stream()
+                        .map(this::toArgument)
+                        .collect(Collectors.toList()));
+                Preconditions.checkState(data.size() == reads.size(), "Expected %s results, got %s", reads.size(),
+                        data.size());
+                for (int i = 0; i < reads.size(); i++) {
+                    complete(reads.get(i), data.get(i), generations[i]);
+                }
+                return;
+            } catch (ProxyServiceGenericException e) {
+                if (e.getCode() != METHOD_NOT_FOUND) {
+                    reads.forEach(read -> read.future.setException(readFailed(endpoint, e)));
+                    return;
+                }
+                LOG.info("[{}] {} does not implement readMany method, falling back to individual calls",
+                        peer.getName(), client);
+                client.readManyNotSupported();
+            } catch (RuntimeException e) {
+                reads.forEach(read -> read.future.setException(readFailed(endpoint, e)));
+                return;
+            }
+        }
+        for (PendingRead read : reads) {
+            try {
+                final long generation = beginRead(read);
+                complete(read, readOne(client.shard(), read), generation);
+            } catch (RuntimeException e) {
+                read.future.setException(readFailed(endpoint, e));
+            }
+        }
+    }
+
+    private long beginRead(PendingRead read) {
+        return read.cacheKey != null ? readCache.beginRead(read.cacheKey) : RemoteReadCache.NOT_CACHED;
+    }
+
+    private JsonElement readOne(RemoteOmShard shard, PendingRead read) {
+        final String store = store2str(store2int(read.store));
+        return read.selector == null ? shard.read(store, peer.getName(), read.jsonPath)
+                : shard.read(store, peer.getName(), read.jsonPath, read.depth, read.fields);
+    }
+
+    private StoreOperationArgument toArgument(PendingRead read) {
+        return new StoreOperationArgument(store2str(store2int(read.store)), peer.getName(), read.jsonPath,
+                read.depth, read.fields);
+    }
+
+    private void complete(PendingRead read, JsonElement data, long generation) {
+        final NormalizedNode decoded = CodecUtils.decodeUnchecked(codecFactory, read.path, data);
+        if (read.cacheKey != null) {
+            readCache.put(read.cacheKey, Optional.ofNullable(decoded), data, generation);
+        }
+        // limits are applied locally as well, since peer might not support them
+        read.future.set(Optional.ofNullable(read.selector != null ? read.selector.apply(decoded) : decoded));
     }
 
     @Override
@@ -107,18 +432,66 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
         if (path.getPathArguments().isEmpty()) {
             return NO_DATA;
         }
-        final JsonObject jsonPath = pathCodec.serialize(path);
-        return withRemoteShard(store, jsonPath,
-                shard -> immediateFluentFuture(Optional.ofNullable(CodecUtils.decodeUnchecked(codecFactory, path,
-                            shard.read(store2str(store2int(store)), peer.getName(), jsonPath)))));
+        final String endpoint = lookupEndPoint(store, path);
+        final DOMDataTreeIdentifier cacheKey = cacheKey(store, path, endpoint);
+        if (cacheKey != null) {
+            final Optional<NormalizedNode> cached = readCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                return FluentFutures.immediateFluentFuture(cached);
+            }
+        }
+        return queueRead(endpoint,
+                new PendingRead(store, path, pathCodec.serialize(path), null, null, null, cacheKey));
+    }
+
+    @Override
+    public FluentFuture<Optional<NormalizedNode>> read(LogicalDatastoreType store, YangInstanceIdentifier path,
+            @Nullable Integer depth, @Nullable List<String> fields) {
+        final ReadSelector selector = ReadSelector.of(depth, fields);
+        if (selector == null) {
+            return read(store, path);
+        }
+        LOG.debug("[{}][read] store={}, path={}, selector={}", peer.getName(), store, path, selector);
+        if (path.getPathArguments().isEmpty()) {
+            return NO_DATA;
+        }
+        final String endpoint = lookupEndPoint(store, path);
+        final DOMDataTreeIdentifier cacheKey = cacheKey(store, path, endpoint);
+        if (cacheKey != null) {
+            final Optional<NormalizedNode> cached = readCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                return FluentFutures.immediateFluentFuture(cached.map(selector::apply));
+            }
+        }
+        return queueRead(endpoint,
+                new PendingRead(store, path, pathCodec.serialize(path), depth, fields, selector, null));
+    }
+
+    @Override
+    public FluentFuture<Long> readPages(LogicalDatastoreType store, YangInstanceIdentifier path,
+            @Nullable Integer pageSize, Executor executor, Consumer<MapEntryNode> consumer) {
+        LOG.debug("[{}][readPages] store={}, path={}, pageSize={}", peer.getName(), store, path, pageSize);
+        final String endpoint = lookupEndPoint(store, path);
+        // pages are requested through endpoint queue, so they are ordered with other calls of this TX
+        return FluentFuture.from(PagedReader.readPages(getShard(endpoint), queue(endpoint), codecFactory,
+                store2str(store2int(store)), peer.getName(), path, pageSize, executor, consumer))
+                .catchingAsync(RuntimeException.class,
+                    e -> Futures.immediateFailedFuture(readFailed(endpoint, e)), MoreExecutors.directExecutor());
     }
 
     @Override
     public FluentFuture<Boolean> exists(LogicalDatastoreType store, YangInstanceIdentifier path) {
         LOG.debug("[{}][exists] store={}, path={}", peer.getName(), store, path);
+        final String endpoint = lookupEndPoint(store, path);
+        final DOMDataTreeIdentifier cacheKey = cacheKey(store, path, endpoint);
+        if (cacheKey != null) {
+            final Optional<NormalizedNode> cached = readCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                return FluentFutures.immediateFluentFuture(cached.isPresent());
+            }
+        }
         final JsonObject jsonPath = pathCodec.serialize(path);
-        return withRemoteShard(store, jsonPath,
-                shard -> immediateFluentFuture(shard.exists(store2str(store2int(store)), peer.getName(), jsonPath)));
+        return submitRead(endpoint, shard -> shard.exists(store2str(store2int(store)), peer.getName(), jsonPath));
     }
 
     @Override
@@ -126,11 +499,7 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
         LOG.debug("[{}][put] store={}, path={}, data={}", peer.getName(), store, path, data);
         final JsonObject jsonPath = pathCodec.serialize(path);
         final JsonElement jsonData = CodecUtils.encodeUnchecked(codecFactory, path, data);
-
-        withRemoteShard(store, jsonPath, shard -> {
-            shard.put(getTxId(store, jsonPath), store2str(store2int(store)), peer.getName(), jsonPath, jsonData);
-            return null;
-        });
+        bufferWrite(store, path, jsonPath, BatchOperation.PUT, jsonData);
     }
 
     @Override
@@ -138,20 +507,14 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
         LOG.debug("[{}][merge] store={}, path={}, data={}", peer.getName(), store, path, data);
         final JsonObject jsonPath = pathCodec.serialize(path);
         final JsonElement jsonData = CodecUtils.encodeUnchecked(codecFactory, path, data);
-        withRemoteShard(store, jsonPath, shard -> {
-            shard.merge(getTxId(store, jsonPath), store2str(store2int(store)), peer.getName(), jsonPath, jsonData);
-            return null;
-        });
+        bufferWrite(store, path, jsonPath, BatchOperation.MERGE, jsonData);
     }
 
     @Override
     public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         LOG.debug("[{}][delete] store={}, path={}", peer.getName(), store, path);
         final JsonObject jsonPath = pathCodec.serialize(path);
-        withRemoteShard(store, jsonPath, shard -> {
-            shard.delete(getTxId(store, jsonPath), store2str(store2int(store)), peer.getName(), jsonPath);
-            return null;
-        });
+        bufferWrite(store, path, jsonPath, BatchOperation.DELETE, null);
     }
 
     @Override
@@ -164,13 +527,13 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
     public boolean cancel() {
         LOG.debug("[{}][cancel]", peer.getName());
         try {
-            boolean result = true;
-            for (Map.Entry<String, String> entry : txIdMap.entrySet()) {
-                try (RemoteOmShard shard = getShard(entry.getKey())) {
-                    result &= shard.cancel(entry.getValue());
-                }
-            }
+            // buffered writes are dropped, but the ones in progress must finish before remote TX can be cancelled
+            cancelled = true;
+            pendingWrites.clear();
+            awaitQueues();
+            final boolean result = cancelRemote();
             txIdMap.clear();
+            releaseShards();
             listeners.forEach(listener -> listener.onCancel(this));
             settableFuture.cancel(false);
             return result;
@@ -184,20 +547,44 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
     public FluentFuture<? extends CommitInfo> commit() {
         LOG.debug("[{}][commit]", peer.getName());
         listeners.forEach(txl -> txl.onSubmit(this));
-        boolean result = true;
-        final List<String> errors = new ArrayList<>();
+        final List<String> errors = new CopyOnWriteArrayList<>();
+        final ListenableFuture<Boolean> result;
+        if (writtenEndpoints.size() == 1) {
+            // single endpoint, so remote TX can be committed along with last batch
+            result = Futures.transform(flush(writtenEndpoints.iterator().next(), true),
+                committed -> committed || abortRemote(errors), MoreExecutors.directExecutor());
+        } else {
+            // all batches must be applied before any of remote TXs is committed
+            result = Futures.transformAsync(Futures.allAsList(writtenEndpoints.stream()
+                    .map(endpoint -> flush(endpoint, false))
+                    .collect(Collectors.toList())),
+                flushed -> writeErrors.isEmpty() ? commitRemote(errors) : immediateFuture(abortRemote(errors)),
+                MoreExecutors.directExecutor());
+        }
+        Futures.addCallback(result, new FutureCallback<Boolean>() {
+            @Override
+            public void onSuccess(Boolean committed) {
+                complete(committed, errors);
+            }
 
-        for (Map.Entry<String, String> entry : txIdMap.entrySet()) {
-            try (RemoteOmShard shard = getShard(entry.getKey())) {
-                if (!shard.commit(entry.getValue())) {
-                    result = false;
-                    LOG.debug("Commit of {} failed, requesting more info", entry.getValue());
-                    errors.addAll(shard.error(entry.getValue()));
-                }
+            @Override
+            public void onFailure(Throwable cause) {
+                LOG.error("[{}] Commit of transaction {} failed", peer.getName(), getIdentifier(), cause);
+                errors.add(cause.toString());
+                complete(false, errors);
             }
-        }
+        }, MoreExecutors.directExecutor());
+        return completionFuture;
+    }
+
+    private void complete(boolean committed, List<String> errors) {
         txIdMap.clear();
-        if (result) {
+        releaseShards();
+        // even failed commit might have been applied on some of endpoints
+        if (readCache != null) {
+            writtenPaths.forEach(readCache::invalidate);
+        }
+        if (committed) {
             listeners.forEach(txListener -> txListener.onSuccess(this));
             settableFuture.set(CommitInfo.empty());
         } else {
@@ -207,7 +594,65 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
             listeners.forEach(txListener -> txListener.onFailure(this, failure));
             settableFuture.setException(failure);
         }
-        return completionFuture;
+    }
+
+    /*
+     * Commit remote TXs on all endpoints concurrently, each one on its own queue.
+     */
+    private ListenableFuture<Boolean> commitRemote(List<String> errors) {
+        final List<ListenableFuture<Boolean>> commits = new ArrayList<>();
+        synchronized (txIdMap) {
+            for (Map.Entry<String, String> entry : txIdMap.entrySet()) {
+                final RemoteOmShard shard = getShard(entry.getKey());
+                final String txId = entry.getValue();
+                commits.add(Futures.submit(() -> commitRemote(shard, txId, errors), queue(entry.getKey())));
+            }
+        }
+        return Futures.transform(Futures.allAsList(commits), results -> !results.contains(Boolean.FALSE),
+            MoreExecutors.directExecutor());
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean commitRemote(RemoteOmShard shard, String txId, List<String> errors) {
+        try {
+            if (shard.commit(txId)) {
+                return true;
+            }
+            LOG.debug("Commit of {} failed, requesting more info", txId);
+            errors.addAll(shard.error(txId));
+        } catch (RuntimeException e) {
+            LOG.warn("[{}] Commit of {} failed", peer.getName(), txId, e);
+            errors.add(e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+        return false;
+    }
+
+    /*
+     * Some of writes did not make it to remote TX, so it can't be committed.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean abortRemote(List<String> errors) {
+        errors.addAll(writeErrors);
+        try {
+            cancelRemote();
+        } catch (RuntimeException e) {
+            LOG.warn("[{}] Unable to cancel transaction", peer.getName(), e);
+        }
+        return false;
+    }
+
+    private boolean cancelRemote() {
+        boolean result = true;
+        for (Map.Entry<String, String> entry : txIdMap.entrySet()) {
+            result &= getShard(entry.getKey()).cancel(entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        releaseShards();
+        super.close();
     }
 
     @Override
@@ -235,4 +680,57 @@ public class JsonRPCTx extends RemoteShardAware implements JsonRpcTransactionFac
         JsonRpcTransactionFacade other = (JsonRpcTransactionFacade) obj;
         return getIdentifier().equals(other.getIdentifier());
     }
+
+    /*
+     * Read which was not sent to endpoint yet.
+     */
+    private static final class PendingRead {
+        private final SettableFuture<Optional<NormalizedNode>> future = SettableFuture.create();
+        private final LogicalDatastoreType store;
+        private final YangInstanceIdentifier path;
+        private final JsonObject jsonPath;
+        private final @Nullable Integer depth;
+        private final @Nullable List<String> fields;
+        private final @Nullable ReadSelector selector;
+        private final @Nullable DOMDataTreeIdentifier cacheKey;
+
+        PendingRead(LogicalDatastoreType store, YangInstanceIdentifier path, JsonObject jsonPath,
+                @Nullable Integer depth, @Nullable List<String> fields, @Nullable ReadSelector selector,
+                @Nullable DOMDataTreeIdentifier cacheKey) {
+            this.store = store;
+            this.path = path;
+            this.jsonPath = jsonPath;
+            this.depth = depth;
+            this.fields = fields;
+            this.selector = selector;
+            this.cacheKey = cacheKey;
+        }
+    }
+
+    /*
+     * Reads queued to single endpoint. Once batch is drained by endpoint queue, no more reads can join it.
+     */
+    private static final class ReadBatch {
+        @GuardedBy("this")
+        private final List<PendingRead> reads = new ArrayList<>();
+        @GuardedBy("this")
+        private boolean drained;
+
+        ReadBatch(PendingRead first) {
+            reads.add(first);
+        }
+
+        synchronized boolean add(PendingRead read) {
+            if (drained) {
+                return false;
+            }
+            reads.add(read);
+            return true;
+        }
+
+        synchronized List<PendingRead> drain() {
+            drained = true;
+            return reads;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.hmap.DataType;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
 import org.opendaylight.jsonrpc.model.RemoteGovernance;
+import org.opendaylight.jsonrpc.provider.common.RequesterSessions;
 import org.opendaylight.jsonrpc.provider.common.RpcClient;
 import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
 import org.opendaylight.mdsal.dom.api.DOMRpcIdentifier;
@@ -46,6 +47,8 @@ import org.slf4j.LoggerFactory;
 public final class JsonRPCtoRPCBridge extends AbstractJsonRPCComponent implements DOMRpcService, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(JsonRPCtoRPCBridge.class);
     private final Map<QName, RpcClient> mappedRpcs;
+    // single session per endpoint, shared by clients of all RPCs mapped to it
+    private final RequesterSessions sessions;
     private final Collection<DOMRpcIdentifier> availableRpcs;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -62,6 +65,7 @@ public final class JsonRPCtoRPCBridge extends AbstractJsonRPCComponent implement
             HierarchicalEnumMap<JsonElement, DataType, String> pathMap, @Nullable RemoteGovernance governance,
             TransportFactory transportFactory, JsonRpcCodecFactory codecFactory) {
         super(schemaContext, transportFactory, pathMap, codecFactory, peer);
+        sessions = new RequesterSessions(transportFactory);
         final ImmutableMap.Builder<QName, RpcClient> mappedRpcsBuilder = ImmutableMap.builder();
         for (final RpcDefinition def : schemaContext.getOperations()) {
             addRpcDefinition(governance, def, mappedRpcsBuilder);
@@ -86,7 +90,7 @@ public final class JsonRPCtoRPCBridge extends AbstractJsonRPCComponent implement
         final String endpoint = getEndpoint(DataType.RPC, governance, path);
         if (endpoint != null) {
             LOG.info("[{}] RPC '{}' mapped to {}", localName, endpoint, peer.getName());
-            mapped.put(def.getQName(), new RpcClient(codecFactory, def, transportFactory, endpoint));
+            mapped.put(def.getQName(), new RpcClient(codecFactory, def, sessions, endpoint));
         } else {
             LOG.warn("[{}] RPC '{}' cannot be mapped, no known endpoint", localName, peer.getName());
         }
@@ -125,6 +129,7 @@ public final class JsonRPCtoRPCBridge extends AbstractJsonRPCComponent implement
     public void close() {
         if (closed.compareAndSet(false, true)) {
             mappedRpcs.values().stream().forEach(RpcClient::close);
+            sessions.close();
         }
     }
 }
@@ -12,19 +12,29 @@ import static org.opendaylight.jsonrpc.dom.codec.CodecUtils.decodeUnchecked;
 import static org.opendaylight.jsonrpc.dom.codec.CodecUtils.encodeUnchecked;
 import static org.opendaylight.jsonrpc.provider.common.Util.storeFromString;
 
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.Codec;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.model.AddListenerArgument;
+import org.opendaylight.jsonrpc.model.BatchArgument;
+import org.opendaylight.jsonrpc.model.BatchOperation;
 import org.opendaylight.jsonrpc.model.DataOperationArgument;
 import org.opendaylight.jsonrpc.model.DeleteListenerArgument;
 import org.opendaylight.jsonrpc.model.ListenerKey;
+import org.opendaylight.jsonrpc.model.ReadManyArgument;
+import org.opendaylight.jsonrpc.model.ReadPageArgument;
+import org.opendaylight.jsonrpc.model.ReadPageResult;
 import org.opendaylight.jsonrpc.model.RemoteOmShard;
 import org.opendaylight.jsonrpc.model.StoreOperationArgument;
 import org.opendaylight.jsonrpc.model.TxArgument;
@@ -33,7 +43,10 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.config.PagedRead;
+import org.opendaylight.yangtools.yang.common.Uint32;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,29 +63,85 @@ public class JsonRpcDatastoreAdapter implements RemoteOmShard {
     private final TransactionManager txManager;
     private final DOMDataBroker domDataBroker;
     private final DataChangeListenerRegistry dataChangeRegistry;
+    private final ReadCursors readCursors;
     private Codec<JsonObject, YangInstanceIdentifier, RuntimeException> pathCodec;
 
     public JsonRpcDatastoreAdapter(@NonNull JsonRpcCodecFactory codecFactory, @NonNull DOMDataBroker domDataBroker,
             @NonNull EffectiveModelContext schemaContext, @NonNull TransportFactory transportFactory) {
+        this(codecFactory, domDataBroker, schemaContext, transportFactory, null);
+    }
+
+    public JsonRpcDatastoreAdapter(@NonNull JsonRpcCodecFactory codecFactory, @NonNull DOMDataBroker domDataBroker,
+            @NonNull EffectiveModelContext schemaContext, @NonNull TransportFactory transportFactory,
+            @Nullable PagedRead pagedRead) {
         Objects.requireNonNull(schemaContext);
         Objects.requireNonNull(transportFactory);
         this.domDataBroker = Objects.requireNonNull(domDataBroker);
         this.codecFactory = Objects.requireNonNull(codecFactory);
         this.txManager = new TransactionManager(domDataBroker, schemaContext);
         this.dataChangeRegistry = new DataChangeListenerRegistry(domDataBroker, transportFactory, codecFactory);
+        this.readCursors = new ReadCursors(domDataBroker, codecFactory,
+                Optional.ofNullable(pagedRead)
+                        .map(PagedRead::getMaxPinnedEntries)
+                        .map(Uint32::longValue)
+                        .orElse(ReadCursors.DEFAULT_MAX_PINNED_ENTRIES),
+                Optional.ofNullable(pagedRead)
+                        .map(PagedRead::getCursorIdleTimeout)
+                        .map(Uint32::longValue)
+                        .orElse(ReadCursors.DEFAULT_IDLE_TIMEOUT_SECONDS));
         this.pathCodec = codecFactory.pathCodec();
     }
 
     @Override
     public JsonElement read(StoreOperationArgument arg) {
         final YangInstanceIdentifier path = pathCodec.deserialize(arg.getPath().getAsJsonObject());
-        LOG.debug("READ : YII :{}", path);
+        final ReadSelector selector = ReadSelector.of(arg.getDepth(), arg.getFields());
+        LOG.debug("READ : YII :{}, selector : {}", path, selector);
         try (DOMDataTreeReadTransaction tx = domDataBroker.newReadOnlyTransaction()) {
-            return encodeUnchecked(codecFactory, path,
-                    getUnchecked(tx.read(storeFromString(arg.getStore()), path)).orElse(null));
+            final NormalizedNode data = getUnchecked(tx.read(storeFromString(arg.getStore()), path)).orElse(null);
+            return encodeUnchecked(codecFactory, path, selector != null ? selector.apply(data) : data);
         }
     }
 
+    /*
+     * All reads are issued against single read-only TX before waiting for any of them, so they proceed concurrently
+     * and observe same snapshot.
+     */
+    @Override
+    public JsonArray readMany(ReadManyArgument arg) {
+        final List<StoreOperationArgument> reads = arg.getReads();
+        final List<YangInstanceIdentifier> paths = new ArrayList<>(reads.size());
+        final List<FluentFuture<Optional<NormalizedNode>>> futures = new ArrayList<>(reads.size());
+        LOG.debug("READ MANY : {} reads", reads.size());
+        try (DOMDataTreeReadTransaction tx = domDataBroker.newReadOnlyTransaction()) {
+            for (StoreOperationArgument read : reads) {
+                final YangInstanceIdentifier path = pathCodec.deserialize(read.getPath().getAsJsonObject());
+                LOG.trace("READ MANY : YII :{}", path);
+                paths.add(path);
+                futures.add(tx.read(storeFromString(read.getStore()), path));
+            }
+            final JsonArray result = new JsonArray(reads.size());
+            for (int i = 0; i < reads.size(); i++) {
+                final ReadSelector selector = ReadSelector.of(reads.get(i).getDepth(), reads.get(i).getFields());
+                final NormalizedNode data = getUnchecked(futures.get(i)).orElse(null);
+                result.add(encodeUnchecked(codecFactory, paths.get(i), selector != null ? selector.apply(data) : data));
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public ReadPageResult readPage(ReadPageArgument arg) {
+        if (arg.getCursor() != null) {
+            LOG.debug("READ PAGE : cursor : {}", arg.getCursor());
+            return readCursors.next(arg.getCursor(), arg.getLimit());
+        }
+        final YangInstanceIdentifier path = pathCodec.deserialize(arg.getPath().getAsJsonObject());
+        final ReadSelector selector = ReadSelector.of(arg.getDepth(), arg.getFields());
+        LOG.debug("READ PAGE : YII :{}, selector : {}", path, selector);
+        return readCursors.open(storeFromString(arg.getStore()), path, arg.getLimit(), selector);
+    }
+
     @Override
     public void put(DataOperationArgument arg) {
         final YangInstanceIdentifier path = pathCodec.deserialize(arg.getPath().getAsJsonObject());
@@ -113,6 +182,35 @@ public class JsonRpcDatastoreAdapter implements RemoteOmShard {
         trx.delete(store, path);
     }
 
+    @Override
+    public boolean batch(BatchArgument arg) {
+        LOG.debug("BATCH : tx={}, operations={}, commit={}", arg.getTxid(), arg.getOperations().size(),
+                arg.isCommit());
+        final DOMDataTreeWriteTransaction trx = txManager.allocate(arg.getTxid()).getValue().newWriteTransaction();
+        for (BatchOperation op : arg.getOperations()) {
+            final YangInstanceIdentifier path = pathCodec.deserialize(op.getPath().getAsJsonObject());
+            final LogicalDatastoreType store = storeFromString(op.getStore());
+            LOG.trace("BATCH : tx={}, operation={}, store={}, YII={}", arg.getTxid(), op.getOperation(), store, path);
+            switch (op.getOperation()) {
+                case BatchOperation.PUT:
+                    trx.put(store, path, decodeUnchecked(codecFactory, path, op.getData()));
+                    break;
+
+                case BatchOperation.MERGE:
+                    trx.merge(store, path, decodeUnchecked(codecFactory, path, op.getData()));
+                    break;
+
+                case BatchOperation.DELETE:
+                    trx.delete(store, path);
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Unsupported batch operation : " + op.getOperation());
+            }
+        }
+        return !arg.isCommit() || commit(arg);
+    }
+
     @Override
     public boolean commit(TxArgument arg) {
         LOG.debug("COMMIT : {}", arg.getTxid());
@@ -141,7 +239,9 @@ public class JsonRpcDatastoreAdapter implements RemoteOmShard {
     @Override
     public ListenerKey addListener(AddListenerArgument arg) throws IOException {
         final YangInstanceIdentifier path = pathCodec.deserialize(arg.getPath().getAsJsonObject());
-        return dataChangeRegistry.createListener(path, storeFromString(arg.getStore()), arg.getTransport());
+        return dataChangeRegistry.createListener(path, storeFromString(arg.getStore()), arg.getTransport(),
+                Boolean.TRUE.equals(arg.getDelta()), arg.getCoalesceWindow() == null ? 0 : arg.getCoalesceWindow(),
+                Boolean.TRUE.equals(arg.getMultiplex()), arg.getSubscription());
     }
 
     @Override
@@ -153,5 +253,6 @@ public class JsonRpcDatastoreAdapter implements RemoteOmShard {
     public void close() {
         txManager.close();
         dataChangeRegistry.close();
+        readCursors.close();
     }
 }
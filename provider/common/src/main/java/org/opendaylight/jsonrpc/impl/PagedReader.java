@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.jsonrpc.dom.codec.CodecUtils;
+import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
+import org.opendaylight.jsonrpc.model.ReadPageArgument;
+import org.opendaylight.jsonrpc.model.ReadPageResult;
+import org.opendaylight.jsonrpc.model.RemoteOmShard;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client side of paginated read, see {@link RemoteOmShard#readPage(ReadPageArgument)}. Pages are requested one at a
+ * time and their entries are passed to consumer once page is received, so only single page is held in memory
+ * regardless of size of list. Remote calls and consumer run on separate executors, so consumer never occupies thread
+ * needed to perform remote calls, and next page is requested only once previous one is consumed.
+ */
+public final class PagedReader {
+    private static final Logger LOG = LoggerFactory.getLogger(PagedReader.class);
+    private final RemoteOmShard shard;
+    private final Executor remoteExecutor;
+    private final JsonRpcCodecFactory codecFactory;
+    private final String store;
+    private final String entity;
+    private final YangInstanceIdentifier path;
+    private final JsonObject jsonPath;
+    private final @Nullable Integer pageSize;
+    private final Executor consumerExecutor;
+    private final Consumer<MapEntryNode> consumer;
+    private final SettableFuture<Long> result = SettableFuture.create();
+    // accessed by one task at a time, tasks are ordered by executor submission
+    private long count;
+    private int pages;
+
+    private PagedReader(RemoteOmShard shard, Executor remoteExecutor, JsonRpcCodecFactory codecFactory, String store,
+            String entity, YangInstanceIdentifier path, @Nullable Integer pageSize, Executor consumerExecutor,
+            Consumer<MapEntryNode> consumer) {
+        this.shard = Objects.requireNonNull(shard);
+        this.remoteExecutor = Objects.requireNonNull(remoteExecutor);
+        this.codecFactory = Objects.requireNonNull(codecFactory);
+        this.store = Objects.requireNonNull(store);
+        this.entity = Objects.requireNonNull(entity);
+        this.path = Objects.requireNonNull(path);
+        this.jsonPath = codecFactory.pathCodec().serialize(path);
+        this.pageSize = pageSize;
+        this.consumerExecutor = Objects.requireNonNull(consumerExecutor);
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    /**
+     * Read all entries of list at given path and pass them to consumer, in order in which they are returned by peer.
+     *
+     * @param shard {@link RemoteOmShard} to read from
+     * @param remoteExecutor {@link Executor} used to perform remote calls
+     * @param codecFactory codec factory
+     * @param store data store that is the subject of this procedure ("operational" or "config")
+     * @param entity name of the managed entity that is the subject of this procedure
+     * @param path path to keyed list
+     * @param pageSize maximum number of entries requested in single page, null for peer's default
+     * @param consumerExecutor {@link Executor} used to decode entries and invoke consumer, one page at a time
+     * @param consumer consumer of list entries
+     * @return future with number of consumed entries, completed once last page is consumed
+     */
+    public static ListenableFuture<Long> readPages(RemoteOmShard shard, Executor remoteExecutor,
+            JsonRpcCodecFactory codecFactory, String store, String entity, YangInstanceIdentifier path,
+            @Nullable Integer pageSize, Executor consumerExecutor, Consumer<MapEntryNode> consumer) {
+        final PagedReader reader = new PagedReader(shard, remoteExecutor, codecFactory, store, entity, path, pageSize,
+                consumerExecutor, consumer);
+        reader.requestPage(null);
+        return reader.result;
+    }
+
+    private void requestPage(@Nullable String cursor) {
+        execute(remoteExecutor, () -> {
+            final ReadPageResult page = shard.readPage(new ReadPageArgument(store, entity, jsonPath, cursor,
+                    pageSize));
+            execute(consumerExecutor, () -> consumePage(page));
+        });
+    }
+
+    private void consumePage(ReadPageResult page) {
+        for (JsonElement entry : page.getData()) {
+            consumer.accept(decodeEntry(entry));
+            count++;
+        }
+        pages++;
+        final String cursor = page.getCursor();
+        if (cursor != null) {
+            requestPage(cursor);
+        } else {
+            LOG.debug("Read {} entries of {} in {} pages", count, path, pages);
+            result.set(count);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void execute(Executor executor, Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    result.setException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            result.setException(e);
+        }
+    }
+
+    /*
+     * Data codec of list decodes list with single entry into that entry.
+     */
+    private MapEntryNode decodeEntry(JsonElement entry) {
+        final JsonArray wrapper = new JsonArray(1);
+        wrapper.add(entry);
+        return (MapEntryNode) CodecUtils.decodeUnchecked(codecFactory, path, wrapper);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import static com.google.common.util.concurrent.Futures.getUnchecked;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonArray;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.jsonrpc.dom.codec.CodecUtils;
+import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
+import org.opendaylight.jsonrpc.model.ReadPageResult;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Open cursors of paginated reads. Cursor iterates over entries of list read when first page was requested, so all
+ * pages come from same snapshot of data. Entries are returned in iteration order of that snapshot, which is not
+ * necessarily order of their keys. Only entries of single page are encoded at a time.
+ *
+ * <p>Every open cursor keeps whole list it was opened for reachable. List which is not modified meanwhile shares its
+ * memory with datastore, but modified one is retained in addition to current data. Open cursors are therefore limited
+ * by total number of entries of their lists rather than by their count, and least recently used cursors are discarded
+ * once limit is exceeded. Cursors which are not used for configured time are discarded as well.
+ */
+final class ReadCursors implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadCursors.class);
+    static final int DEFAULT_PAGE_SIZE = 1000;
+    static final int MAX_PAGE_SIZE = 10000;
+    // must match default value of cursor-idle-timeout leaf in jsonrpc.yang
+    static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 60;
+    // must match default value of max-pinned-entries leaf in jsonrpc.yang
+    static final long DEFAULT_MAX_PINNED_ENTRIES = 100_000;
+
+    private final DOMDataBroker domDataBroker;
+    private final JsonRpcCodecFactory codecFactory;
+    private final long maxPinnedEntries;
+    private final Cache<String, Cursor> cursors;
+
+    @VisibleForTesting
+    ReadCursors(DOMDataBroker domDataBroker, JsonRpcCodecFactory codecFactory, long maxPinnedEntries) {
+        this(domDataBroker, codecFactory, maxPinnedEntries, DEFAULT_IDLE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Create registry of cursors.
+     *
+     * @param domDataBroker broker to read lists from
+     * @param codecFactory codec factory
+     * @param maxPinnedEntries maximum total number of list entries kept by open cursors
+     * @param idleTimeoutSeconds time after which unused cursor is discarded
+     */
+    ReadCursors(DOMDataBroker domDataBroker, JsonRpcCodecFactory codecFactory, long maxPinnedEntries,
+            long idleTimeoutSeconds) {
+        this.domDataBroker = Objects.requireNonNull(domDataBroker);
+        this.codecFactory = Objects.requireNonNull(codecFactory);
+        this.maxPinnedEntries = maxPinnedEntries;
+        cursors = CacheBuilder.newBuilder()
+                .expireAfterAccess(idleTimeoutSeconds, TimeUnit.SECONDS)
+                // single segment, so that cursor of list as big as whole limit is not evicted right away
+                .concurrencyLevel(1)
+                .maximumWeight(maxPinnedEntries)
+                .<String, Cursor>weigher((key, value) -> value.pinned)
+                .build();
+    }
+
+    /**
+     * Read list at given path and return its first page.
+     *
+     * @param store datastore to read from
+     * @param path path to list
+     * @param limit maximum number of entries in page, null for default
+     * @param selector limits applied to each entry, null if none
+     * @return first page
+     */
+    ReadPageResult open(LogicalDatastoreType store, YangInstanceIdentifier path, @Nullable Integer limit,
+            @Nullable ReadSelector selector) {
+        final NormalizedNode data;
+        // read data are immutable, so transaction is not needed once they are available
+        try (DOMDataTreeReadTransaction tx = domDataBroker.newReadOnlyTransaction()) {
+            data = getUnchecked(tx.read(store, path)).orElse(null);
+        }
+        if (data == null) {
+            return new ReadPageResult(new JsonArray(), null);
+        }
+        Preconditions.checkArgument(data instanceof MapNode, "Path %s does not identify keyed list", path);
+        final MapNode list = (MapNode) data;
+        // list bigger than limit evicts all other cursors, but still can be read
+        final Cursor cursor = new Cursor(UUID.randomUUID().toString(), path, list.body().iterator(),
+                (int) Math.min(list.size(), maxPinnedEntries), selector);
+        LOG.debug("Opened cursor {} of {} entries at {}", cursor.id, list.size(), path);
+        return nextPage(cursor, limit);
+    }
+
+    /**
+     * Return next page of open cursor.
+     *
+     * @param id cursor identifier returned with previous page
+     * @param limit maximum number of entries in page, null for default
+     * @return next page
+     * @throws IllegalStateException if cursor does not exist or has expired
+     */
+    ReadPageResult next(String id, @Nullable Integer limit) {
+        final Cursor cursor = cursors.asMap().remove(id);
+        if (cursor == null) {
+            throw new IllegalStateException("Cursor '" + id + "' does not exist or has expired");
+        }
+        return nextPage(cursor, limit);
+    }
+
+    private ReadPageResult nextPage(Cursor cursor, @Nullable Integer limit) {
+        final int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        final JsonArray page = new JsonArray();
+        while (page.size() < size && cursor.entries.hasNext()) {
+            final MapEntryNode entry = cursor.entries.next();
+            page.add(CodecUtils.encodeUnchecked(codecFactory, cursor.path,
+                    cursor.selector != null ? cursor.selector.apply(entry) : entry));
+        }
+        if (!cursor.entries.hasNext()) {
+            LOG.debug("Cursor {} exhausted", cursor.id);
+            return new ReadPageResult(page, null);
+        }
+        // cursor is removed while page is being read, so it can't be used concurrently
+        cursors.put(cursor.id, cursor);
+        return new ReadPageResult(page, cursor.id);
+    }
+
+    @Override
+    public void close() {
+        cursors.invalidateAll();
+    }
+
+    private static final class Cursor {
+        private final String id;
+        private final YangInstanceIdentifier path;
+        private final Iterator<MapEntryNode> entries;
+        // number of list entries kept reachable by this cursor
+        private final int pinned;
+        private final @Nullable ReadSelector selector;
+
+        Cursor(String id, YangInstanceIdentifier path, Iterator<MapEntryNode> entries, int pinned,
+                @Nullable ReadSelector selector) {
+            this.id = id;
+            this.path = path;
+            this.entries = entries;
+            this.pinned = pinned;
+            this.selector = selector;
+        }
+    }
+}
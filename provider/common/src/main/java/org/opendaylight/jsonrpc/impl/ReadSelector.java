@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.DataContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+/**
+ * Limits data returned by read operation, semantics are modeled on RESTCONF 'depth' and 'fields' query parameters.
+ *
+ * <p>Depth limits number of data node levels, node at requested path is at level 1. Choices, cases and lists
+ * themselves do not count as levels, so list entries are at same level as list. Key leaves of list entries are always
+ * retained, so reading list with depth of 1 yields keys of its entries only.
+ *
+ * <p>Fields select subset of child nodes of node at requested path. Each field is slash-separated path of data node
+ * names, such as <code>interface/name</code>, relative to requested node (or to entries, if requested node is list).
+ * Names may be qualified by module name (<code>module:name</code>), only local part is matched. Choices and cases are
+ * not part of path. Selected node is retained along with all its descendants (subject to depth), its ancestors are
+ * retained only as far as needed to reach it.
+ */
+public final class ReadSelector {
+    private static final Splitter PATH_SPLITTER = Splitter.on('/').omitEmptyStrings().trimResults();
+
+    private final int depth;
+    private final @Nullable Selection fields;
+
+    private ReadSelector(int depth, @Nullable Selection fields) {
+        this.depth = depth;
+        this.fields = fields;
+    }
+
+    /**
+     * Create selector for given limits.
+     *
+     * @param depth maximum depth of returned data, null if depth is not limited
+     * @param fields list of selected fields, null or empty if all fields are selected
+     * @return {@link ReadSelector} or null if data are not limited at all
+     * @throws IllegalArgumentException if depth is not positive
+     */
+    public static @Nullable ReadSelector of(@Nullable Integer depth, @Nullable List<String> fields) {
+        final boolean allFields = fields == null || fields.isEmpty();
+        if (depth == null && allFields) {
+            return null;
+        }
+        Preconditions.checkArgument(depth == null || depth > 0, "Depth must be positive number : %s", depth);
+        return new ReadSelector(depth == null ? Integer.MAX_VALUE : depth, allFields ? null : Selection.parse(fields));
+    }
+
+    /**
+     * Apply limits to given data.
+     *
+     * @param data data read from datastore
+     * @return limited data, null if input is null
+     */
+    public @Nullable NormalizedNode apply(@Nullable NormalizedNode data) {
+        return data == null ? null : select(data, 1, fields);
+    }
+
+    /*
+     * Select descendants of node at given level. Level of mixin node (list, choice) is level of its entries.
+     */
+    private NormalizedNode select(NormalizedNode node, int level, @Nullable Selection selection) {
+        if (node instanceof ContainerNode container) {
+            return copyChildren(container, ImmutableNodes.newContainerBuilder().withNodeIdentifier(container.name()),
+                    level, selection, Set.of());
+        }
+        if (node instanceof MapEntryNode entry) {
+            return copyChildren(entry, ImmutableNodes.newMapEntryBuilder().withNodeIdentifier(entry.name()), level,
+                    selection, entry.name().keySet());
+        }
+        if (node instanceof UnkeyedListEntryNode entry) {
+            return copyChildren(entry,
+                    ImmutableNodes.newUnkeyedListEntryBuilder().withNodeIdentifier(entry.name()), level, selection,
+                    Set.of());
+        }
+        if (node instanceof ChoiceNode choice) {
+            return copyChildren(choice, ImmutableNodes.newChoiceBuilder().withNodeIdentifier(choice.name()),
+                    level - 1, selection, Set.of());
+        }
+        if (node instanceof SystemMapNode map) {
+            final var builder = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(map.name());
+            map.body().forEach(entry -> builder.withChild((MapEntryNode) select(entry, level, selection)));
+            return builder.build();
+        }
+        if (node instanceof UserMapNode map) {
+            final var builder = ImmutableNodes.newUserMapBuilder().withNodeIdentifier(map.name());
+            map.body().forEach(entry -> builder.withChild((MapEntryNode) select(entry, level, selection)));
+            return builder.build();
+        }
+        if (node instanceof UnkeyedListNode list) {
+            final var builder = ImmutableNodes.newUnkeyedListBuilder().withNodeIdentifier(list.name());
+            list.body().forEach(entry -> builder.withChild((UnkeyedListEntryNode) select(entry, level, selection)));
+            return builder.build();
+        }
+        // leaf, leaf-list, anydata and anyxml are returned whole
+        return node;
+    }
+
+    private <T extends DataContainerNode> T copyChildren(DataContainerNode parent,
+            DataContainerNodeBuilder<?, T> builder, int level, @Nullable Selection selection, Set<QName> keys) {
+        for (DataContainerChild child : parent.body()) {
+            final QName name = child.name().getNodeType();
+            if (keys.contains(name)) {
+                builder.withChild(child);
+                continue;
+            }
+            if (child instanceof ChoiceNode choiceChild) {
+                // choice is not data node, so its children are at same level as its siblings
+                final ChoiceNode choice = copyChildren(choiceChild,
+                        ImmutableNodes.newChoiceBuilder().withNodeIdentifier(choiceChild.name()), level, selection,
+                        Set.of());
+                if (!choice.isEmpty()) {
+                    builder.withChild(choice);
+                }
+                continue;
+            }
+            if (level >= depth) {
+                continue;
+            }
+            final Selection childSelection;
+            if (selection != null) {
+                if (!selection.children.containsKey(name.getLocalName())) {
+                    continue;
+                }
+                childSelection = selection.children.get(name.getLocalName());
+            } else {
+                childSelection = null;
+            }
+            final NormalizedNode selected = select(child, level + 1, childSelection);
+            // ancestor of selected node which does not contain it
+            if (childSelection != null && selected instanceof NormalizedNodeContainer<?> container
+                    && container.isEmpty()) {
+                continue;
+            }
+            builder.withChild((DataContainerChild) selected);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "ReadSelector [depth=" + (depth == Integer.MAX_VALUE ? "unbounded" : depth) + ", fields=" + fields
+                + "]";
+    }
+
+    /*
+     * Tree of selected node names. Null value of child means that child is selected as whole.
+     */
+    private static final class Selection {
+        private final Map<String, Selection> children = new HashMap<>();
+
+        static Selection parse(List<String> fields) {
+            final Selection root = new Selection();
+            for (String field : fields) {
+                final List<String> names = PATH_SPLITTER.splitToList(field);
+                Preconditions.checkArgument(!names.isEmpty(), "Invalid field : '%s'", field);
+                Selection current = root;
+                for (int i = 0; i < names.size(); i++) {
+                    final String name = localName(names.get(i));
+                    if (i == names.size() - 1) {
+                        current.children.put(name, null);
+                    } else if (current.children.containsKey(name)) {
+                        current = current.children.get(name);
+                        if (current == null) {
+                            // ancestor is selected as whole already
+                            break;
+                        }
+                    } else {
+                        final Selection next = new Selection();
+                        current.children.put(name, next);
+                        current = next;
+                    }
+                }
+            }
+            return root;
+        }
+
+        private static String localName(String name) {
+            final int idx = name.indexOf(':');
+            return idx == -1 ? name : name.substring(idx + 1);
+        }
+
+        @Override
+        public String toString() {
+            return children.toString();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static org.opendaylight.jsonrpc.provider.common.Util.findNode;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
@@ -21,12 +22,17 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.model.AddListenerArgument;
+import org.opendaylight.jsonrpc.model.BatchArgument;
 import org.opendaylight.jsonrpc.model.DataOperationArgument;
 import org.opendaylight.jsonrpc.model.DeleteListenerArgument;
 import org.opendaylight.jsonrpc.model.ListenerKey;
+import org.opendaylight.jsonrpc.model.ReadManyArgument;
+import org.opendaylight.jsonrpc.model.ReadPageArgument;
+import org.opendaylight.jsonrpc.model.ReadPageResult;
 import org.opendaylight.jsonrpc.model.RemoteControlComposite;
 import org.opendaylight.jsonrpc.model.StoreOperationArgument;
 import org.opendaylight.jsonrpc.model.TxArgument;
@@ -36,6 +42,7 @@ import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.config.PagedRead;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
@@ -53,11 +60,19 @@ public class RemoteControl implements RemoteControlComposite {
     public RemoteControl(@NonNull final DOMDataBroker domDataBroker, @NonNull final EffectiveModelContext schemaContext,
             @NonNull TransportFactory transportFactory, @NonNull final DOMNotificationPublishService publishService,
             @NonNull final DOMRpcService rpcService, @NonNull JsonRpcCodecFactory codecFactory) {
+        this(domDataBroker, schemaContext, transportFactory, publishService, rpcService, codecFactory, null);
+    }
+
+    public RemoteControl(@NonNull final DOMDataBroker domDataBroker, @NonNull final EffectiveModelContext schemaContext,
+            @NonNull TransportFactory transportFactory, @NonNull final DOMNotificationPublishService publishService,
+            @NonNull final DOMRpcService rpcService, @NonNull JsonRpcCodecFactory codecFactory,
+            @Nullable PagedRead pagedRead) {
         this.schemaContext = Objects.requireNonNull(schemaContext);
         this.codecFactory = Objects.requireNonNull(codecFactory);
         this.publishService = Objects.requireNonNull(publishService);
         this.rpcService = Objects.requireNonNull(rpcService);
-        this.datastore = new JsonRpcDatastoreAdapter(codecFactory, domDataBroker, schemaContext, transportFactory);
+        this.datastore = new JsonRpcDatastoreAdapter(codecFactory, domDataBroker, schemaContext, transportFactory,
+                pagedRead);
     }
 
     @VisibleForTesting
@@ -70,6 +85,16 @@ public class RemoteControl implements RemoteControlComposite {
         return datastore.read(arg);
     }
 
+    @Override
+    public JsonArray readMany(ReadManyArgument arg) {
+        return datastore.readMany(arg);
+    }
+
+    @Override
+    public ReadPageResult readPage(ReadPageArgument arg) {
+        return datastore.readPage(arg);
+    }
+
     @Override
     public void put(DataOperationArgument arg) {
         datastore.put(arg);
@@ -90,6 +115,11 @@ public class RemoteControl implements RemoteControlComposite {
         datastore.delete(arg);
     }
 
+    @Override
+    public boolean batch(BatchArgument arg) {
+        return datastore.batch(arg);
+    }
+
     @Override
     public String txid() {
         return datastore.txid();
@@ -33,6 +33,7 @@ import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.Config;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.config.PagedRead;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
@@ -57,6 +58,7 @@ public final class RemoteControlProvider
     private final ProviderDependencies dependencies;
     private final JsonRpcCodecFactory codecFactory;
     private String remoteControlUri;
+    private PagedRead pagedRead;
     private String governanceRootUri;
     private RemoteGovernance governance;
     private ResponderSession remoteControl;
@@ -122,17 +124,18 @@ public final class RemoteControlProvider
     private void reconfigureServices(Config config) {
         try {
             resetGovernance(config.getGovernanceRoot());
-            resetRemoteControl(config.getWhoAmI());
+            resetRemoteControl(config.getWhoAmI(), config.getPagedRead());
         } catch (URISyntaxException e) {
             LOG.error("Invalid URI was specified", e);
         }
     }
 
-    private boolean resetRemoteControl(Uri whoAmI) throws URISyntaxException {
+    private boolean resetRemoteControl(Uri whoAmI, PagedRead newPagedRead) throws URISyntaxException {
         if (whoAmI != null) {
-            if (!whoAmI.getValue().equals(remoteControlUri)) {
+            if (!whoAmI.getValue().equals(remoteControlUri) || !Objects.equals(newPagedRead, pagedRead)) {
                 stopRemoteControl();
                 remoteControlUri = whoAmI.getValue();
+                pagedRead = newPagedRead;
                 LOG.debug("Exposing remote control at {}", whoAmI);
                 remoteControl = dependencies.getTransportFactory()
                         .endpointBuilder()
@@ -140,7 +143,7 @@ public final class RemoteControlProvider
                         .create(whoAmI.getValue(), new RemoteControl(dependencies.getDomDataBroker(),
                                 dependencies.getSchemaService().getGlobalContext(), dependencies.getTransportFactory(),
                                 dependencies.getDomNotificationPublishService(), dependencies.getDomRpcService(),
-                                codecFactory));
+                                codecFactory, pagedRead));
             }
         } else {
             remoteControl = null;
@@ -171,6 +174,7 @@ public final class RemoteControlProvider
         Util.closeAndLogOnError(remoteControl);
         remoteControl = null;
         remoteControlUri = null;
+        pagedRead = null;
     }
 
     private void stopGovernance() {
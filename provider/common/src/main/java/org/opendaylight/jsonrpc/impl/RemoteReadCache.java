@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.gson.JsonElement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.jsonrpc.provider.common.MaintenanceExecutor;
+import org.opendaylight.jsonrpc.provider.common.Util;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of data read from remote peer, keyed by datastore and path. Size of cache is limited by memory budget, least
+ * recently used entries are evicted first, and entries older than maximum age are never served. Entry is cached only
+ * while data change subscription covering its top-level subtree is connected to remote peer, every change reported by
+ * subscription invalidates all overlapping entries. Whole subtree is invalidated whenever connection of subscription
+ * is lost or (re)established, as changes which happened in between were not reported.
+ */
+final class RemoteReadCache implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteReadCache.class);
+    /** Generation returned for data which must not be cached. */
+    static final long NOT_CACHED = -1L;
+    /** Connection epoch of subscription which is not connected. */
+    static final long NOT_CONNECTED = -1L;
+    // rough estimate of memory used by single JSON element and by cache entry itself
+    private static final int ELEMENT_OVERHEAD = 32;
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final String name;
+    private final SubscriptionFactory subscriptionFactory;
+    private final Cache<DOMDataTreeIdentifier, CachedData> cache;
+    // guarded by this, incremented by every invalidation so that data read before it are not cached
+    private long generation;
+    // guarded by this, keys of cached entries indexed by their top-level subtree, so that invalidation does not need
+    // to scan whole cache
+    private final Map<DOMDataTreeIdentifier, Set<DOMDataTreeIdentifier>> keysBySubtree = new HashMap<>();
+    // guarded by subscriptions
+    private final Map<DOMDataTreeIdentifier, SubtreeState> subscriptions = new HashMap<>();
+    private final Set<DOMDataTreeIdentifier> unavailable = new HashSet<>();
+    private boolean closed;
+    private final @Nullable ScheduledFuture<?> statsFuture;
+    // guarded by this, statistics reported by last call of logStats()
+    private CacheStats loggedStats = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Create cache.
+     *
+     * @param name name of peer, used in log messages
+     * @param maxMemory estimated memory budget in bytes
+     * @param maxAgeSeconds maximum age of served data
+     * @param statsIntervalSeconds interval of logging cache statistics, 0 disables logging
+     * @param subscriptionFactory used to subscribe to changes of cached subtrees
+     */
+    RemoteReadCache(String name, long maxMemory, long maxAgeSeconds, long statsIntervalSeconds,
+            SubscriptionFactory subscriptionFactory) {
+        this(name, maxMemory, maxAgeSeconds, statsIntervalSeconds, subscriptionFactory, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    RemoteReadCache(String name, long maxMemory, long maxAgeSeconds, SubscriptionFactory subscriptionFactory,
+            Ticker ticker) {
+        this(name, maxMemory, maxAgeSeconds, 0, subscriptionFactory, ticker);
+    }
+
+    private RemoteReadCache(String name, long maxMemory, long maxAgeSeconds, long statsIntervalSeconds,
+            SubscriptionFactory subscriptionFactory, Ticker ticker) {
+        this.name = Objects.requireNonNull(name);
+        this.subscriptionFactory = Objects.requireNonNull(subscriptionFactory);
+        cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxMemory)
+                .<DOMDataTreeIdentifier, CachedData>weigher((key, value) -> value.weight)
+                .expireAfterWrite(maxAgeSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+        statsFuture = statsIntervalSeconds > 0 ? MaintenanceExecutor.shared()
+                .scheduleWithFixedDelay(this::logStats, statsIntervalSeconds, statsIntervalSeconds, TimeUnit.SECONDS)
+                : null;
+    }
+
+    /**
+     * Get cached data.
+     *
+     * @param id datastore and path of data
+     * @return cached data or null if there is no cache entry for given path
+     */
+    @Nullable Optional<NormalizedNode> getIfPresent(DOMDataTreeIdentifier id) {
+        final DOMDataTreeIdentifier subtree = subtreeOf(id);
+        if (subtree == null || !checkConnected(subtree, false)) {
+            return null;
+        }
+        final CachedData entry = cache.getIfPresent(id);
+        return entry == null ? null : entry.data;
+    }
+
+    /**
+     * Prepare for remote read of data which are going to be cached. This must be called before data are read from
+     * remote peer, so that any change which happens in between is not missed.
+     *
+     * @param id datastore and path of data
+     * @return generation to be passed to {@link #put(DOMDataTreeIdentifier, Optional, JsonElement, long)} or
+     *         {@link #NOT_CACHED} if data can't be cached
+     */
+    long beginRead(DOMDataTreeIdentifier id) {
+        final DOMDataTreeIdentifier subtree = subtreeOf(id);
+        if (subtree == null || !checkConnected(subtree, true)) {
+            return NOT_CACHED;
+        }
+        synchronized (this) {
+            return generation;
+        }
+    }
+
+    /**
+     * Store data read from remote peer. Data are not cached if any invalidation happened since
+     * {@link #beginRead(DOMDataTreeIdentifier)}, as they might be stale already.
+     *
+     * @param id datastore and path of data
+     * @param data decoded data
+     * @param raw data as received from remote peer, used to estimate memory usage
+     * @param readGeneration value returned by {@link #beginRead(DOMDataTreeIdentifier)}
+     */
+    void put(DOMDataTreeIdentifier id, Optional<NormalizedNode> data, @Nullable JsonElement raw,
+            long readGeneration) {
+        if (readGeneration == NOT_CACHED) {
+            return;
+        }
+        final CachedData entry = new CachedData(data, ENTRY_OVERHEAD + (long) estimateSize(raw));
+        synchronized (this) {
+            if (readGeneration == generation) {
+                keysBySubtree.computeIfAbsent(subtreeOf(id), k -> new HashSet<>()).add(id);
+                cache.put(id, entry);
+            }
+        }
+    }
+
+    /**
+     * Invalidate all entries which overlap with given path, that is entries of its parents and children.
+     *
+     * @param id datastore and path of changed data
+     */
+    void invalidate(DOMDataTreeIdentifier id) {
+        LOG.trace("[{}] Invalidating {}", name, id);
+        synchronized (this) {
+            generation++;
+            final List<DOMDataTreeIdentifier> keys = new ArrayList<>();
+            final DOMDataTreeIdentifier subtree = subtreeOf(id);
+            if (subtree != null) {
+                // overlapping entries always share top-level subtree
+                keys.addAll(keysBySubtree.getOrDefault(subtree, Set.of()));
+            } else {
+                keysBySubtree.forEach((key, value) -> {
+                    if (key.datastore() == id.datastore()) {
+                        keys.addAll(value);
+                    }
+                });
+            }
+            keys.removeIf(key -> !key.contains(id) && !id.contains(key));
+            cache.invalidateAll(keys);
+        }
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    long size() {
+        return cache.size();
+    }
+
+    /**
+     * Log statistics of cache usage since previous call, unless cache was not used in the meantime.
+     *
+     * @return logged statistics
+     */
+    @VisibleForTesting
+    synchronized CacheStats logStats() {
+        final CacheStats current = cache.stats();
+        final CacheStats delta = current.minus(loggedStats);
+        loggedStats = current;
+        if (delta.requestCount() > 0 || delta.evictionCount() > 0) {
+            LOG.info("[{}] Read cache has {} entries, {} hits, {} misses (hit rate {}), {} evictions since last report",
+                    name, cache.size(), delta.hitCount(), delta.missCount(),
+                    String.format("%.2f", delta.hitRate()), delta.evictionCount());
+        }
+        return delta;
+    }
+
+    /*
+     * Keeps index of keys in sync with cache. Entry might have been cached again by the time this is called, in which
+     * case its key stays indexed.
+     */
+    private synchronized void onRemoval(RemovalNotification<DOMDataTreeIdentifier, CachedData> notification) {
+        final DOMDataTreeIdentifier key = notification.getKey();
+        if (notification.getCause() == RemovalCause.REPLACED || key == null || cache.asMap().containsKey(key)) {
+            return;
+        }
+        final DOMDataTreeIdentifier subtree = subtreeOf(key);
+        final Set<DOMDataTreeIdentifier> keys = keysBySubtree.get(subtree);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysBySubtree.remove(subtree);
+        }
+    }
+
+    /*
+     * Check that subscription of given top-level subtree is connected, optionally registering it on first use.
+     * Subtree is invalidated whenever connection epoch of subscription changes, so entries cached during previous
+     * connection are never served.
+     */
+    private boolean checkConnected(DOMDataTreeIdentifier subtree, boolean register) {
+        synchronized (subscriptions) {
+            if (closed) {
+                return false;
+            }
+            SubtreeState state = subscriptions.get(subtree);
+            if (state == null) {
+                if (!register || (state = subscribe(subtree)) == null) {
+                    return false;
+                }
+            }
+            final long epoch = state.subscription.connectionEpoch();
+            if (epoch != state.epoch) {
+                LOG.debug("[{}] Connection epoch of subscription to {} changed from {} to {}", name, subtree,
+                        state.epoch, epoch);
+                state.epoch = epoch;
+                invalidate(subtree);
+            }
+            return epoch != NOT_CONNECTED;
+        }
+    }
+
+    /*
+     * Register subscription of given top-level subtree, caller must hold lock of subscriptions.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private @Nullable SubtreeState subscribe(DOMDataTreeIdentifier subtree) {
+        if (unavailable.contains(subtree)) {
+            return null;
+        }
+        try {
+            final SubtreeState state = new SubtreeState(
+                    subscriptionFactory.subscribe(subtree, new Invalidator(subtree)));
+            subscriptions.put(subtree, state);
+            LOG.debug("[{}] Subscribed to changes of {}", name, subtree);
+            return state;
+        } catch (RuntimeException e) {
+            LOG.warn("[{}] Unable to subscribe to changes of {}, data will not be cached", name, subtree, e);
+            unavailable.add(subtree);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        final List<Registration> toClose = new ArrayList<>();
+        synchronized (subscriptions) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriptions.values().forEach(state -> toClose.add(state.subscription));
+            subscriptions.clear();
+        }
+        if (statsFuture != null) {
+            statsFuture.cancel(false);
+        }
+        toClose.forEach(Util::closeAndLogOnError);
+        LOG.info("[{}] Read cache closed, {}", name, stats());
+        cache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteReadCache [name=" + name + ", size=" + cache.size() + ", stats=" + cache.stats() + "]";
+    }
+
+    /*
+     * Top-level subtree of given path, null for root of datastore.
+     */
+    private static @Nullable DOMDataTreeIdentifier subtreeOf(DOMDataTreeIdentifier id) {
+        return id.path().isEmpty() ? null : DOMDataTreeIdentifier.of(id.datastore(), id.path().getAncestor(1));
+    }
+
+    /*
+     * Rough estimate of memory needed to hold decoded data, based on size of their JSON representation.
+     */
+    private static int estimateSize(@Nullable JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return 0;
+        }
+        long size = ELEMENT_OVERHEAD;
+        if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                size += 2L * entry.getKey().length() + estimateSize(entry.getValue());
+            }
+        } else if (element.isJsonArray()) {
+            for (JsonElement item : element.getAsJsonArray()) {
+                size += estimateSize(item);
+            }
+        } else {
+            size += 2L * element.getAsString().length();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /**
+     * Data change subscription of subtree, which also reports state of its connection to remote peer.
+     */
+    interface Subscription extends Registration {
+        /**
+         * Get epoch of connection of this subscription. Epoch changes every time connection is (re)established, so
+         * any change of it means that changes reported by remote peer might have been missed.
+         *
+         * @return current connection epoch or {@link RemoteReadCache#NOT_CONNECTED} if subscription is not connected
+         */
+        long connectionEpoch();
+    }
+
+    /**
+     * Factory of data change subscriptions.
+     */
+    @FunctionalInterface
+    interface SubscriptionFactory {
+        /**
+         * Subscribe to changes of given subtree.
+         *
+         * @param subtree datastore and path of subtree
+         * @param listener listener to notify about changes
+         * @return {@link Subscription} which is closed once changes are no longer needed
+         */
+        Subscription subscribe(DOMDataTreeIdentifier subtree, DOMDataTreeChangeListener listener);
+    }
+
+    private static final class SubtreeState {
+        private final Subscription subscription;
+        // connection epoch during which entries of subtree were cached
+        private long epoch = NOT_CONNECTED;
+
+        SubtreeState(Subscription subscription) {
+            this.subscription = Objects.requireNonNull(subscription);
+        }
+    }
+
+    private static final class CachedData {
+        private final Optional<NormalizedNode> data;
+        private final int weight;
+
+        CachedData(Optional<NormalizedNode> data, long weight) {
+            this.data = data;
+            this.weight = (int) Math.min(Integer.MAX_VALUE, weight);
+        }
+    }
+
+    private final class Invalidator implements DOMDataTreeChangeListener {
+        private final DOMDataTreeIdentifier subtree;
+
+        Invalidator(DOMDataTreeIdentifier subtree) {
+            this.subtree = subtree;
+        }
+
+        @Override
+        public void onDataTreeChanged(List<DataTreeCandidate> changes) {
+            if (changes.isEmpty()) {
+                // change which could not be decoded, so whole subtree is considered stale
+                invalidate(subtree);
+                return;
+            }
+            for (DataTreeCandidate change : changes) {
+                invalidate(DOMDataTreeIdentifier.of(subtree.datastore(), change.getRootPath()));
+            }
+        }
+
+        @Override
+        public void onInitialData() {
+            // subscription was (re)established, so changes might have been missed in between
+            invalidate(subtree);
+        }
+    }
+}
@@ -8,7 +8,7 @@
 package org.opendaylight.jsonrpc.impl;
 
 import com.google.gson.JsonElement;
-import java.net.URISyntaxException;
+import java.util.Objects;
 import java.util.function.Supplier;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
@@ -16,7 +16,9 @@ import org.opendaylight.jsonrpc.hmap.DataType;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
 import org.opendaylight.jsonrpc.model.RemoteOmShard;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.Peer;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
@@ -31,17 +33,36 @@ abstract class RemoteShardAware extends AbstractJsonRPCComponent implements Auto
             + "for store '%s'at path '%s'.Make sure that requested path is within configured data endpoints "
             + "or governance is aware of such path.";
 
+    protected final RemoteShardClients shardClients;
+    protected final EndpointCache endpointCache;
+    private final boolean ownsShardClients;
+
     RemoteShardAware(EffectiveModelContext schemaContext, TransportFactory transportFactory,
             HierarchicalEnumMap<JsonElement, DataType, String> pathMap, JsonRpcCodecFactory codecFactory, Peer peer) {
         super(schemaContext, transportFactory, pathMap, codecFactory, peer);
+        this.shardClients = new RemoteShardClients(transportFactory);
+        this.endpointCache = new EndpointCache(pathMap);
+        this.ownsShardClients = true;
+    }
+
+    RemoteShardAware(EffectiveModelContext schemaContext, TransportFactory transportFactory,
+            HierarchicalEnumMap<JsonElement, DataType, String> pathMap, JsonRpcCodecFactory codecFactory, Peer peer,
+            RemoteShardClients shardClients, EndpointCache endpointCache) {
+        super(schemaContext, transportFactory, pathMap, codecFactory, peer);
+        this.shardClients = Objects.requireNonNull(shardClients);
+        this.endpointCache = Objects.requireNonNull(endpointCache);
+        this.ownsShardClients = false;
     }
 
+    /**
+     * Get shared {@link RemoteOmShard} client for given endpoint. Client is owned by {@link RemoteShardClients} and
+     * must not be closed by caller.
+     *
+     * @param endpoint endpoint URI
+     * @return shared client
+     */
     protected RemoteOmShard getShard(String endpoint) {
-        try {
-            return transportFactory.endpointBuilder().requester().createProxy(RemoteOmShard.class, endpoint);
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException(e);
-        }
+        return shardClients.get(endpoint);
     }
 
     protected RemoteOmShard getShard(final LogicalDatastoreType store, final JsonElement path) {
@@ -52,6 +73,19 @@ abstract class RemoteShardAware extends AbstractJsonRPCComponent implements Auto
         return pathMap.lookup(path, DataType.forDatastore(store)).orElseThrow(shardNotAvailable(store, path));
     }
 
+    /**
+     * Get endpoint mapped to given store and path. Endpoints are cached per peer, so path is encoded and looked up in
+     * path map only once.
+     *
+     * @param store datastore
+     * @param path path within datastore
+     * @return endpoint URI
+     */
+    protected String lookupEndPoint(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        return endpointCache.get(DOMDataTreeIdentifier.of(store, path),
+                id -> lookupEndPoint(store, codecFactory.pathCodec().serialize(path)));
+    }
+
     /**
      * Provide human readable error when mapping for requested datastore/path does not exists.
      *
@@ -66,6 +100,8 @@ abstract class RemoteShardAware extends AbstractJsonRPCComponent implements Auto
 
     @Override
     public void close() {
-        // NOOP
+        if (ownsShardClients) {
+            shardClients.close();
+        }
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import com.google.common.base.Preconditions;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
+import org.opendaylight.jsonrpc.model.RemoteOmShard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived, reference-counted {@link RemoteOmShard} clients of single peer, one per endpoint URI. Registry itself
+ * holds one reference of every client it creates, additional references are taken by users which need client to
+ * survive closing of registry (such as transaction in progress when peer is unmounted). Client is closed once last
+ * reference is released.
+ */
+final class RemoteShardClients implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteShardClients.class);
+    private final TransportFactory transportFactory;
+    // guarded by this
+    private final Map<String, SharedClient> clients = new HashMap<>();
+    private boolean closed;
+
+    RemoteShardClients(TransportFactory transportFactory) {
+        this.transportFactory = Objects.requireNonNull(transportFactory);
+    }
+
+    /**
+     * Get shared client for given endpoint, creating it on first use. Returned client must not be closed by caller.
+     *
+     * @param endpoint endpoint URI
+     * @return shared {@link RemoteOmShard} client
+     */
+    RemoteOmShard get(String endpoint) {
+        return client(endpoint).shard;
+    }
+
+    /**
+     * Get shared client for given endpoint and take additional reference of it. Reference must be released using
+     * {@link SharedClient#release()}.
+     *
+     * @param endpoint endpoint URI
+     * @return {@link SharedClient} with reference taken
+     */
+    SharedClient acquire(String endpoint) {
+        synchronized (this) {
+            final SharedClient client = client(endpoint);
+            client.retain();
+            return client;
+        }
+    }
+
+    /**
+     * Get shared client for given endpoint, creating it on first use. Unlike {@link #acquire(String)}, no reference is
+     * taken.
+     *
+     * @param endpoint endpoint URI
+     * @return {@link SharedClient}
+     */
+    synchronized SharedClient client(String endpoint) {
+        Preconditions.checkState(!closed, "Remote shard clients are closed already");
+        return clients.computeIfAbsent(endpoint, this::createClient);
+    }
+
+    private SharedClient createClient(String endpoint) {
+        LOG.debug("Creating shared client for {}", endpoint);
+        try {
+            return new SharedClient(endpoint,
+                    transportFactory.endpointBuilder().requester().createProxy(RemoteOmShard.class, endpoint));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        final List<SharedClient> toRelease;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toRelease = List.copyOf(clients.values());
+            clients.clear();
+        }
+        toRelease.forEach(SharedClient::release);
+    }
+
+    /**
+     * {@link RemoteOmShard} client shared by all users of single endpoint.
+     */
+    static final class SharedClient {
+        private final String endpoint;
+        private final RemoteOmShard shard;
+        // guarded by this, registry holds initial reference
+        private int refCount = 1;
+        // cleared once endpoint replies that it does not implement batch method
+        private volatile boolean batchSupported = true;
+        // cleared once endpoint replies that it does not implement readMany method
+        private volatile boolean readManySupported = true;
+
+        private SharedClient(String endpoint, RemoteOmShard shard) {
+            this.endpoint = endpoint;
+            this.shard = shard;
+        }
+
+        RemoteOmShard shard() {
+            return shard;
+        }
+
+        boolean isBatchSupported() {
+            return batchSupported;
+        }
+
+        void batchNotSupported() {
+            batchSupported = false;
+        }
+
+        boolean isReadManySupported() {
+            return readManySupported;
+        }
+
+        void readManyNotSupported() {
+            readManySupported = false;
+        }
+
+        private synchronized void retain() {
+            Preconditions.checkState(refCount > 0, "Client for %s is closed already", endpoint);
+            refCount++;
+        }
+
+        void release() {
+            synchronized (this) {
+                Preconditions.checkState(refCount > 0, "Client for %s is released already", endpoint);
+                if (--refCount > 0) {
+                    return;
+                }
+            }
+            LOG.debug("Closing shared client for {}", endpoint);
+            shard.close();
+        }
+
+        @Override
+        public String toString() {
+            return "SharedClient [endpoint=" + endpoint + "]";
+        }
+    }
+}
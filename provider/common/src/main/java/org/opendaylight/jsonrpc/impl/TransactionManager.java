@@ -7,47 +7,96 @@
  */
 package org.opendaylight.jsonrpc.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.opendaylight.jsonrpc.model.TransactionFactory;
+import org.opendaylight.jsonrpc.provider.common.MaintenanceExecutor;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Helper to deal with transaction lifecycle.
  *
+ * <p>Transactions are kept in table until they are successfully committed or cancelled. Transactions which failed to
+ * commit are retained so that their errors can be queried. Any transaction which is not accessed for
+ * {@link #IDLE_TRX_TTL} milliseconds (failed, abandoned or just idle one) is expired, pending modifications of expired
+ * transaction are cancelled. Table keeps entries in access order, so expiry is amortized over table operations and
+ * does not require scan of whole table. Expiry is also run periodically on {@link MaintenanceExecutor}, so that
+ * abandoned transactions are cancelled even if table is not used anymore, and number of open transactions along with
+ * age of oldest one are logged while there are any.
+ *
+ * <p>Allocated transaction IDs are formatted as UUID, composed of random prefix chosen when manager is created and
+ * sequence number, so they are unique without need to draw from secure random generator on each allocation.
+ *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since Mar 2, 2020
  */
 public class TransactionManager implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionManager.class);
+    private static final long IDLE_TRX_TTL = 900000; // 15 minutes
+    private static final long CLEANUP_INTERVAL = 60; // seconds
+    private static final long STATS_INTERVAL = 300; // seconds
     private final TransactionFactory txFactory;
-    private static final long FAIL_TRX_TTL = 900000; // 15 minutes
-
-    private LoadingCache<String, DataModificationContext> txLoader = CacheBuilder.newBuilder()
-            .build(new CacheLoader<String, DataModificationContext>() {
-                @Override
-                public DataModificationContext load(String key) throws Exception {
-                    return new DataModificationContext(txFactory);
-                }
-            });
+    private final long idPrefix = ThreadLocalRandom.current().nextLong();
+    private final AtomicLong idSequence = new AtomicLong();
+    private final LoadingCache<String, DataModificationContext> txLoader;
+    private final ScheduledFuture<?> cleanupFuture;
+    private final ScheduledFuture<?> statsFuture;
 
     public TransactionManager(final DOMDataBroker dataBroker, final EffectiveModelContext schemaContext) {
-        txFactory = new EnsureParentTransactionFactory(dataBroker, schemaContext);
+        this(new EnsureParentTransactionFactory(dataBroker, schemaContext), Ticker.systemTicker(), true);
+    }
+
+    @VisibleForTesting
+    TransactionManager(final TransactionFactory txFactory, final Ticker ticker) {
+        this(txFactory, ticker, false);
+    }
+
+    private TransactionManager(final TransactionFactory txFactory, final Ticker ticker, final boolean schedule) {
+        this.txFactory = txFactory;
+        txLoader = CacheBuilder.newBuilder()
+                .expireAfterAccess(IDLE_TRX_TTL, TimeUnit.MILLISECONDS)
+                .ticker(ticker)
+                .removalListener(TransactionManager::onRemoval)
+                .build(new CacheLoader<String, DataModificationContext>() {
+                    @Override
+                    public DataModificationContext load(String key) throws Exception {
+                        return new DataModificationContext(txFactory);
+                    }
+                });
+        if (schedule) {
+            cleanupFuture = MaintenanceExecutor.shared().scheduleWithFixedDelay(this::cleanUp, CLEANUP_INTERVAL,
+                    CLEANUP_INTERVAL, TimeUnit.SECONDS);
+            statsFuture = MaintenanceExecutor.shared().scheduleWithFixedDelay(this::logStats, STATS_INTERVAL,
+                    STATS_INTERVAL, TimeUnit.SECONDS);
+        } else {
+            cleanupFuture = null;
+            statsFuture = null;
+        }
     }
 
     public Entry<String, DataModificationContext> allocate(String id) {
-        evictFailedTrx();
-        final String txid = Optional.ofNullable(id).orElse(UUID.randomUUID().toString());
+        final String txid = id != null ? id : new UUID(idPrefix, idSequence.incrementAndGet()).toString();
         return new AbstractMap.SimpleEntry<>(txid, txLoader.getUnchecked(txid));
     }
 
@@ -67,18 +116,60 @@ public class TransactionManager implements AutoCloseable {
         return ctx.getErrors().stream().map(TransactionManager::serializeError).collect(Collectors.toList());
     }
 
-    private void evictFailedTrx() {
-        txLoader.asMap().entrySet().removeIf(TransactionManager::removeFailedTrxPredicate);
+    /**
+     * Get number of transactions in table, including failed ones which were not expired yet.
+     *
+     * @return number of transactions
+     */
+    public long size() {
+        txLoader.cleanUp();
+        return txLoader.size();
     }
 
-    private static boolean removeFailedTrxPredicate(Entry<String, DataModificationContext> entry) {
-        return !entry.getValue().isSuccess()
-                && entry.getValue().getCompletionTimestamp() + FAIL_TRX_TTL > System.currentTimeMillis();
+    /**
+     * Get age of oldest transaction in table. This requires iteration over table, so it is meant for diagnostic
+     * purposes only.
+     *
+     * @return age of oldest transaction in milliseconds, 0 if table is empty
+     */
+    public long oldestAge() {
+        final long now = System.currentTimeMillis();
+        return txLoader.asMap()
+                .values()
+                .stream()
+                .mapToLong(ctx -> now - ctx.getCreationTimestamp())
+                .max()
+                .orElse(0L);
+    }
+
+    /**
+     * Expire transactions which were not accessed for too long.
+     */
+    @VisibleForTesting
+    void cleanUp() {
+        txLoader.cleanUp();
+    }
+
+    private void logStats() {
+        final long size = size();
+        if (size > 0) {
+            LOG.info("{} open transactions, oldest was created {} ms ago", size, oldestAge());
+        }
+    }
+
+    private static void onRemoval(RemovalNotification<String, DataModificationContext> notification) {
+        if (notification.getCause() == RemovalCause.EXPIRED) {
+            final DataModificationContext ctx = notification.getValue();
+            LOG.debug("Transaction {} expired : {}", notification.getKey(), ctx);
+            if (ctx != null && !ctx.isCompleted()) {
+                ctx.cancel();
+            }
+        }
     }
 
     private boolean removeUponSuccess(String id, Predicate<DataModificationContext> mapper) {
         if (Optional.ofNullable(txLoader.asMap().get(id)).map(mapper::test).orElse(false)) {
-            txLoader.asMap().remove(id);
+            txLoader.invalidate(id);
             return true;
         }
         return false;
@@ -90,7 +181,11 @@ public class TransactionManager implements AutoCloseable {
 
     @Override
     public void close() {
+        if (cleanupFuture != null) {
+            cleanupFuture.cancel(false);
+            statsFuture.cancel(false);
+        }
         txLoader.asMap().values().forEach(DataModificationContext::cancel);
-        txLoader.asMap().clear();
+        txLoader.invalidateAll();
     }
 }
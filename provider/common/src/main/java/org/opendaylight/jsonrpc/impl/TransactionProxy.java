@@ -28,7 +28,7 @@ import org.slf4j.LoggerFactory;
  */
 public final class TransactionProxy implements InvocationHandler {
     private static final Logger LOG = LoggerFactory.getLogger(TransactionProxy.class);
-    private static final Set<String> READ_METHODS = ImmutableSet.of("read", "exists");
+    private static final Set<String> READ_METHODS = ImmutableSet.of("read", "readPages", "exists");
     private final JsonRpcTransactionFacade delegate;
 
     private TransactionProxy(JsonRpcTransactionFacade delegate) {
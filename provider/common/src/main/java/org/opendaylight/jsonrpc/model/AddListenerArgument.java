@@ -12,14 +12,53 @@ import java.beans.ConstructorProperties;
 
 public class AddListenerArgument extends StoreOperationArgument {
     private final String transport;
+    private final Boolean delta;
+    private final Integer coalesceWindow;
+    private final Boolean multiplex;
+    private final String subscription;
 
-    @ConstructorProperties({ "store", "entity", "path", "transport" })
     public AddListenerArgument(String store, String entity, JsonElement path, String transport) {
+        this(store, entity, path, transport, null, null, null);
+    }
+
+    public AddListenerArgument(String store, String entity, JsonElement path, String transport, Boolean delta) {
+        this(store, entity, path, transport, delta, null, null);
+    }
+
+    public AddListenerArgument(String store, String entity, JsonElement path, String transport, Boolean delta,
+            Integer coalesceWindow, Boolean multiplex) {
+        this(store, entity, path, transport, delta, coalesceWindow, multiplex, null);
+    }
+
+    @ConstructorProperties({ "store", "entity", "path", "transport", "delta", "coalesceWindow", "multiplex",
+        "subscription" })
+    public AddListenerArgument(String store, String entity, JsonElement path, String transport, Boolean delta,
+            Integer coalesceWindow, Boolean multiplex, String subscription) {
         super(store, entity, path);
         this.transport = transport;
+        this.delta = delta;
+        this.coalesceWindow = coalesceWindow;
+        this.multiplex = multiplex;
+        this.subscription = subscription;
     }
 
     public String getTransport() {
         return transport;
     }
+
+    public Boolean getDelta() {
+        return delta;
+    }
+
+    public Integer getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public Boolean getMultiplex() {
+        return multiplex;
+    }
+
+    public String getSubscription() {
+        return subscription;
+    }
 }
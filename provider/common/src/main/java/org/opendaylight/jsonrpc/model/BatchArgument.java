@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.model;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+public class BatchArgument extends TxArgument {
+    private final List<BatchOperation> operations;
+    private final Boolean commit;
+
+    @ConstructorProperties({ "txid", "operations", "commit" })
+    public BatchArgument(String txid, List<BatchOperation> operations, Boolean commit) {
+        super(txid);
+        this.operations = operations;
+        this.commit = commit;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations == null ? List.of() : operations;
+    }
+
+    public boolean isCommit() {
+        return Boolean.TRUE.equals(commit);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.model;
+
+import com.google.gson.JsonElement;
+import java.beans.ConstructorProperties;
+
+public class BatchOperation extends StoreOperationArgument {
+    public static final String PUT = "put";
+    public static final String MERGE = "merge";
+    public static final String DELETE = "delete";
+
+    private final String operation;
+    private final JsonElement data;
+
+    @ConstructorProperties({ "operation", "store", "entity", "path", "data" })
+    public BatchOperation(String operation, String store, String entity, JsonElement path, JsonElement data) {
+        super(store, entity, path);
+        this.operation = operation;
+        this.data = data;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public JsonElement getData() {
+        return data;
+    }
+}
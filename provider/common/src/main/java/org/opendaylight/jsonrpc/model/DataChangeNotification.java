@@ -21,17 +21,32 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
  */
 public class DataChangeNotification {
     private final Set<JSONRPCArg> changes;
+    private final String listener;
 
     public DataChangeNotification(Set<JSONRPCArg> changes) {
+        this(changes, null);
+    }
+
+    public DataChangeNotification(Set<JSONRPCArg> changes, String listener) {
         this.changes = Objects.requireNonNull(changes);
+        this.listener = listener;
     }
 
     public Set<JSONRPCArg> getChanges() {
         return changes;
     }
 
+    /**
+     * Name of listener which produced this notification, see {@link ListenerKey#getName()}.
+     *
+     * @return name of listener, might be null
+     */
+    public String getListener() {
+        return listener;
+    }
+
     @Override
     public String toString() {
-        return "DataChangeNotification [changes=" + getChanges() + "]";
+        return "DataChangeNotification [listener=" + listener + ", changes=" + getChanges() + "]";
     }
 }
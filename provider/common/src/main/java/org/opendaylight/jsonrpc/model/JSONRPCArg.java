@@ -10,18 +10,38 @@ package org.opendaylight.jsonrpc.model;
 import com.google.gson.JsonElement;
 
 /**
- * Holder of path + data pair.
+ * Holder of path + data pair, optionally with kind of data change it represents.
  */
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 public class JSONRPCArg {
+    public static final String WRITE = "write";
+    public static final String MERGE = "merge";
+    public static final String DELETE = "delete";
+
+    private final String operation;
     private final JsonElement path;
     private final JsonElement data;
 
     public JSONRPCArg(JsonElement path, JsonElement data) {
+        this(null, path, data);
+    }
+
+    public JSONRPCArg(String operation, JsonElement path, JsonElement data) {
+        this.operation = operation;
         this.path = path;
         this.data = data;
     }
 
+    /**
+     * Kind of data change, one of {@link #WRITE}, {@link #MERGE} or {@link #DELETE}. Null means that data represent
+     * whole subtree after change.
+     *
+     * @return kind of data change, might be null
+     */
+    public String getOperation() {
+        return operation;
+    }
+
     public JsonElement getPath() {
         return path;
     }
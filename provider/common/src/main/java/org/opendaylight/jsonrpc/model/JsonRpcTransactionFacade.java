@@ -7,9 +7,20 @@
  */
 package org.opendaylight.jsonrpc.model;
 
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.jsonrpc.impl.JsonRPCTx;
+import org.opendaylight.jsonrpc.provider.common.CallbackExecutor;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
  * Facade for {@link JsonRPCTx} to allow proxing.
@@ -25,4 +36,53 @@ public interface JsonRpcTransactionFacade extends DOMDataTreeReadWriteTransactio
      * @return {@link AutoCloseable} that can be used to remove provided listener.
      */
     AutoCloseable addCallback(TransactionListener listener);
+
+    /**
+     * Read data at given path, limited by depth and selected fields. Limits are passed to remote peer, so that data
+     * which are not needed are not transferred at all. Semantics of limits are modeled on RESTCONF 'depth' and 'fields'
+     * query parameters.
+     *
+     * @param store logical data store from which read should occur
+     * @param path path which uniquely identifies subtree which client want to read
+     * @param depth maximum depth of returned data, null if not limited
+     * @param fields slash-separated paths of selected descendants, null if all are selected
+     * @return a FluentFuture containing the result of the read
+     */
+    FluentFuture<Optional<NormalizedNode>> read(LogicalDatastoreType store, YangInstanceIdentifier path,
+            @Nullable Integer depth, @Nullable List<String> fields);
+
+    /**
+     * Read entries of keyed list at given path page by page and pass them to consumer. Only single page is held in
+     * memory at a time, so this is suitable for lists which are too large to be read at once. All pages come from same
+     * snapshot of remote data. Entries come in peer's iteration order of list, which is not necessarily order of their
+     * keys. Peer may discard cursor of read in progress to bound its memory usage, in which case returned future fails
+     * and read has to be restarted. Consumer is invoked from {@link CallbackExecutor}, never from thread which performs
+     * remote calls.
+     *
+     * @param store logical data store from which read should occur
+     * @param path path to keyed list
+     * @param pageSize maximum number of entries in single page, null for peer's default
+     * @param consumer consumer of list entries
+     * @return a FluentFuture containing number of consumed entries, completed once all pages are consumed
+     */
+    default FluentFuture<Long> readPages(LogicalDatastoreType store, YangInstanceIdentifier path,
+            @Nullable Integer pageSize, Consumer<MapEntryNode> consumer) {
+        return readPages(store, path, pageSize, CallbackExecutor.shared(), consumer);
+    }
+
+    /**
+     * Read entries of keyed list at given path page by page and pass them to consumer, which is invoked from given
+     * executor. Entries of single page are passed to consumer within single task and next page is requested only once
+     * that task completes, so consumer is never invoked concurrently. See
+     * {@link #readPages(LogicalDatastoreType, YangInstanceIdentifier, Integer, Consumer)} for details.
+     *
+     * @param store logical data store from which read should occur
+     * @param path path to keyed list
+     * @param pageSize maximum number of entries in single page, null for peer's default
+     * @param executor {@link Executor} used to invoke consumer
+     * @param consumer consumer of list entries
+     * @return a FluentFuture containing number of consumed entries, completed once all pages are consumed
+     */
+    FluentFuture<Long> readPages(LogicalDatastoreType store, YangInstanceIdentifier path, @Nullable Integer pageSize,
+            Executor executor, Consumer<MapEntryNode> consumer);
 }
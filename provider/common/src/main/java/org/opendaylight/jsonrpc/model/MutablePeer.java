@@ -20,6 +20,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.Data
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.DataOperationalEndpointsKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.NotificationEndpoints;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.NotificationEndpointsKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.ReadCache;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.RpcEndpoints;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.RpcEndpointsKey;
 import org.opendaylight.yangtools.binding.util.BindingMap;
@@ -31,6 +32,7 @@ public class MutablePeer implements Peer {
     private final List<DataConfigEndpoints> endpoints = new ArrayList<>();
     private final List<NotificationEndpoints> notificationEndpoints = new ArrayList<>();
     private final Set<YangIdentifier> models = new HashSet<>();
+    private ReadCache readCache;
 
     // Builder-friendly methods
     public MutablePeer name(String newName) {
@@ -63,6 +65,11 @@ public class MutablePeer implements Peer {
         return this;
     }
 
+    public MutablePeer readCache(ReadCache newReadCache) {
+        this.readCache = newReadCache;
+        return this;
+    }
+
     @Override
     public Class<? extends Peer> implementedInterface() {
         return MutablePeer.class;
@@ -97,4 +104,9 @@ public class MutablePeer implements Peer {
     public Map<NotificationEndpointsKey, NotificationEndpoints> getNotificationEndpoints() {
         return BindingMap.ordered(notificationEndpoints);
     }
+
+    @Override
+    public ReadCache getReadCache() {
+        return readCache;
+    }
 }
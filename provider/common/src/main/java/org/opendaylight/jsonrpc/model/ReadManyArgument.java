@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.model;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+public class ReadManyArgument {
+    private final List<StoreOperationArgument> reads;
+
+    @ConstructorProperties({ "reads" })
+    public ReadManyArgument(List<StoreOperationArgument> reads) {
+        this.reads = reads;
+    }
+
+    public List<StoreOperationArgument> getReads() {
+        return reads == null ? List.of() : reads;
+    }
+}
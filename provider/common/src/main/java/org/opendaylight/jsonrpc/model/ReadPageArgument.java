@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.model;
+
+import com.google.gson.JsonElement;
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+public class ReadPageArgument extends StoreOperationArgument {
+    private final String cursor;
+    private final Integer limit;
+
+    public ReadPageArgument(String store, String entity, JsonElement path, String cursor, Integer limit) {
+        this(store, entity, path, cursor, limit, null, null);
+    }
+
+    @ConstructorProperties({ "store", "entity", "path", "cursor", "limit", "depth", "fields" })
+    public ReadPageArgument(String store, String entity, JsonElement path, String cursor, Integer limit,
+            Integer depth, List<String> fields) {
+        super(store, entity, path, depth, fields);
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.model;
+
+import com.google.gson.JsonArray;
+import java.beans.ConstructorProperties;
+
+public class ReadPageResult {
+    private final JsonArray data;
+    private final String cursor;
+
+    @ConstructorProperties({ "data", "cursor" })
+    public ReadPageResult(JsonArray data, String cursor) {
+        this.data = data;
+        this.cursor = cursor;
+    }
+
+    public JsonArray getData() {
+        return data == null ? new JsonArray() : data;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.jsonrpc.model;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import java.io.IOException;
 import java.util.List;
@@ -38,6 +39,21 @@ public interface RemoteOmShard extends AutoCloseable {
         return read(new StoreOperationArgument(store, entity, path));
     }
 
+    /**
+     * Read data at path in the given data store for an entity, limited by depth and selected fields. Semantics of
+     * limits are modeled on RESTCONF 'depth' and 'fields' query parameters.
+     *
+     * @param store data store that is the subject of this procedure ("operational" or "config")
+     * @param entity name of the managed entity that is the subject of this procedure
+     * @param path path specifying the model subtree that is the subject of this procedure
+     * @param depth maximum depth of returned data, null if not limited
+     * @param fields slash-separated paths of selected descendants, null if all are selected
+     * @return data at path in the given data store for an entity
+     */
+    default JsonElement read(String store, String entity, JsonElement path, Integer depth, List<String> fields) {
+        return read(new StoreOperationArgument(store, entity, path, depth, fields));
+    }
+
     /**
      * Read all data at path in the given data store for an entity.
      *
@@ -50,6 +66,53 @@ public interface RemoteOmShard extends AutoCloseable {
         return read(String.valueOf(store), entity, path);
     }
 
+    /**
+     * Read data at several paths in single call. All reads are served from same snapshot of data, so their results are
+     * consistent with each other.
+     *
+     * <p>Peers which predate this method reply with "Method not found" error, callers are expected to fall back to
+     * individual {@link #read(StoreOperationArgument)} calls in such case.
+     *
+     * @param arg read-many operation argument
+     * @return data of each read, in order of reads in argument
+     */
+    JsonArray readMany(ReadManyArgument arg);
+
+    /**
+     * Read data at several paths in single call.
+     *
+     * @param reads reads to perform, each one with same meaning as argument of {@link #read(StoreOperationArgument)}
+     * @return data of each read, in order of reads
+     */
+    default JsonArray readMany(List<StoreOperationArgument> reads) {
+        return readMany(new ReadManyArgument(reads));
+    }
+
+    /**
+     * Read entries of list at path in the given data store for an entity, one page at a time. First page is requested
+     * without cursor, its reply contains cursor to be passed to request of next page. All pages are read from snapshot
+     * of data taken when first page was requested, so entries are iterated in stable order. Cursor is released once
+     * last page is read (its reply does not contain cursor) or after it has not been used for some time.
+     *
+     * @param arg read page operation argument
+     * @return page of list entries and cursor of next page, if any
+     */
+    ReadPageResult readPage(ReadPageArgument arg);
+
+    /**
+     * Read entries of list at path in the given data store for an entity, one page at a time.
+     *
+     * @param store data store that is the subject of this procedure ("operational" or "config")
+     * @param entity name of the managed entity that is the subject of this procedure
+     * @param path path specifying the list that is the subject of this procedure
+     * @param cursor cursor returned with previous page, null to request first page
+     * @param limit maximum number of entries in page, null for default
+     * @return page of list entries and cursor of next page, if any
+     */
+    default ReadPageResult readPage(String store, String entity, JsonElement path, String cursor, Integer limit) {
+        return readPage(new ReadPageArgument(store, entity, path, cursor, limit));
+    }
+
     /**
      * Store data at path in the given data store for an entity. This procedure will overwrite any and all existing
      * data at path, when the transaction to which it belongs is committed.
@@ -189,6 +252,32 @@ public interface RemoteOmShard extends AutoCloseable {
         delete(txId, String.valueOf(store), entity, path);
     }
 
+    /**
+     * Apply ordered list of put, merge and delete operations to the identified transaction in single call. When commit
+     * flag is set, transaction is committed once all operations are applied, as if {@link #commit(TxArgument)} was
+     * called.
+     *
+     * <p>Peers which predate this method reply with "Method not found" error, callers are expected to fall back to
+     * individual {@link #put(DataOperationArgument)}, {@link #merge(DataOperationArgument)} and
+     * {@link #delete(TxOperationArgument)} calls in such case.
+     *
+     * @param arg batch operation argument
+     * @return true if all operations were applied (and transaction was committed, if requested), false otherwise
+     */
+    boolean batch(BatchArgument arg);
+
+    /**
+     * Apply ordered list of put, merge and delete operations to the identified transaction in single call.
+     *
+     * @param txId handle for a transaction
+     * @param operations operations to apply, in order
+     * @param commit whether to commit transaction once all operations are applied
+     * @return true if all operations were applied (and transaction was committed, if requested), false otherwise
+     */
+    default boolean batch(String txId, List<BatchOperation> operations, boolean commit) {
+        return batch(new BatchArgument(txId, operations, commit));
+    }
+
     /**
      * Make permanent all data changes made in the identified transaction, then end that transaction.
      *
@@ -251,7 +340,16 @@ public interface RemoteOmShard extends AutoCloseable {
     }
 
     /**
-     * Add a data change listener for a path.
+     * Add a data change listener for a path. When {@link AddListenerArgument#getDelta()} is true, each notification
+     * carries only modified nodes along with kind of their modification (see {@link JSONRPCArg#getOperation()}),
+     * otherwise it carries whole subtree after change. Peers which do not support delta notifications ignore this flag
+     * and always send whole subtree. When {@link AddListenerArgument#getCoalesceWindow()} is positive, changes are
+     * collected for that many milliseconds and sent as single notification, with changes of same path collapsed to
+     * latest state. When {@link AddListenerArgument#getMultiplex()} is true, peer may publish notifications of
+     * listener using publisher shared with other listeners. Returned URI then identifies topic of listener, which is
+     * {@link AddListenerArgument#getSubscription()} if set, so that single subscriber can receive notifications of all
+     * listeners it registered with same subscription. Subscriber must ignore notifications of other listeners (see
+     * {@link DataChangeNotification#getListener()}).
      *
      * @param arg add-listener operation argument
      * @return instance of {@link ListenerKey}.
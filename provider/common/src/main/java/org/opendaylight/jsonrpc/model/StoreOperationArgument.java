@@ -9,17 +9,27 @@ package org.opendaylight.jsonrpc.model;
 
 import com.google.gson.JsonElement;
 import java.beans.ConstructorProperties;
+import java.util.List;
 
 public class StoreOperationArgument {
     private final String store;
     private final String entity;
     private final JsonElement path;
+    private final Integer depth;
+    private final List<String> fields;
 
-    @ConstructorProperties({ "store", "entity", "path" })
     public StoreOperationArgument(String store, String entity, JsonElement path) {
+        this(store, entity, path, null, null);
+    }
+
+    @ConstructorProperties({ "store", "entity", "path", "depth", "fields" })
+    public StoreOperationArgument(String store, String entity, JsonElement path, Integer depth,
+            List<String> fields) {
         this.store = store;
         this.entity = entity;
         this.path = path;
+        this.depth = depth;
+        this.fields = fields;
     }
 
     public String getStore() {
@@ -33,4 +43,12 @@ public class StoreOperationArgument {
     public JsonElement getPath() {
         return path;
     }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.provider.common;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor used to invoke application callbacks, such as notification listeners and consumers of paged reads. It is
+ * separate from {@link RemoteCallExecutor}, so callback which blocks, for example on read from mounted peer, can't
+ * occupy threads which are needed to complete that read. Threads are created on demand up to {@value #MAX_THREADS}
+ * and retired once idle, tasks which find all threads busy wait in queue. Producers of callbacks are expected to bound
+ * number of their queued tasks themselves.
+ */
+public final class CallbackExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(CallbackExecutor.class);
+    private static final int MAX_THREADS = 32;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS,
+            KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("jsonrpc-callback-%d")
+                .setUncaughtExceptionHandler((thread, cause) -> LOG.error("Uncaught error in thread {}", thread, cause))
+                .build());
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private CallbackExecutor() {
+        // no instantiation
+    }
+
+    /**
+     * Get shared {@link Executor}, tasks submitted to it may run concurrently.
+     *
+     * @return shared {@link Executor}
+     */
+    public static Executor shared() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Create new {@link Executor} backed by shared executor, which runs submitted tasks one at a time, in order of
+     * submission.
+     *
+     * @return sequential {@link Executor}
+     */
+    public static Executor newSequentialExecutor() {
+        return MoreExecutors.newSequentialExecutor(EXECUTOR);
+    }
+}
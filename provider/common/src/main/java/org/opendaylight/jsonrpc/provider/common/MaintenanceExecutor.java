@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.provider.common;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single-threaded executor used to run short periodic housekeeping tasks, such as expiry of idle entries or logging of
+ * statistics. Tasks must not block, as they delay all other tasks.
+ */
+public final class MaintenanceExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(MaintenanceExecutor.class);
+    private static final ScheduledThreadPoolExecutor EXECUTOR = new ScheduledThreadPoolExecutor(1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("jsonrpc-maintenance-%d")
+                .setUncaughtExceptionHandler((thread, cause) -> LOG.error("Uncaught error in thread {}", thread, cause))
+                .build());
+
+    static {
+        // periodic tasks of closed components should not linger in queue
+        EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    private MaintenanceExecutor() {
+        // no instantiation
+    }
+
+    /**
+     * Get shared {@link ScheduledExecutorService}.
+     *
+     * @return shared {@link ScheduledExecutorService}
+     */
+    public static ScheduledExecutorService shared() {
+        return EXECUTOR;
+    }
+}
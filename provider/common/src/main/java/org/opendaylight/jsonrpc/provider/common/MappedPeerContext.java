@@ -65,7 +65,7 @@ public class MappedPeerContext extends AbstractPeerContext {
         super(peer, dataBroker);
 
         publishState(new ActualEndpointsBuilder(peer), MountStatus.Initial);
-        final MutablePeer newPeer = new MutablePeer().name(peer.getName());
+        final MutablePeer newPeer = new MutablePeer().name(peer.getName()).readCache(peer.getReadCache());
         publishState(new ActualEndpointsBuilder(peer), MountStatus.Processing);
         final EffectiveModelContext schema = schemaProvider.createSchemaContext(peer);
         // actual list of modules lies in created SchemaContext
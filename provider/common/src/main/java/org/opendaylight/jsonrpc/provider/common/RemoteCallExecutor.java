@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.provider.common;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor used to perform blocking calls to remote peers asynchronously. Threads are created on demand up to
+ * {@value #MAX_THREADS} and retired once idle, so slow peers can't make number of threads grow without limit. Tasks
+ * which find all threads busy wait in queue of up to {@value #MAX_QUEUED} tasks. When queue is full too, task is run by
+ * thread which submits it, so submitters are slowed down to pace of remote calls instead of tasks being rejected.
+ */
+public final class RemoteCallExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteCallExecutor.class);
+    private static final int MAX_THREADS = 64;
+    private static final int MAX_QUEUED = 4096;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS,
+            KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(MAX_QUEUED), new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("jsonrpc-remote-call-%d")
+                .setUncaughtExceptionHandler((thread, cause) -> LOG.error("Uncaught error in thread {}", thread, cause))
+                .build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private RemoteCallExecutor() {
+        // no instantiation
+    }
+
+    /**
+     * Get shared {@link Executor}, tasks submitted to it may run concurrently.
+     *
+     * @return shared {@link Executor}
+     */
+    public static Executor shared() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Create new {@link Executor} backed by shared executor, which runs submitted tasks one at a time, in order of
+     * submission.
+     *
+     * @return sequential {@link Executor}
+     */
+    public static Executor newSequentialExecutor() {
+        return MoreExecutors.newSequentialExecutor(EXECUTOR);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.provider.common;
+
+import com.google.common.base.Preconditions;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opendaylight.jsonrpc.bus.messagelib.NoopReplyMessageHandler;
+import org.opendaylight.jsonrpc.bus.messagelib.RequesterSession;
+import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived {@link RequesterSession}s of single peer, one per endpoint URI. Session is created on first use and
+ * shared by all users of its endpoint, such as {@link RpcClient}s of all RPCs mapped to it. Sessions must not be closed
+ * by users, they are closed together with registry.
+ */
+public final class RequesterSessions implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(RequesterSessions.class);
+    private final TransportFactory transportFactory;
+    // guarded by this
+    private final Map<String, RequesterSession> sessions = new HashMap<>();
+    private boolean closed;
+
+    public RequesterSessions(TransportFactory transportFactory) {
+        this.transportFactory = Objects.requireNonNull(transportFactory);
+    }
+
+    /**
+     * Get shared session for given endpoint, creating it on first use.
+     *
+     * @param endpoint endpoint URI
+     * @return shared {@link RequesterSession}
+     * @throws URISyntaxException if endpoint URI is invalid
+     * @throws IllegalStateException if registry is closed already
+     */
+    public synchronized RequesterSession get(String endpoint) throws URISyntaxException {
+        Preconditions.checkState(!closed, "Requester sessions are closed already");
+        RequesterSession session = sessions.get(endpoint);
+        if (session == null) {
+            LOG.debug("Creating shared requester session for {}", endpoint);
+            session = transportFactory.endpointBuilder().requester().create(endpoint, NoopReplyMessageHandler.INSTANCE);
+            sessions.put(endpoint, session);
+        }
+        return session;
+    }
+
+    @Override
+    public void close() {
+        final List<RequesterSession> toClose;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = List.copyOf(sessions.values());
+            sessions.clear();
+        }
+        toClose.forEach(RequesterSession::close);
+    }
+}
@@ -9,14 +9,16 @@ package org.opendaylight.jsonrpc.provider.common;
 
 import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
 
+import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import org.opendaylight.jsonrpc.bus.api.RpcMethod;
+import java.net.URISyntaxException;
+import java.util.Objects;
+import org.opendaylight.jsonrpc.bus.jsonrpc.JsonRpcReplyMessage;
+import org.opendaylight.jsonrpc.bus.messagelib.ProxyServiceGenericException;
+import org.opendaylight.jsonrpc.bus.messagelib.RequesterSession;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.Codec;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
@@ -32,53 +34,113 @@ import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Client of single RPC of remote peer. Requests are sent using {@link RequesterSession} of endpoint, which is shared
+ * with clients of other RPCs mapped to same endpoint. Invocation does not block caller, returned future is completed
+ * once reply is received, by completion thread of session rather than by transport thread.
+ */
 public class RpcClient implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(RpcClient.class);
-    private final Class<? extends AutoCloseable> type;
-    private final TransportFactory factory;
+    private final RequesterSessions sessions;
+    // sessions created by deprecated constructor are private to this client
+    private final boolean ownsSessions;
     private final String endpoint;
     private final RpcDefinition def;
-    private final Method method;
+    private final String methodName;
+    private final boolean hasInput;
+    private final boolean hasOutput;
     private final Codec<JsonElement, ContainerNode, IOException> outputCodec;
     private final Codec<JsonElement, ContainerNode, IOException> inputCodec;
+    private volatile boolean closed;
+
+    /**
+     * Create client which sends requests using session of its endpoint obtained from given registry.
+     *
+     * @param codecFactory codec factory
+     * @param def definition of RPC
+     * @param sessions shared {@link RequesterSessions} of peer, not closed by this client
+     * @param endpoint endpoint URI
+     */
+    public RpcClient(JsonRpcCodecFactory codecFactory, RpcDefinition def, RequesterSessions sessions,
+            String endpoint) {
+        this(codecFactory, def, sessions, false, endpoint);
+    }
 
+    /**
+     * Create client which opens its own session, not shared with clients of other RPCs.
+     *
+     * @param codecFactory codec factory
+     * @param def definition of RPC
+     * @param factory {@link TransportFactory} used to create session
+     * @param endpoint endpoint URI
+     * @deprecated use {@link #RpcClient(JsonRpcCodecFactory, RpcDefinition, RequesterSessions, String)}, so that
+     *             session is shared by all RPCs of endpoint
+     */
+    @Deprecated(forRemoval = true)
     public RpcClient(JsonRpcCodecFactory codecFactory, RpcDefinition def, TransportFactory factory, String endpoint) {
-        type = InterfaceGenerator.generate(def);
-        this.factory = factory;
+        this(codecFactory, def, new RequesterSessions(factory), true, endpoint);
+    }
+
+    private RpcClient(JsonRpcCodecFactory codecFactory, RpcDefinition def, RequesterSessions sessions,
+            boolean ownsSessions, String endpoint) {
+        this.sessions = Objects.requireNonNull(sessions);
+        this.ownsSessions = ownsSessions;
         this.endpoint = endpoint;
         this.def = def;
-        method = Arrays.asList(type.getDeclaredMethods())
-                .stream()
-                .filter(m -> m.getDeclaredAnnotation(RpcMethod.class) != null)
-                .filter(m -> m.getDeclaredAnnotation(RpcMethod.class).value().equals(def.getQName().getLocalName()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Can't find method in generated API"));
+        methodName = def.getQName().getLocalName();
+        hasInput = !def.getInput().getChildNodes().isEmpty();
+        hasOutput = !def.getOutput().getChildNodes().isEmpty();
         inputCodec = codecFactory.rpcInputCodec(def);
         outputCodec = codecFactory.rpcOutputCodec(def);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
-    @SuppressFBWarnings("REC_CATCH_EXCEPTION")
     public ListenableFuture<DOMRpcResult> invoke(NormalizedNode input) {
-        LOG.debug("Invoking RPC '{}' using endpoint {}", def.getQName().getLocalName(), endpoint);
-        try (AutoCloseable client = factory.endpointBuilder().requester().createProxy(type, endpoint)) {
-            final Object output;
-            if (method.getParameterCount() == 0) {
-                output = method.invoke(client);
-            } else {
-                output = method.invoke(client, inputCodec.serialize((ContainerNode) input));
-            }
-            return immediateFluentFuture(new DefaultDOMRpcResult(outputCodec.deserialize((JsonObject) output)));
+        LOG.debug("Invoking RPC '{}' using endpoint {}", methodName, endpoint);
+        final ListenableFuture<JsonRpcReplyMessage> reply;
+        try {
+            reply = session().sendRequestAsync(methodName,
+                    hasInput ? inputCodec.serialize((ContainerNode) input) : null, null);
         } catch (Exception e) {
-            final RpcError error = RpcResultBuilder.newError(ErrorType.RPC, new ErrorTag("jsonrpc"),
-                    String.format("Invocation of method '%s' failed", def.getQName().getLocalName()), null, endpoint,
-                    e);
-            return immediateFluentFuture(new DefaultDOMRpcResult(error));
+            return immediateFluentFuture(failed(e));
         }
+        // reply future is completed off transport threads, so output can be decoded by thread which completes it
+        return FluentFuture.from(reply)
+                .transform(this::toResult, MoreExecutors.directExecutor())
+                .catching(Exception.class, this::failed, MoreExecutors.directExecutor());
+    }
+
+    private DOMRpcResult toResult(JsonRpcReplyMessage reply) {
+        if (reply.isError()) {
+            throw new ProxyServiceGenericException(reply.getError().getMessage(), reply.getError().getCode());
+        }
+        try {
+            // output of RPC without output statement is ignored
+            return new DefaultDOMRpcResult(outputCodec.deserialize(hasOutput ? reply.getResult() : null));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DOMRpcResult failed(Exception cause) {
+        final RpcError error = RpcResultBuilder.newError(ErrorType.RPC, new ErrorTag("jsonrpc"),
+                String.format("Invocation of method '%s' failed", def.getQName().getLocalName()), null, endpoint,
+                cause);
+        return new DefaultDOMRpcResult(error);
+    }
+
+    private RequesterSession session() throws URISyntaxException {
+        if (closed) {
+            throw new IllegalStateException("RPC client for " + endpoint + " is closed");
+        }
+        return sessions.get(endpoint);
     }
 
     @Override
     public void close() {
-        // Currently NOOP
+        closed = true;
+        if (ownsSessions) {
+            sessions.close();
+        }
     }
 }
@@ -8,6 +8,7 @@
 package org.opendaylight.jsonrpc.hmap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 
 import com.google.common.collect.Iterables;
@@ -57,6 +58,24 @@ public class HierarchicalEnumHashMapTest {
         assertEquals(5, map2.size());
     }
 
+    @Test
+    public void testLookupDoesNotModifyTree() throws IOException {
+        final HierarchicalEnumMap<JsonElement, Types, String> map = HierarchicalEnumHashMap.create(Types.class, CODEC);
+        map.put(parse("{}"), Types.A, "uri://localhost");
+        map.put(parse(PATH1), Types.B, "xyz");
+        final String before = map.dump();
+        final long version = map.version();
+        assertEquals(Optional.of("uri://localhost"), map.lookup(parse(getData("path4")), Types.A));
+        assertEquals(Optional.of("xyz"), map.lookup(parse(PATH1), Types.B));
+        assertEquals(Optional.empty(), map.lookup(parse(PATH2), Types.B));
+        assertEquals(before, map.dump());
+        assertEquals(version, map.version());
+        // modification is visible to subsequent lookups
+        map.put(parse(PATH2), Types.B, "abc");
+        assertNotEquals(version, map.version());
+        assertEquals(Optional.of("abc"), map.lookup(parse(PATH2), Types.B));
+    }
+
     @Test
     public void testSerializePath() throws IOException {
         String str = Iterables.toString(CODEC.serialize(parse(PATH1)));
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.jsonrpc.model.ReadPageArgument;
+import org.opendaylight.jsonrpc.model.ReadPageResult;
+import org.opendaylight.jsonrpc.model.RemoteOmShard;
+import org.opendaylight.jsonrpc.provider.common.AbstractJsonRpcTest;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+/**
+ * Tests for eviction of {@link ReadCursors}.
+ */
+public class ReadCursorsTest extends AbstractJsonRpcTest {
+    private static final int ENTRIES = 10;
+    private static final int THREADS = 4;
+    private static final int MAX_ATTEMPTS = 1000;
+    private static final String STORE = "operational";
+    private static final String ENTITY = "test-model";
+    private static final QName TOPOLOGY_ID = QName.create(Topology.QNAME, "topology-id");
+    private static final YangInstanceIdentifier LIST_PATH = YangInstanceIdentifier.builder()
+            .node(NetworkTopology.QNAME)
+            .node(Topology.QNAME)
+            .build();
+
+    private final Set<String> ids = new HashSet<>();
+    private ExecutorService remoteExecutor;
+    private ExecutorService consumerExecutor;
+
+    @Before
+    public void setUp() throws Exception {
+        final DOMDataTreeWriteTransaction wtx = getDomBroker().newWriteOnlyTransaction();
+        for (int i = 0; i < ENTRIES; i++) {
+            final String id = "topo" + i;
+            final NodeIdentifierWithPredicates key = NodeIdentifierWithPredicates.of(Topology.QNAME, TOPOLOGY_ID, id);
+            wtx.put(LogicalDatastoreType.OPERATIONAL, LIST_PATH.node(key), ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(key)
+                    .withChild(ImmutableNodes.leafNode(TOPOLOGY_ID, id))
+                    .build());
+            ids.add(id);
+        }
+        wtx.commit().get();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedCursorEvicted() {
+        // two lists fit into limit
+        final ReadCursors cursors = new ReadCursors(getDomBroker(), codecFactory, 2 * ENTRIES + ENTRIES / 2);
+        final String first = cursors.open(LogicalDatastoreType.OPERATIONAL, LIST_PATH, 1, null).getCursor();
+        final String second = cursors.open(LogicalDatastoreType.OPERATIONAL, LIST_PATH, 1, null).getCursor();
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(first, cursors.next(first, 1).getCursor());
+
+        final String third = cursors.open(LogicalDatastoreType.OPERATIONAL, LIST_PATH, 1, null).getCursor();
+        assertNotNull(third);
+        assertThrows(IllegalStateException.class, () -> cursors.next(second, 1));
+        assertEquals(ENTRIES - 2, cursors.next(first, ENTRIES).getData().size());
+        final ReadPageResult last = cursors.next(third, ENTRIES);
+        assertEquals(ENTRIES - 1, last.getData().size());
+        assertNull(last.getCursor());
+        cursors.close();
+    }
+
+    @Test
+    public void testListBiggerThanLimit() {
+        final ReadCursors cursors = new ReadCursors(getDomBroker(), codecFactory, ENTRIES / 2);
+        final ReadPageResult first = cursors.open(LogicalDatastoreType.OPERATIONAL, LIST_PATH, 1, null);
+        assertNotNull(first.getCursor());
+        assertEquals(ENTRIES - 1, cursors.next(first.getCursor(), ENTRIES).getData().size());
+        cursors.close();
+    }
+
+    @Test
+    public void testConcurrentReadPages() throws Exception {
+        // fewer cursors fit into limit than there are concurrent readers
+        final ReadCursors cursors = new ReadCursors(getDomBroker(), codecFactory, 2 * ENTRIES);
+        final RemoteOmShard shard = mock(RemoteOmShard.class);
+        doAnswer(invocation -> {
+            final ReadPageArgument arg = invocation.getArgument(0);
+            return arg.getCursor() != null ? cursors.next(arg.getCursor(), arg.getLimit())
+                    : cursors.open(LogicalDatastoreType.OPERATIONAL, LIST_PATH, arg.getLimit(), null);
+        }).when(shard).readPage(any());
+        final AtomicInteger evictions = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        remoteExecutor = Executors.newFixedThreadPool(THREADS);
+        consumerExecutor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Set<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> readAll(shard, evictions)));
+            }
+            for (Future<Set<String>> future : futures) {
+                assertEquals(ids, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+            remoteExecutor.shutdownNow();
+            consumerExecutor.shutdownNow();
+            cursors.close();
+        }
+        LOG.info("Reads restarted {} times due to evicted cursor", evictions.get());
+    }
+
+    /*
+     * Read whole list, restarting read whenever its cursor is evicted by concurrent reads.
+     */
+    private Set<String> readAll(RemoteOmShard shard, AtomicInteger evictions) throws InterruptedException {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            final Set<String> result = new HashSet<>();
+            try {
+                final long count = PagedReader.readPages(shard, remoteExecutor, codecFactory, STORE, ENTITY,
+                    LIST_PATH, 1, consumerExecutor, entry -> result.add(topologyId(entry))).get();
+                assertEquals(ENTRIES, count);
+                return result;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+                evictions.incrementAndGet();
+            }
+        }
+        fail("Read did not complete in " + MAX_ATTEMPTS + " attempts");
+        return null;
+    }
+
+    private static String topologyId(MapEntryNode entry) {
+        return (String) entry.getChildByArg(new NodeIdentifier(TOPOLOGY_ID)).body();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import com.google.common.base.Ticker;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * Tests for coherency of {@link RemoteReadCache}.
+ */
+public class RemoteReadCacheTest {
+    private static final long MAX_AGE_SECONDS = 60;
+    private static final QName TOP = QName.create("urn:test", "2026-01-01", "top");
+    private static final QName CHILD = QName.create(TOP, "child");
+    private static final QName OTHER = QName.create(TOP, "other");
+    private static final DOMDataTreeIdentifier TOP_ID = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.of(TOP));
+    private static final DOMDataTreeIdentifier CHILD_ID = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.of(TOP, CHILD));
+    private static final DOMDataTreeIdentifier OTHER_ID = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.of(OTHER));
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+    private final AtomicLong epoch = new AtomicLong(1);
+    private DOMDataTreeChangeListener listener;
+    private RemoteReadCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new RemoteReadCache("test", 1024 * 1024, MAX_AGE_SECONDS, this::subscribe, ticker);
+    }
+
+    @After
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    public void testCached() {
+        read(CHILD_ID);
+        assertNotNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testNotCachedUntilConnected() {
+        epoch.set(RemoteReadCache.NOT_CONNECTED);
+        assertEquals(RemoteReadCache.NOT_CACHED, cache.beginRead(CHILD_ID));
+        assertNotNull(listener);
+        epoch.set(1);
+        read(CHILD_ID);
+        assertNotNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testStaleAfterReconnect() {
+        read(CHILD_ID);
+        // connection lost and re-established before cache is accessed again, changes in between were missed
+        epoch.set(2);
+        assertNull(cache.getIfPresent(CHILD_ID));
+        // data read during new connection are cached again
+        read(CHILD_ID);
+        assertNotNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testNotServedWhileDisconnected() {
+        read(CHILD_ID);
+        epoch.set(RemoteReadCache.NOT_CONNECTED);
+        assertNull(cache.getIfPresent(CHILD_ID));
+        assertEquals(RemoteReadCache.NOT_CACHED, cache.beginRead(CHILD_ID));
+        epoch.set(2);
+        assertNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testStaleReadNotCachedAfterReconnect() {
+        final long generation = cache.beginRead(CHILD_ID);
+        // reconnect happens while read is in progress
+        epoch.set(2);
+        cache.put(CHILD_ID, Optional.empty(), null, generation);
+        assertNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testInitialDataInvalidates() {
+        read(CHILD_ID);
+        listener.onInitialData();
+        assertNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testLogStats() {
+        // read itself checks that data were cached, which counts as hit
+        read(CHILD_ID);
+        assertNotNull(cache.getIfPresent(CHILD_ID));
+        assertEquals(2, cache.logStats().hitCount());
+        // only usage since previous report is logged
+        assertEquals(0, cache.logStats().requestCount());
+        assertNotNull(cache.getIfPresent(CHILD_ID));
+        assertEquals(1, cache.logStats().hitCount());
+    }
+
+    @Test
+    public void testMaxAge() {
+        read(CHILD_ID);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(MAX_AGE_SECONDS - 1));
+        assertNotNull(cache.getIfPresent(CHILD_ID));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.getIfPresent(CHILD_ID));
+    }
+
+    @Test
+    public void testInvalidateOverlapping() {
+        read(TOP_ID);
+        read(CHILD_ID);
+        read(OTHER_ID);
+        assertEquals(3, cache.size());
+        cache.invalidate(CHILD_ID);
+        assertNull(cache.getIfPresent(TOP_ID));
+        assertNull(cache.getIfPresent(CHILD_ID));
+        assertNotNull(cache.getIfPresent(OTHER_ID));
+
+        // undecodable change invalidates whole subtree of listener
+        listener.onDataTreeChanged(List.of());
+        assertNull(cache.getIfPresent(OTHER_ID));
+
+        read(TOP_ID);
+        read(OTHER_ID);
+        cache.invalidate(DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.of()));
+        assertEquals(0, cache.size());
+    }
+
+    private void read(DOMDataTreeIdentifier id) {
+        final long generation = cache.beginRead(id);
+        assertNotEquals(RemoteReadCache.NOT_CACHED, generation);
+        cache.put(id, Optional.empty(), null, generation);
+        assertNotNull(cache.getIfPresent(id));
+    }
+
+    private RemoteReadCache.Subscription subscribe(DOMDataTreeIdentifier subtree,
+            DOMDataTreeChangeListener newListener) {
+        listener = newListener;
+        return new Subscription();
+    }
+
+    private final class Subscription extends AbstractRegistration implements RemoteReadCache.Subscription {
+        @Override
+        public long connectionEpoch() {
+            return epoch.get();
+        }
+
+        @Override
+        protected void removeRegistration() {
+            // nothing to do
+        }
+    }
+}
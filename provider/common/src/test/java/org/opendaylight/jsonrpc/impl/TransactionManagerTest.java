@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+
+/**
+ * Tests for expiry of idle transactions in {@link TransactionManager}.
+ */
+public class TransactionManagerTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+    private DOMDataTreeWriteTransaction domTx;
+    private TransactionManager txManager;
+
+    @Before
+    public void setUp() {
+        domTx = mock(DOMDataTreeWriteTransaction.class);
+        txManager = new TransactionManager(() -> domTx, ticker);
+    }
+
+    @After
+    public void tearDown() {
+        txManager.close();
+    }
+
+    @Test
+    public void testExpiredTransactionCancelled() {
+        txManager.allocate(null).getValue().newWriteTransaction();
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(14));
+        txManager.cleanUp();
+        verify(domTx, never()).cancel();
+        assertEquals(1, txManager.size());
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        txManager.cleanUp();
+        verify(domTx).cancel();
+        assertEquals(0, txManager.size());
+    }
+
+    @Test
+    public void testAccessedTransactionNotExpired() {
+        final String txId = txManager.allocate(null).getKey();
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(14));
+        txManager.allocate(txId);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(14));
+        txManager.cleanUp();
+        verify(domTx, never()).cancel();
+        assertEquals(1, txManager.size());
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.jsonrpc.provider.common;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -17,10 +19,16 @@ import static org.mockito.Mockito.when;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -45,6 +53,7 @@ import org.opendaylight.yangtools.binding.util.BindingMap;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 import org.slf4j.Logger;
@@ -111,6 +120,61 @@ public class JsonRPCNotificationServiceTest extends AbstractJsonRpcTest {
         regs.stream().forEach(Registration::close);
     }
 
+    @Test
+    public void testOrderPerListener() throws InterruptedException {
+        final int count = 20;
+        final NodeIdentifier currentLevel = new NodeIdentifier(QName.create(mod.getQNameModule(), "current-level"));
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch cl = new CountDownLatch(count);
+        final Registration reg = svc.registerNotificationListener((DOMNotificationListener) notification -> {
+            received.add(notification.getBody().getChildByArg(currentLevel).body().toString());
+            cl.countDown();
+        }, notificationPath(mod, "notification1"));
+        TimeUnit.MILLISECONDS.sleep(500L);
+        final List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            // method name qualified by module name resolves to same notification
+            pubSession.publish(i % 2 == 0 ? "notification1" : "test-model-notification:notification1",
+                    new int[] { i, count });
+            expected.add(String.valueOf(i));
+        }
+        assertTrue(cl.await(5, TimeUnit.SECONDS));
+        assertEquals(expected, received);
+        reg.close();
+    }
+
+    @Test
+    public void testListenerOfMultipleTypesNotInvokedConcurrently() throws InterruptedException {
+        final int count = 20;
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicBoolean concurrent = new AtomicBoolean();
+        final CountDownLatch cl = new CountDownLatch(2 * count);
+        final DOMNotificationListener listener = notification -> {
+            if (inFlight.incrementAndGet() > 1) {
+                concurrent.set(true);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(5L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            cl.countDown();
+        };
+        final Registration reg = svc.registerNotificationListeners(Map.of(notificationPath(mod, "notification1"),
+                listener, notificationPath(mod, "notification2"), listener));
+        TimeUnit.MILLISECONDS.sleep(500L);
+        final JsonObject notification2 = new JsonObject();
+        notification2.addProperty("leaf1", "value");
+        for (int i = 0; i < count; i++) {
+            pubSession.publish("notification1", new int[] { i, count });
+            pubSession.publish("notification2", notification2);
+        }
+        assertTrue(cl.await(5, TimeUnit.SECONDS));
+        assertFalse(concurrent.get());
+        reg.close();
+    }
+
     @Test
     public void test() throws URISyntaxException, Exception {
         final CountDownLatch cl = new CountDownLatch(4);
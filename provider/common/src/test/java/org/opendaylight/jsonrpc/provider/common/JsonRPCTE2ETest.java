@@ -7,6 +7,7 @@
  */
 package org.opendaylight.jsonrpc.provider.common;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -47,6 +48,7 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.peer.ReadCacheBuilder;
 import org.opendaylight.yangtools.binding.data.codec.api.BindingNormalizedNodeSerializer.NodeResult;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -171,6 +173,37 @@ public class JsonRPCTE2ETest extends AbstractJsonRpcTest {
         assertTrue(latch.await(10, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void testReadCacheInvalidatedByWrite() throws Exception {
+        final JsonRPCDataBroker cachingBroker = new JsonRPCDataBroker(
+                new MutablePeer().name("test-cache").readCache(new ReadCacheBuilder().build()), schemaContext, pathMap,
+                new MockTransportFactory(transportFactory), governance, codecFactory);
+        try {
+            final NodeResult e = TestUtils.getMockTopologyAsDom(getCodec());
+            final DOMDataTreeWriteTransaction wtx = cachingBroker.newWriteOnlyTransaction();
+            wtx.put(LogicalDatastoreType.OPERATIONAL, e.path(), e.node());
+            wtx.commit().get();
+            for (int i = 0; i < 2; i++) {
+                assertTrue(cachingBroker.newReadOnlyTransaction()
+                        .read(LogicalDatastoreType.OPERATIONAL, e.path())
+                        .get()
+                        .isPresent());
+            }
+
+            final DOMDataTreeWriteTransaction dtx = cachingBroker.newWriteOnlyTransaction();
+            dtx.delete(LogicalDatastoreType.OPERATIONAL, e.path());
+            dtx.commit().get();
+            assertFalse(cachingBroker.newReadOnlyTransaction()
+                    .read(LogicalDatastoreType.OPERATIONAL, e.path())
+                    .get()
+                    .isPresent());
+            assertTrue(cachingBroker.readCacheStats().isPresent());
+            assertFalse(jrbroker.readCacheStats().isPresent());
+        } finally {
+            cachingBroker.close();
+        }
+    }
+
     private YangInstanceIdentifier yiiFromJson(String json) {
         return codecFactory.pathCodec().deserialize(JsonParser.parseString(json).getAsJsonObject());
     }
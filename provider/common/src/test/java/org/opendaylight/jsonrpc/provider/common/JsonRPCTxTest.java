@@ -14,11 +14,17 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -26,12 +32,14 @@ import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -39,17 +47,23 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.opendaylight.jsonrpc.bus.messagelib.AbstractTransportFactory;
 import org.opendaylight.jsonrpc.bus.messagelib.MockTransportFactory;
+import org.opendaylight.jsonrpc.bus.messagelib.ProxyServiceGenericException;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
 import org.opendaylight.jsonrpc.hmap.DataType;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumHashMap;
 import org.opendaylight.jsonrpc.hmap.HierarchicalEnumMap;
 import org.opendaylight.jsonrpc.hmap.JsonPathCodec;
 import org.opendaylight.jsonrpc.impl.JsonRPCTx;
+import org.opendaylight.jsonrpc.model.BatchArgument;
+import org.opendaylight.jsonrpc.model.BatchOperation;
 import org.opendaylight.jsonrpc.model.RemoteOmShard;
+import org.opendaylight.jsonrpc.model.StoreOperationArgument;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.Peer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.jsonrpc.rev161201.config.ConfiguredEndpointsBuilder;
@@ -79,6 +93,7 @@ import org.slf4j.LoggerFactory;
 public class JsonRPCTxTest extends AbstractJsonRpcTest {
     private static final Logger LOG = LoggerFactory.getLogger(JsonRPCTxTest.class);
     private static final String ENDPOINT = "zmq://localhost:1234";
+    private static final String OPER_ENDPOINT = "zmq://localhost:1235";
     private static final String DEVICE_NAME = "dev-1";
     private static final Peer DEVICE = new ConfiguredEndpointsBuilder().setName(DEVICE_NAME).build();
 
@@ -89,6 +104,7 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
     private HierarchicalEnumMap<JsonElement, DataType, String> pathMap;
 
     @Before
+    @SuppressWarnings("removal")
     public void setUp() throws URISyntaxException {
         pathMap = HierarchicalEnumHashMap.create(DataType.class, JsonPathCodec.create());
         pathMap.put(new JsonObject(), DataType.CONFIGURATION_DATA, ENDPOINT);
@@ -96,6 +112,8 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
         transportFactory = mock(AbstractTransportFactory.class);
         om = mock(RemoteOmShard.class);
         doReturn(om).when(transportFactory).createRequesterProxy(any(), anyString(), anyBoolean());
+        // act as peer which predates batch method, unless test says otherwise
+        doThrow(new ProxyServiceGenericException("Method not found", -32601)).when(om).batch(any());
         codec = new JsonRpcCodecFactory(schemaContext);
         trx = new JsonRPCTx(new MockTransportFactory(transportFactory), DEVICE, pathMap, codec, schemaContext);
     }
@@ -136,6 +154,57 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
         assertFalse(trx.read(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.of()).get().isPresent());
     }
 
+    @Test
+    public void testReadMany() throws Exception {
+        final CountDownLatch busy = new CountDownLatch(1);
+        doAnswer(inv -> busy.await(5, TimeUnit.SECONDS)).when(om).exists(anyString(), any(), any());
+        final JsonArray data = new JsonArray();
+        data.add(new JsonObject());
+        data.add(new JsonObject());
+        doReturn(data).when(om).readMany(anyList());
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(NetworkTopology.QNAME);
+
+        // reads issued while endpoint is busy are sent in single call
+        final FluentFuture<Boolean> exists = trx.exists(LogicalDatastoreType.CONFIGURATION, path);
+        final FluentFuture<Optional<NormalizedNode>> read1 = trx.read(LogicalDatastoreType.OPERATIONAL, path);
+        final FluentFuture<Optional<NormalizedNode>> read2 = trx.read(LogicalDatastoreType.CONFIGURATION, path);
+        busy.countDown();
+        assertTrue(exists.get(5, TimeUnit.SECONDS));
+        assertTrue(read1.get(5, TimeUnit.SECONDS).isPresent());
+        assertTrue(read2.get(5, TimeUnit.SECONDS).isPresent());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<StoreOperationArgument>> captor = ArgumentCaptor.forClass(List.class);
+        verify(om, times(1)).readMany(captor.capture());
+        assertEquals(List.of(Util.store2str(Util.store2int(LogicalDatastoreType.OPERATIONAL)),
+                Util.store2str(Util.store2int(LogicalDatastoreType.CONFIGURATION))),
+                captor.getValue().stream().map(StoreOperationArgument::getStore).toList());
+        verify(om, never()).read(anyString(), anyString(), any(JsonElement.class));
+    }
+
+    @Test
+    public void testReadFailure() throws Exception {
+        doThrow(new IllegalStateException("read failed")).when(om).read(anyString(), anyString(),
+                any(JsonElement.class));
+        doThrow(new ProxyServiceGenericException("exists failed", -32000)).when(om).exists(anyString(), any(),
+                any());
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(NetworkTopology.QNAME);
+        try {
+            trx.read(LogicalDatastoreType.OPERATIONAL, path).get(5, TimeUnit.SECONDS);
+            fail("This read should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ReadFailedException);
+            assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+        try {
+            trx.exists(LogicalDatastoreType.OPERATIONAL, path).get(5, TimeUnit.SECONDS);
+            fail("This exists should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ReadFailedException);
+            assertTrue(e.getCause().getCause() instanceof ProxyServiceGenericException);
+        }
+    }
+
     @Test
     public void testExists() throws Exception {
         doReturn(true).when(om).exists(anyString(), any(), any());
@@ -147,8 +216,8 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
     @Test
     public void testPut() throws InterruptedException, ExecutionException, TimeoutException {
         final NodeResult data = createContainerNodeData(getCodec());
-        trx.put(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
         doReturn(true).when(om).commit((String)eq(null));
+        trx.put(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
         trx.commit().get(5, TimeUnit.SECONDS);
         verify(om, times(1)).put(eq(null), eq("config"), anyString(),
                 any(JsonElement.class), any(JsonElement.class));
@@ -168,11 +237,64 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
     public void testCancel() {
         trx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.of(NetworkTopology.QNAME));
         assertTrue(trx.cancel());
-        verify(om, times(1)).delete(eq(null), eq("config"), anyString(),
+        // buffered write is dropped without being sent
+        verify(om, never()).delete(eq(null), eq("config"), anyString(),
                 any(JsonElement.class));
         assertNotNull(trx.getIdentifier());
     }
 
+    @Test
+    public void testCommitMultipleEndpoints() throws Exception {
+        final RemoteOmShard operOm = mock(RemoteOmShard.class);
+        doReturn(operOm).when(transportFactory).createRequesterProxy(any(), startsWith(OPER_ENDPOINT), anyBoolean());
+        doReturn(true).when(operOm).batch(any());
+        doReturn("oper-tx").when(operOm).txid();
+        doReturn(true).when(operOm).commit(anyString());
+        doReturn("config-tx").when(om).txid();
+        doReturn(false).when(om).commit(anyString());
+        doReturn(List.of("err1")).when(om).error(anyString());
+        pathMap.put(new JsonObject(), DataType.OPERATIONAL_DATA, OPER_ENDPOINT);
+        final NodeResult data = createContainerNodeData(getCodec());
+        trx.put(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
+        trx.put(LogicalDatastoreType.OPERATIONAL, data.path(), data.node());
+        try {
+            trx.commit().get(5, TimeUnit.SECONDS);
+            fail("This commit should fail");
+        } catch (ExecutionException e) {
+            final TransactionCommitFailedException tcfe = (TransactionCommitFailedException) e.getCause();
+            assertEquals(1, tcfe.getErrorList().size());
+        }
+        // batches don't commit, remote transactions are committed separately on each endpoint
+        final ArgumentCaptor<BatchArgument> captor = ArgumentCaptor.forClass(BatchArgument.class);
+        verify(operOm, times(1)).batch(captor.capture());
+        assertFalse(captor.getValue().isCommit());
+        verify(operOm, times(1)).commit("oper-tx");
+        verify(om, times(1)).commit("config-tx");
+        verify(om, times(1)).error("config-tx");
+    }
+
+    @Test
+    public void testBatch() throws InterruptedException, ExecutionException, TimeoutException {
+        final NodeResult data = createContainerNodeData(getCodec());
+        final String txid = UUID.randomUUID().toString();
+        doReturn(txid).when(om).txid();
+        doReturn(true).when(om).batch(any());
+        trx.put(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
+        trx.merge(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
+        trx.delete(LogicalDatastoreType.CONFIGURATION, data.path());
+        trx.commit().get(5, TimeUnit.SECONDS);
+
+        // all writes are sent in single call, which commits transaction as well
+        final ArgumentCaptor<BatchArgument> captor = ArgumentCaptor.forClass(BatchArgument.class);
+        verify(om, times(1)).batch(captor.capture());
+        assertEquals(txid, captor.getValue().getTxid());
+        assertTrue(captor.getValue().isCommit());
+        assertEquals(List.of(BatchOperation.PUT, BatchOperation.MERGE, BatchOperation.DELETE),
+                captor.getValue().getOperations().stream().map(BatchOperation::getOperation).toList());
+        verify(om, never()).put(any());
+        verify(om, never()).commit(anyString());
+    }
+
     @Test
     public void testCommitFailed() throws InterruptedException, ExecutionException {
         final NodeResult data = createContainerNodeData(getCodec());
@@ -196,8 +318,9 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
                 assertEquals(2, tcfe.getErrorList().size());
             }
         }, MoreExecutors.directExecutor());
-        verify(om, times(1)).commit(txid);
-        verify(om, times(1)).error(txid);
+        // commit completes asynchronously
+        verify(om, timeout(5000).times(1)).commit(txid);
+        verify(om, timeout(5000).times(1)).error(txid);
     }
 
     @Test
@@ -210,6 +333,42 @@ public class JsonRPCTxTest extends AbstractJsonRpcTest {
                 any(JsonElement.class), any(JsonElement.class));
     }
 
+    @Test
+    public void testWriteFailureReportedOnCommit() throws InterruptedException, TimeoutException {
+        final String txid = UUID.randomUUID().toString();
+        doReturn(txid).when(om).txid();
+        doThrow(new IllegalStateException("write failed")).when(om)
+                .delete(anyString(), anyString(), anyString(), any(JsonElement.class));
+        // write returns immediately, failure is surfaced once transaction is committed
+        trx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.of(NetworkTopology.QNAME));
+        trx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.of(NetworkTopology.QNAME));
+        try {
+            trx.commit().get(5, TimeUnit.SECONDS);
+            fail("This commit should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionCommitFailedException);
+        }
+        // subsequent writes are skipped and remote transaction is cancelled instead of committed
+        verify(om, times(1)).delete(anyString(), anyString(), anyString(), any(JsonElement.class));
+        verify(om, times(1)).cancel(txid);
+        verify(om, never()).commit(anyString());
+    }
+
+    @Test
+    public void testSharedShardClient() throws Exception {
+        final NodeResult data = createContainerNodeData(getCodec());
+        doReturn(true).when(om).commit((String)eq(null));
+        trx.put(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
+        trx.merge(LogicalDatastoreType.CONFIGURATION, data.path(), data.node());
+        trx.delete(LogicalDatastoreType.CONFIGURATION, data.path());
+        trx.commit().get(5, TimeUnit.SECONDS);
+        // single proxy is used by all operations and it remains open until transaction is closed
+        verify(transportFactory, times(1)).createRequesterProxy(any(), anyString(), anyBoolean());
+        verify(om, never()).close();
+        trx.close();
+        verify(om, times(1)).close();
+    }
+
     @SuppressWarnings("checkstyle:AvoidHidingCauseException")
     @Test(expected = TransactionCommitFailedException.class)
     public void testSubmitFailure()
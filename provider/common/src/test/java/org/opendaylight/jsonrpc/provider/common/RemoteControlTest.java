@@ -9,22 +9,34 @@ package org.opendaylight.jsonrpc.provider.common;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.opendaylight.jsonrpc.provider.common.Util.store2int;
 import static org.opendaylight.jsonrpc.provider.common.Util.store2str;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import java.io.IOException;
+import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Before;
@@ -35,15 +47,25 @@ import org.opendaylight.jsonrpc.bus.messagelib.SubscriberSession;
 import org.opendaylight.jsonrpc.bus.messagelib.TestHelper;
 import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
 import org.opendaylight.jsonrpc.dom.codec.JsonRpcCodecFactory;
+import org.opendaylight.jsonrpc.impl.DOMDataTreeChangeListenerAdapter;
+import org.opendaylight.jsonrpc.impl.DataChangeListenerRegistration;
+import org.opendaylight.jsonrpc.impl.PagedReader;
 import org.opendaylight.jsonrpc.impl.RemoteControl;
+import org.opendaylight.jsonrpc.model.AddListenerArgument;
+import org.opendaylight.jsonrpc.model.DataChangeNotification;
+import org.opendaylight.jsonrpc.model.DataChangeNotificationPublisher;
 import org.opendaylight.jsonrpc.model.DataOperationArgument;
 import org.opendaylight.jsonrpc.model.DeleteListenerArgument;
+import org.opendaylight.jsonrpc.model.JSONRPCArg;
 import org.opendaylight.jsonrpc.model.ListenerKey;
+import org.opendaylight.jsonrpc.model.ReadPageArgument;
+import org.opendaylight.jsonrpc.model.ReadPageResult;
 import org.opendaylight.jsonrpc.model.RemoteOmShard;
 import org.opendaylight.jsonrpc.model.StoreOperationArgument;
 import org.opendaylight.jsonrpc.model.TxArgument;
 import org.opendaylight.jsonrpc.model.TxOperationArgument;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
 import org.opendaylight.mdsal.dom.broker.RouterDOMPublishNotificationService;
 import org.opendaylight.mdsal.dom.broker.RouterDOMRpcService;
@@ -63,7 +85,14 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.OperationFailedException;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,10 +109,12 @@ public class RemoteControlTest extends AbstractJsonRpcTest {
     private static final Logger LOG = LoggerFactory.getLogger(RemoteControlTest.class);
     private RemoteControl ctrl;
     private TransportFactory transportFactory;
+    private ScheduledExecutorService executor;
 
     @Before
     public void setUp() throws Exception {
         transportFactory = new DefaultTransportFactory();
+        executor = Executors.newSingleThreadScheduledExecutor();
         codecFactory = new JsonRpcCodecFactory(schemaContext);
         ctrl = new RemoteControl(getDomBroker(), schemaContext, transportFactory,
             new RouterDOMPublishNotificationService(getDOMNotificationRouter()),
@@ -96,6 +127,7 @@ public class RemoteControlTest extends AbstractJsonRpcTest {
     public void tearDown() throws Exception {
         logTestName("END");
         ctrl.close();
+        executor.shutdown();
     }
 
     @Test
@@ -159,6 +191,99 @@ public class RemoteControlTest extends AbstractJsonRpcTest {
                 "test-model", path)));
     }
 
+    @Test
+    public void testReadMany() throws Exception {
+        final NodeResult e = TestUtils.getMockTopologyAsDom(getCodec());
+        final DOMDataTreeWriteTransaction wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.OPERATIONAL, e.path(), e.node());
+        wtx.commit().get();
+
+        final JsonElement path = codecFactory.pathCodec()
+                .serialize(getCodec().toYangInstanceIdentifier(InstanceIdentifier.create(NetworkTopology.class)));
+        final JsonArray result = ctrl.readMany(List.of(
+                new StoreOperationArgument(store2str(store2int(LogicalDatastoreType.OPERATIONAL)), ENTITY, path),
+                new StoreOperationArgument(store2str(store2int(LogicalDatastoreType.CONFIGURATION)), ENTITY, path),
+                new StoreOperationArgument(store2str(store2int(LogicalDatastoreType.OPERATIONAL)), ENTITY, path, 1,
+                        null)));
+        LOG.info("Read many : {}", result);
+        assertEquals(3, result.size());
+        assertEquals(ctrl.read(store2str(store2int(LogicalDatastoreType.OPERATIONAL)), ENTITY, path), result.get(0));
+        assertTrue(result.get(1).isJsonNull());
+        assertEquals(ctrl.read(store2str(store2int(LogicalDatastoreType.OPERATIONAL)), ENTITY, path, 1, null),
+                result.get(2));
+    }
+
+    @Test
+    public void testReadWithDepthAndFields() throws Exception {
+        final NodeResult e = TestUtils.getMockTopologyAsDom(getCodec());
+        final DOMDataTreeWriteTransaction wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.OPERATIONAL, e.path(), e.node());
+        wtx.commit().get();
+        final JsonElement path = codecFactory.pathCodec().serialize(e.path());
+        final String store = store2str(store2int(LogicalDatastoreType.OPERATIONAL));
+
+        // topology entries are at level 2, so only their keys are returned
+        JsonObject topology = ctrl.read(new StoreOperationArgument(store, "test-model", path, 2, null))
+                .getAsJsonObject()
+                .getAsJsonArray("topology")
+                .get(0)
+                .getAsJsonObject();
+        LOG.info("Topology limited by depth : {}", topology);
+        assertEquals(Set.of("topology-id"), topology.keySet());
+
+        topology = ctrl.read(new StoreOperationArgument(store, "test-model", path, null,
+                List.of("topology/node/node-id")))
+                .getAsJsonObject()
+                .getAsJsonArray("topology")
+                .get(0)
+                .getAsJsonObject();
+        LOG.info("Topology limited by fields : {}", topology);
+        assertEquals(Set.of("topology-id", "node"), topology.keySet());
+        assertEquals(Set.of("node-id"), topology.getAsJsonArray("node").get(0).getAsJsonObject().keySet());
+    }
+
+    @Test
+    public void testReadPage() throws Exception {
+        final NodeResult e = TestUtils.getMockTopologyAsDom(getCodec());
+        final YangInstanceIdentifier listPath = YangInstanceIdentifier.builder()
+                .node(NetworkTopology.QNAME)
+                .node(Topology.QNAME)
+                .build();
+        final QName topologyId = QName.create(Topology.QNAME, "topology-id");
+        final DOMDataTreeWriteTransaction wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.OPERATIONAL, e.path(), e.node());
+        for (String id : List.of("topo2", "topo3")) {
+            wtx.put(LogicalDatastoreType.OPERATIONAL, listPath.node(NodeIdentifierWithPredicates.of(Topology.QNAME,
+                    topologyId, id)), ImmutableNodes.newMapEntryBuilder()
+                            .withNodeIdentifier(NodeIdentifierWithPredicates.of(Topology.QNAME, topologyId, id))
+                            .withChild(ImmutableNodes.leafNode(topologyId, id))
+                            .build());
+        }
+        wtx.commit().get();
+        final JsonElement path = codecFactory.pathCodec().serialize(listPath);
+        final String store = store2str(store2int(LogicalDatastoreType.OPERATIONAL));
+
+        ReadPageResult page = ctrl.readPage(new ReadPageArgument(store, ENTITY, path, null, 2));
+        assertEquals(2, page.getData().size());
+        assertNotNull(page.getCursor());
+        page = ctrl.readPage(new ReadPageArgument(store, ENTITY, path, page.getCursor(), 2));
+        assertEquals(1, page.getData().size());
+        assertNull(page.getCursor());
+
+        final Set<String> ids = new HashSet<>();
+        final long count = PagedReader.readPages(ctrl, MoreExecutors.directExecutor(), codecFactory, store, ENTITY,
+            listPath, 1, MoreExecutors.directExecutor(),
+            entry -> ids.add((String) entry.getChildByArg(new NodeIdentifier(topologyId)).body())).get();
+        assertEquals(3, count);
+        assertEquals(Set.of("topo1", "topo2", "topo3"), ids);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReadPageExpiredCursor() {
+        final String store = store2str(store2int(LogicalDatastoreType.OPERATIONAL));
+        ctrl.readPage(new ReadPageArgument(store, ENTITY, null, UUID.randomUUID().toString(), 1));
+    }
+
     /**
      * Test path to leaf in container.
      */
@@ -226,6 +351,15 @@ public class RemoteControlTest extends AbstractJsonRpcTest {
         assertFalse(ctrl.cancel(new TxArgument(uuid.toString())));
     }
 
+    @Test
+    public void testTxidUnique() {
+        final Set<String> txids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(txids.add(ctrl.txid()));
+        }
+        txids.forEach(txid -> assertTrue(ctrl.cancel(new TxArgument(txid))));
+    }
+
     /**
      * This test doesn't test anything, it is used as reference for other tests (merging related).
      */
@@ -368,6 +502,187 @@ public class RemoteControlTest extends AbstractJsonRpcTest {
         resp.close();
     }
 
+    @Test(timeout = 30_000)
+    public void testMultiplexedDcn() throws Exception {
+        final JsonElement path = JsonParser.parseString(TEST_MODEL_PATH);
+        final int port = TestHelper.getFreeTcpPort();
+        final ResponderSession resp = transportFactory.createResponder(TestHelper.getBindUri("zmq", port), ctrl, true);
+        final RemoteOmShard req = transportFactory.createRequesterProxy(RemoteOmShard.class,
+                TestHelper.getConnectUri("zmq", port), true);
+        final ListenerKey listener1 = req.addListener(new AddListenerArgument("config", ENTITY, path, null, null,
+                null, true));
+        final ListenerKey listener2 = req.addListener(new AddListenerArgument("config", ENTITY, path, null, null,
+                null, true));
+        LOG.info("Listeners at {} and {}", listener1.getUri(), listener2.getUri());
+        // both listeners share same publisher
+        assertEquals(new URI(listener1.getUri()).getPort(), new URI(listener2.getUri()).getPort());
+        assertNotEquals(listener1.getUri(), listener2.getUri());
+
+        final BlockingQueue<DataChangeNotification> dcns = new LinkedBlockingQueue<>();
+        final SubscriberSession sub = transportFactory.createSubscriber(listener1.getUri(), new QueuePublisher(dcns),
+                true);
+        sub.await();
+        // subscription might not be in effect yet, so keep changing data until listener is heard of
+        boolean received = false;
+        for (int i = 0; !received; i++) {
+            final String txId = ctrl.txid();
+            ctrl.put(new DataOperationArgument(txId, "0", ENTITY, path,
+                    JsonParser.parseString("{ \"level2a\" : { \"abc\" : \"" + i + "\"}}")));
+            ctrl.commit(new TxArgument(txId));
+            for (DataChangeNotification dcn = dcns.poll(200, TimeUnit.MILLISECONDS); dcn != null;
+                    dcn = dcns.poll()) {
+                // only notifications of subscribed listener are delivered
+                assertEquals(listener1.getName(), dcn.getListener());
+                received = true;
+            }
+        }
+
+        assertTrue(req.deleteListener(new DeleteListenerArgument(listener1.getUri(), listener1.getName())));
+        assertTrue(req.deleteListener(new DeleteListenerArgument(listener2.getUri(), listener2.getName())));
+        req.close();
+        sub.close();
+        resp.close();
+    }
+
+    @Test(timeout = 30_000)
+    public void testMultiplexedDcnSubscription() throws Exception {
+        final JsonElement path = JsonParser.parseString(TEST_MODEL_PATH);
+        final int port = TestHelper.getFreeTcpPort();
+        final ResponderSession resp = transportFactory.createResponder(TestHelper.getBindUri("zmq", port), ctrl, true);
+        final RemoteOmShard req = transportFactory.createRequesterProxy(RemoteOmShard.class,
+                TestHelper.getConnectUri("zmq", port), true);
+        final ListenerKey listener1 = req.addListener(new AddListenerArgument("config", ENTITY, path, null, null,
+                null, true, "subscription1"));
+        final ListenerKey listener2 = req.addListener(new AddListenerArgument("config", ENTITY, path, null, null,
+                null, true, "subscription1"));
+        // listeners of same subscription are received over single subscriber
+        assertEquals(listener1.getUri(), listener2.getUri());
+        assertNotEquals(listener1.getName(), listener2.getName());
+
+        final BlockingQueue<DataChangeNotification> dcns = new LinkedBlockingQueue<>();
+        final SubscriberSession sub = transportFactory.createSubscriber(listener1.getUri(), new QueuePublisher(dcns),
+                true);
+        sub.await();
+        // subscription might not be in effect yet, so keep changing data until both listeners are heard of
+        final Set<String> names = new HashSet<>();
+        for (int i = 0; names.size() < 2; i++) {
+            final String txId = ctrl.txid();
+            ctrl.put(new DataOperationArgument(txId, "0", ENTITY, path,
+                    JsonParser.parseString("{ \"level2a\" : { \"abc\" : \"" + i + "\"}}")));
+            ctrl.commit(new TxArgument(txId));
+            for (DataChangeNotification dcn = dcns.poll(200, TimeUnit.MILLISECONDS); dcn != null;
+                    dcn = dcns.poll()) {
+                names.add(dcn.getListener());
+            }
+        }
+        assertEquals(Set.of(listener1.getName(), listener2.getName()), names);
+
+        assertTrue(req.deleteListener(new DeleteListenerArgument(listener1.getUri(), listener1.getName())));
+        assertTrue(req.deleteListener(new DeleteListenerArgument(listener2.getUri(), listener2.getName())));
+        req.close();
+        sub.close();
+        resp.close();
+    }
+
+    @Test(timeout = 30_000)
+    public void testDeltaDcn() throws Exception {
+        final NodeResult e = TestUtils.getMockTopologyAsDom(getCodec());
+        final QName topologyId = QName.create(Topology.QNAME, "topology-id");
+        final YangInstanceIdentifier topoPath = e.path()
+                .node(Topology.QNAME)
+                .node(NodeIdentifierWithPredicates.of(Topology.QNAME, topologyId, "topo1"));
+        final NodeIdentifier serverProvided = new NodeIdentifier(QName.create(Topology.QNAME, "server-provided"));
+        DOMDataTreeWriteTransaction wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.OPERATIONAL, e.path(), e.node());
+        wtx.commit().get();
+
+        final BlockingQueue<DataChangeNotification> dcns = new LinkedBlockingQueue<>();
+        final DataChangeListenerRegistration reg = new DataChangeListenerRegistration(e.path(), key -> { },
+                getDomBroker(), codecFactory, LogicalDatastoreType.OPERATIONAL, new QueuePublisher(dcns),
+                new ListenerKey("", ""), true, 0, executor);
+        // existing data are reported as written
+        assertEquals(JSONRPCArg.WRITE, dcns.take().getChanges().iterator().next().getOperation());
+
+        wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.OPERATIONAL, topoPath.node(serverProvided),
+                ImmutableNodes.leafNode(serverProvided, false));
+        wtx.commit().get();
+        final DataChangeNotification merge = dcns.take();
+        LOG.info("Merge DCN : {}", merge);
+        assertEquals(1, merge.getChanges().size());
+        final JSONRPCArg mergeArg = merge.getChanges().iterator().next();
+        assertEquals(JSONRPCArg.MERGE, mergeArg.getOperation());
+        // only changed leaf and key are sent
+        assertEquals(Set.of("topology-id", "server-provided"), mergeArg.getData().getAsJsonObject().keySet());
+
+        wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.delete(LogicalDatastoreType.OPERATIONAL, topoPath.node(serverProvided));
+        wtx.commit().get();
+        final DataChangeNotification delete = dcns.take();
+        assertEquals(1, delete.getChanges().size());
+        assertEquals(JSONRPCArg.DELETE, delete.getChanges().iterator().next().getOperation());
+        reg.close();
+
+        final List<DataTreeCandidate> candidates = new ArrayList<>();
+        final DOMDataTreeChangeListenerAdapter adapter = new DOMDataTreeChangeListenerAdapter(
+                new DOMDataTreeChangeListener() {
+                    @Override
+                    public void onDataTreeChanged(List<DataTreeCandidate> changes) {
+                        candidates.addAll(changes);
+                    }
+
+                    @Override
+                    public void onInitialData() {
+                        // NOOP
+                    }
+                }, transportFactory, TestHelper.getConnectUri("zmq", TestHelper.getFreeTcpPort()), codecFactory,
+                schemaContext);
+        adapter.notifyListener(merge);
+        adapter.notifyListener(delete);
+        adapter.close();
+        assertEquals(2, candidates.size());
+        assertEquals(topoPath, candidates.get(0).getRootPath());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, candidates.get(0).getRootNode().modificationType());
+        final DataTreeCandidateNode leaf = candidates.get(0).getRootNode().modifiedChild(serverProvided);
+        assertNotNull(leaf);
+        assertEquals(ModificationType.WRITE, leaf.modificationType());
+        assertEquals(false, leaf.dataAfter().body());
+        assertEquals(1, candidates.get(0).getRootNode().childNodes().size());
+        assertEquals(topoPath.node(serverProvided), candidates.get(1).getRootPath());
+        assertEquals(ModificationType.DELETE, candidates.get(1).getRootNode().modificationType());
+    }
+
+    @Test(timeout = 30_000)
+    public void testCoalescedDcn() throws Exception {
+        final NodeResult e = TestUtils.getMockTopologyAsDom(getCodec());
+        final YangInstanceIdentifier topoPath = e.path()
+                .node(Topology.QNAME)
+                .node(NodeIdentifierWithPredicates.of(Topology.QNAME, QName.create(Topology.QNAME, "topology-id"),
+                        "topo1"));
+        final NodeIdentifier serverProvided = new NodeIdentifier(QName.create(Topology.QNAME, "server-provided"));
+        final BlockingQueue<DataChangeNotification> dcns = new LinkedBlockingQueue<>();
+        final DataChangeListenerRegistration reg = new DataChangeListenerRegistration(topoPath, key -> { },
+                getDomBroker(), codecFactory, LogicalDatastoreType.OPERATIONAL, new QueuePublisher(dcns),
+                new ListenerKey("", ""), false, 2_000, executor);
+        DOMDataTreeWriteTransaction wtx = getDomBroker().newWriteOnlyTransaction();
+        wtx.put(LogicalDatastoreType.OPERATIONAL, e.path(), e.node());
+        wtx.commit().get();
+        for (boolean value : List.of(false, true, false)) {
+            wtx = getDomBroker().newWriteOnlyTransaction();
+            wtx.put(LogicalDatastoreType.OPERATIONAL, topoPath.node(serverProvided),
+                    ImmutableNodes.leafNode(serverProvided, value));
+            wtx.commit().get();
+        }
+        // all changes of same path are collapsed to latest state
+        final DataChangeNotification dcn = dcns.take();
+        LOG.info("Coalesced DCN : {}", dcn);
+        assertEquals(1, dcn.getChanges().size());
+        final MapEntryNode topology = (MapEntryNode) codecFactory.dataCodec(topoPath)
+                .deserialize(dcn.getChanges().iterator().next().getData());
+        assertEquals(false, topology.getChildByArg(serverProvided).body());
+        reg.close();
+    }
+
     @Test
     public void testRemoveNonExistentDcn() {
         assertFalse(ctrl.deleteListener(new DeleteListenerArgument("", "")));
@@ -377,6 +692,24 @@ public class RemoteControlTest extends AbstractJsonRpcTest {
      * Helpers and utilities
      */
 
+    private static final class QueuePublisher implements DataChangeNotificationPublisher {
+        private final BlockingQueue<DataChangeNotification> queue;
+
+        QueuePublisher(BlockingQueue<DataChangeNotification> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void notifyListener(DataChangeNotification change) {
+            queue.add(change);
+        }
+
+        @Override
+        public void close() {
+            // NOOP
+        }
+    }
+
     private static void dumpYii(YangInstanceIdentifier yii) {
         final List<PathArgument> path = yii.getPathArguments();
         int index = 0;
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.provider.common;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.jsonrpc.bus.messagelib.EndpointBuilders.RequesterBuilder;
+import org.opendaylight.jsonrpc.bus.messagelib.RequesterSession;
+import org.opendaylight.jsonrpc.bus.messagelib.TransportFactory;
+
+/**
+ * Tests for {@link RequesterSessions}.
+ */
+public class RequesterSessionsTest {
+    private static final String ENDPOINT1 = "zmq://localhost:10001";
+    private static final String ENDPOINT2 = "zmq://localhost:10002";
+
+    private final RequesterSession session1 = mock(RequesterSession.class);
+    private final RequesterSession session2 = mock(RequesterSession.class);
+    private RequesterBuilder builder;
+    private RequesterSessions sessions;
+
+    @Before
+    public void setUp() throws Exception {
+        final TransportFactory factory = mock(TransportFactory.class, RETURNS_DEEP_STUBS);
+        builder = factory.endpointBuilder().requester();
+        when(builder.create(eq(ENDPOINT1), any())).thenReturn(session1);
+        when(builder.create(eq(ENDPOINT2), any())).thenReturn(session2);
+        sessions = new RequesterSessions(factory);
+    }
+
+    @Test
+    public void testSessionSharedPerEndpoint() throws Exception {
+        assertSame(session1, sessions.get(ENDPOINT1));
+        assertSame(session1, sessions.get(ENDPOINT1));
+        assertNotSame(session1, sessions.get(ENDPOINT2));
+        verify(builder, times(1)).create(eq(ENDPOINT1), any());
+        verify(builder, times(1)).create(eq(ENDPOINT2), any());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        sessions.get(ENDPOINT1);
+        sessions.get(ENDPOINT2);
+        sessions.close();
+        sessions.close();
+        verify(session1, times(1)).close();
+        verify(session2, times(1)).close();
+        assertThrows(IllegalStateException.class, () -> sessions.get(ENDPOINT1));
+    }
+}
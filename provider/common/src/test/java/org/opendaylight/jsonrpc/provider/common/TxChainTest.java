@@ -56,6 +56,7 @@ public class TxChainTest {
     private JsonRPCTx writeOnlyTx3;
 
     @Before
+    @SuppressWarnings("removal")
     public void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
         codec = new JsonRpcCodecFactory(schemaContext);
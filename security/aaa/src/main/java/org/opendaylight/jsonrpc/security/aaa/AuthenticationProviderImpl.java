@@ -7,47 +7,87 @@
  */
 package org.opendaylight.jsonrpc.security.aaa;
 
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.aaa.api.AuthenticationException;
 import org.opendaylight.aaa.api.IDMStoreException;
 import org.opendaylight.aaa.api.IIDMStore;
 import org.opendaylight.aaa.api.PasswordCredentialAuth;
+import org.opendaylight.aaa.api.model.User;
 import org.opendaylight.jsonrpc.security.api.AuthenticationProvider;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of {@link AuthenticationProvider} which uses AAA-provided credential service.
  *
+ * <p>Successful verifications are remembered in bounded {@link CredentialCache} for configured time, so clients which
+ * do not keep connections alive do not pay password hashing cost on every request. Users are looked up using index
+ * which is periodically rebuilt from {@link IIDMStore}. Any change of user records (password, enabled flag or domain)
+ * detected during rebuild invalidates all cached verifications. Cache is consulted only for users which are enabled
+ * according to current index, so disabled user is always verified by credential service.
+ *
  * @author <a href="mailto:richard.kosegi@gmail.com">Richard Kosegi</a>
  * @since May 24, 2018
  */
-@Component(property = "type=aaa")
+@Component(property = "type=aaa", configurationPid = "org.opendaylight.jsonrpc.security.aaa")
+@Designate(ocd = AuthenticationProviderImpl.Configuration.class)
 public final class AuthenticationProviderImpl implements AuthenticationProvider {
+    @ObjectClassDefinition
+    @interface Configuration {
+        @AttributeDefinition(min = "0", description = "Time in seconds for which successful verification is cached, "
+                + "0 disables cache")
+        long cache$_$ttl() default 60;
+
+        @AttributeDefinition(min = "1", description = "Maximum number of cached verifications")
+        long cache$_$size() default 1024;
+
+        @AttributeDefinition(min = "1", description = "Time in seconds after which user index is rebuilt")
+        long user$_$refresh$_$interval() default 10;
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(AuthenticationProviderImpl.class);
     private final PasswordCredentialAuth credentialAuth;
     private final IIDMStore iidmStore;
+    private final CredentialCache credentialCache;
+    private final long refreshIntervalNanos;
+    private final Ticker ticker;
+    private volatile UserIndex userIndex;
 
     @Activate
-    public AuthenticationProviderImpl(@Reference PasswordCredentialAuth credService, @Reference IIDMStore iidmStore) {
+    public AuthenticationProviderImpl(@Reference PasswordCredentialAuth credService, @Reference IIDMStore iidmStore,
+            Configuration configuration) {
+        this(credService, iidmStore, configuration, Ticker.systemTicker());
+    }
+
+    AuthenticationProviderImpl(PasswordCredentialAuth credService, IIDMStore iidmStore, Configuration configuration,
+            Ticker ticker) {
         this.credentialAuth = Objects.requireNonNull(credService);
         this.iidmStore = Objects.requireNonNull(iidmStore);
+        this.ticker = Objects.requireNonNull(ticker);
+        credentialCache = configuration.cache$_$ttl() > 0
+                ? new CredentialCache(configuration.cache$_$ttl(), configuration.cache$_$size(), ticker)
+                : null;
+        refreshIntervalNanos = TimeUnit.SECONDS.toNanos(configuration.user$_$refresh$_$interval());
     }
 
     @Override
     public Optional<String[]> lookupCredentials(String username) {
         Objects.requireNonNull(username);
         try {
-            return iidmStore.getUsers()
-                    .getUsers()
-                    .stream()
-                    .filter(u -> username.equals(u.getName()))
-                    .map(u -> new String[] { u.getName(), u.getPassword() })
-                    .findFirst();
+            return Optional.ofNullable(currentIndex().users.get(username))
+                    .map(u -> new String[] { u.getName(), u.getPassword() });
         } catch (IDMStoreException e) {
             LOG.error("Unable to lookup credentials for user '{}'", username, e);
             return Optional.empty();
@@ -57,12 +97,82 @@ public final class AuthenticationProviderImpl implements AuthenticationProvider
     @Override
     public boolean validate(String username, String password) {
         LOG.debug("Validating credentials for user {}", username);
+        final boolean cacheable = credentialCache != null && isCacheable(username);
+        if (cacheable && credentialCache.contains(username, password)) {
+            LOG.debug("Using cached verification for user {}", username);
+            return true;
+        }
         try {
             credentialAuth.authenticate(new PasswordCredentialsContainer(username, password));
         } catch (AuthenticationException e) {
             LOG.warn("Authentication of user '{}' failed", username, e);
             return false;
         }
+        if (cacheable) {
+            credentialCache.put(username, password);
+        }
         return true;
     }
+
+    /*
+     * Verification of user can be cached only when user is known and enabled according to current user index.
+     */
+    private boolean isCacheable(String username) {
+        try {
+            final User user = currentIndex().users.get(username);
+            return user != null && Boolean.TRUE.equals(user.isEnabled());
+        } catch (IDMStoreException e) {
+            // can't tell if cached verification is still valid, so don't trust it
+            LOG.warn("Unable to refresh user index, dropping cached verifications", e);
+            credentialCache.invalidateAll();
+            return false;
+        }
+    }
+
+    /*
+     * Get current user index, rebuild it if it is older than configured refresh interval. Rebuild invalidates all
+     * cached verifications when any user record has changed since last time.
+     */
+    private UserIndex currentIndex() throws IDMStoreException {
+        final UserIndex current = userIndex;
+        final long now = ticker.read();
+        if (current != null && now - current.loadedAt < refreshIntervalNanos) {
+            return current;
+        }
+        synchronized (this) {
+            if (userIndex != current) {
+                // other thread already rebuilt index
+                return userIndex;
+            }
+            final UserIndex updated = new UserIndex(iidmStore.getUsers().getUsers(), now);
+            if (credentialCache != null && current != null && !current.signature.equals(updated.signature)) {
+                LOG.debug("User records changed, invalidating {} cached verifications", credentialCache.size());
+                credentialCache.invalidateAll();
+            }
+            userIndex = updated;
+            return updated;
+        }
+    }
+
+    private static final class UserIndex {
+        private final Map<String, User> users;
+        // username -> password hash, salt, enabled flag and domain, used to detect changes in IDM store
+        private final Map<String, String> signature;
+        private final long loadedAt;
+
+        UserIndex(Iterable<User> source, long loadedAt) {
+            final Map<String, User> usersBuilder = new HashMap<>();
+            final Map<String, String> signatureBuilder = new HashMap<>();
+            for (User user : source) {
+                // first occurrence wins, which is consistent with former lookup
+                if (user.getName() != null && usersBuilder.putIfAbsent(user.getName(), user) == null) {
+                    signatureBuilder.put(user.getName(), user.getPassword() + '$' + user.getSalt() + '$'
+                            + user.isEnabled() + '$' + user.getDomainid());
+                }
+            }
+            this.users = ImmutableMap.copyOf(usersBuilder);
+            this.signature = ImmutableMap.copyOf(signatureBuilder);
+            this.loadedAt = loadedAt;
+        }
+    }
 }
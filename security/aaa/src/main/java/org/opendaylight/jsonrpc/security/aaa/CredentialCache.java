@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.security.aaa;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of successfully verified credentials. Entries are keyed by keyed hash (HMAC) of username and password,
+ * so plain-text passwords are never retained. HMAC key is random and generated per instance.
+ */
+final class CredentialCache {
+    private static final int KEY_SIZE = 32;
+
+    private final Cache<HashCode, Boolean> verified;
+    private final HashFunction hashFunction;
+
+    CredentialCache(long ttlSeconds, long maxSize, Ticker ticker) {
+        final byte[] key = new byte[KEY_SIZE];
+        new SecureRandom().nextBytes(key);
+        hashFunction = Hashing.hmacSha256(key);
+        verified = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    boolean contains(String username, String password) {
+        return verified.getIfPresent(key(username, password)) != null;
+    }
+
+    void put(String username, String password) {
+        verified.put(key(username, password), Boolean.TRUE);
+    }
+
+    void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    long size() {
+        return verified.size();
+    }
+
+    private HashCode key(String username, String password) {
+        return hashFunction.newHasher()
+                .putString(username, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putString(password, StandardCharsets.UTF_8)
+                .hash();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.jsonrpc.security.aaa;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Ticker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.aaa.api.AuthenticationException;
+import org.opendaylight.aaa.api.IDMStoreException;
+import org.opendaylight.aaa.api.IIDMStore;
+import org.opendaylight.aaa.api.PasswordCredentialAuth;
+import org.opendaylight.aaa.api.model.User;
+import org.opendaylight.aaa.api.model.Users;
+
+/**
+ * Tests for caching of verifications in {@link AuthenticationProviderImpl}.
+ */
+public class AuthenticationProviderImplTest {
+    private static final long TTL_SECONDS = 60;
+    private static final long REFRESH_SECONDS = 10;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+    private final List<User> userList = new ArrayList<>();
+    private PasswordCredentialAuth credentialAuth;
+    private AuthenticationProviderImpl provider;
+
+    @Before
+    public void setUp() throws IDMStoreException {
+        credentialAuth = mock(PasswordCredentialAuth.class);
+        final IIDMStore store = mock(IIDMStore.class);
+        final Users users = mock(Users.class);
+        doReturn(users).when(store).getUsers();
+        doReturn(userList).when(users).getUsers();
+        userList.add(user("admin", "hash1", true));
+
+        final AuthenticationProviderImpl.Configuration config = mock(AuthenticationProviderImpl.Configuration.class);
+        doReturn(TTL_SECONDS).when(config).cache$_$ttl();
+        doReturn(16L).when(config).cache$_$size();
+        doReturn(REFRESH_SECONDS).when(config).user$_$refresh$_$interval();
+        provider = new AuthenticationProviderImpl(credentialAuth, store, config, ticker);
+    }
+
+    @Test
+    public void testCacheHit() {
+        assertTrue(provider.validate("admin", "secret"));
+        assertTrue(provider.validate("admin", "secret"));
+        verify(credentialAuth, times(1)).authenticate(any());
+    }
+
+    @Test
+    public void testFailureNotCached() {
+        doThrow(new AuthenticationException("bad password")).when(credentialAuth).authenticate(any());
+        assertFalse(provider.validate("admin", "wrong"));
+        assertFalse(provider.validate("admin", "wrong"));
+        verify(credentialAuth, times(2)).authenticate(any());
+    }
+
+    @Test
+    public void testExpiry() {
+        assertTrue(provider.validate("admin", "secret"));
+        advance(TTL_SECONDS - 1);
+        assertTrue(provider.validate("admin", "secret"));
+        verify(credentialAuth, times(1)).authenticate(any());
+        advance(1);
+        assertTrue(provider.validate("admin", "secret"));
+        verify(credentialAuth, times(2)).authenticate(any());
+    }
+
+    @Test
+    public void testPasswordChangeInvalidates() {
+        assertTrue(provider.validate("admin", "secret"));
+        userList.set(0, user("admin", "hash2", true));
+        advance(REFRESH_SECONDS);
+        doThrow(new AuthenticationException("bad password")).when(credentialAuth).authenticate(any());
+        assertFalse(provider.validate("admin", "secret"));
+    }
+
+    @Test
+    public void testDisableInvalidates() {
+        assertTrue(provider.validate("admin", "secret"));
+        userList.set(0, user("admin", "hash1", false));
+        advance(REFRESH_SECONDS);
+        doThrow(new AuthenticationException("user disabled")).when(credentialAuth).authenticate(any());
+        assertFalse(provider.validate("admin", "secret"));
+
+        // disabled user is never served from cache, even if credential service accepts it
+        reset(credentialAuth);
+        assertTrue(provider.validate("admin", "secret"));
+        assertTrue(provider.validate("admin", "secret"));
+        verify(credentialAuth, times(2)).authenticate(any());
+    }
+
+    @Test
+    public void testDomainChangeInvalidates() {
+        assertTrue(provider.validate("admin", "secret"));
+        final User moved = user("admin", "hash1", true);
+        moved.setDomainid("other");
+        userList.set(0, moved);
+        advance(REFRESH_SECONDS);
+        assertTrue(provider.validate("admin", "secret"));
+        verify(credentialAuth, times(2)).authenticate(any());
+    }
+
+    private void advance(long seconds) {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private static User user(String name, String password, boolean enabled) {
+        final User user = new User();
+        user.setName(name);
+        user.setPassword(password);
+        user.setSalt("salt");
+        user.setEnabled(enabled);
+        user.setDomainid("sdn");
+        return user;
+    }
+}